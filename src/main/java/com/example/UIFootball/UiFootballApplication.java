@@ -2,11 +2,15 @@ package com.example.UIFootball;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import com.vaadin.flow.theme.Theme;
 import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 
 @SpringBootApplication
+@EnableScheduling
 @Theme("my-theme")
+@Push
 public class UiFootballApplication implements AppShellConfigurator {
 
     public static void main(String[] args) {
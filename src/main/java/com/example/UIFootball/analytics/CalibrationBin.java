@@ -0,0 +1,9 @@
+package com.example.UIFootball.analytics;
+
+// Forecast probabilities that fell in [lower, upper): how many there were, their mean, and how
+// often the outcome they priced actually happened. A well calibrated forecast has
+// observedRate close to meanPredicted in every bin.
+public record CalibrationBin(double lower, double upper, int predictions, double meanPredicted, double observedRate) {
+
+    public double gap() { return observedRate - meanPredicted; }
+}
@@ -0,0 +1,248 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+// Elo ratings over all played matches in kick-off order, with every team's rating after each of
+// its matches. The ratings are built in one pass on reset. An added, edited or deleted match only
+// replays the matches from its kick-off on: every team's history is cut back to just before that
+// point and the later matches are rated again. Teams without matches in the replayed range keep
+// their history arrays untouched. Each state is immutable and published as a whole.
+@Component
+public class EloRatings implements MatchChangeListener {
+
+    public static final double INITIAL_RATING = 1500;
+    public static final double K_FACTOR = 20;
+    public static final double HOME_ADVANTAGE = 60;
+
+    // A team's rated matches in kick-off order and its rating after each
+    private record History(Match[] matches, double[] ratings) {
+        static final History EMPTY = new History(new Match[0], new double[0]);
+
+        int size() { return matches.length; }
+
+        // Number of entries that come before the given match in kick-off order
+        int countBefore(Match match) {
+            int position = Arrays.binarySearch(matches, match, Match.KICK_OFF);
+            return position < 0 ? -position - 1 : position;
+        }
+    }
+
+    private record State(List<Match> ordered, History[] histories, int replayed) {
+        History history(int team) {
+            return team >= 0 && team < histories.length && histories[team] != null ? histories[team] : History.EMPTY;
+        }
+    }
+
+    private volatile State state = new State(List.of(), new History[0], 0);
+
+    public EloRatings(MatchService matchService) {
+        matchService.addChangeListener(this);
+    }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        List<Match> ordered = new ArrayList<>(snapshot.matches().stream().filter(EloRatings::rated).toList());
+        ordered.sort(Match.KICK_OFF);
+        state = replay(ordered, new History[NameDictionary.TEAMS.size()], 0, null);
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        onChanges(snapshot, List.of(change));
+    }
+
+    // A batch (e.g. an import) is merged into one ordered copy and replayed once, from the
+    // earliest kick-off any of its changes touches
+    @Override
+    public void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+        List<Match> ordered = null;
+        Match cut = null;
+        for (MatchChange change : changes) {
+            Match before = change.before() != null && rated(change.before()) ? change.before() : null;
+            Match after = change.after() != null && rated(change.after()) ? change.after() : null;
+            if (before == null && after == null) {
+                continue;
+            }
+            if (ordered == null) {
+                ordered = new ArrayList<>(state.ordered());
+            }
+            if (before != null) {
+                int position = Collections.binarySearch(ordered, before, Match.KICK_OFF);
+                if (position >= 0) {
+                    ordered.remove(position);
+                }
+                cut = earlier(cut, before);
+            }
+            if (after != null) {
+                int position = Collections.binarySearch(ordered, after, Match.KICK_OFF);
+                ordered.add(position < 0 ? -position - 1 : position, after);
+                cut = earlier(cut, after);
+            }
+        }
+        if (ordered == null) {
+            return;
+        }
+        // Everything from the earliest old or new kick-off on is rated again
+        int from = Collections.binarySearch(ordered, cut, Match.KICK_OFF);
+        state = replay(ordered, state.histories(), from < 0 ? -from - 1 : from, cut);
+    }
+
+    private static Match earlier(Match current, Match candidate) {
+        return current == null || Match.KICK_OFF.compare(candidate, current) < 0 ? candidate : current;
+    }
+
+    // Ratings of every matching team, highest first; league null means all leagues
+    public List<TeamRating> ranking(String league) {
+        return ranking(league, null);
+    }
+
+    // The ranking as it stood at the given time (null for now); a team is listed under the
+    // league of its last match up to then and left out if it had not played yet
+    public List<TeamRating> ranking(String league, LocalDateTime time) {
+        State current = state;
+        List<TeamRating> ranking = new ArrayList<>();
+        for (int team = 0; team < current.histories().length; team++) {
+            History history = current.history(team);
+            int index = time == null ? history.size() - 1 : lastAtOrBefore(history, time);
+            if (index < 0) {
+                continue;
+            }
+            Match last = history.matches()[index];
+            if (league == null || league.equals(last.league())) {
+                ranking.add(new TeamRating(NameDictionary.TEAMS.name(team), last.league(), history.ratings()[index],
+                        index + 1, last.datetime()));
+            }
+        }
+        ranking.sort(Comparator.comparingDouble(TeamRating::rating).reversed().thenComparing(TeamRating::team));
+        return ranking;
+    }
+
+    // Rating after the team's last match kicking off at or before the given time; the initial
+    // rating if it had not played yet, empty for an unknown team
+    public OptionalDouble ratingOn(String team, LocalDateTime time) {
+        History history = state.history(NameDictionary.TEAMS.find(team));
+        if (history.size() == 0) {
+            return OptionalDouble.empty();
+        }
+        int index = lastAtOrBefore(history, time);
+        return OptionalDouble.of(index < 0 ? INITIAL_RATING : history.ratings()[index]);
+    }
+
+    // Binary search for the last entry kicking off at or before the time, -1 if there is none;
+    // matches without a kick-off time sort first and count as before any time
+    private static int lastAtOrBefore(History history, LocalDateTime time) {
+        int low = 0;
+        int high = history.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            LocalDateTime kickOff = history.matches()[middle].datetime();
+            if (kickOff == null || !kickOff.isAfter(time)) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+
+    // The team's rating after each of its matches, oldest first
+    public List<RatingPoint> history(String team) {
+        History history = state.history(NameDictionary.TEAMS.find(team));
+        List<RatingPoint> points = new ArrayList<>(history.size());
+        for (int i = 0; i < history.size(); i++) {
+            Match match = history.matches()[i];
+            points.add(new RatingPoint(match.id(), match.datetime(), history.ratings()[i]));
+        }
+        return points;
+    }
+
+    // Number of matches rated by the last reset or change; a full build rates every match
+    public int lastReplayed() { return state.replayed(); }
+
+    // Rates ordered[from..], the matches at or after cut, on top of the histories cut back to
+    // their entries before cut; cut is null for a full build
+    private static State replay(List<Match> ordered, History[] previous, int from, Match cut) {
+        History[] histories = Arrays.copyOf(previous, Math.max(previous.length, NameDictionary.TEAMS.size()));
+        Map<Integer, Builder> touched = new HashMap<>();
+        for (int i = from; i < ordered.size(); i++) {
+            Match match = ordered.get(i);
+            Builder home = touched.computeIfAbsent(NameDictionary.TEAMS.code(match.homeTitle()),
+                    team -> new Builder(histories[team], cut));
+            Builder away = touched.computeIfAbsent(NameDictionary.TEAMS.code(match.awayTitle()),
+                    team -> new Builder(histories[team], cut));
+
+            double expectedHome = 1 / (1 + Math.pow(10, (away.latest() - home.latest() - HOME_ADVANTAGE) / 400));
+            double actualHome = (match.goals().outcome() + 1) / 2.0;
+            double delta = K_FACTOR * (actualHome - expectedHome);
+            home.add(match, home.latest() + delta);
+            away.add(match, away.latest() - delta);
+        }
+        // Teams without later matches may still hold an entry for a deleted or moved match
+        if (cut != null) {
+            for (int team = 0; team < histories.length; team++) {
+                History history = histories[team];
+                if (history != null && !touched.containsKey(team) && history.countBefore(cut) < history.size()) {
+                    histories[team] = new Builder(history, cut).build();
+                }
+            }
+        }
+        touched.forEach((team, builder) -> histories[team] = builder.build());
+        return new State(List.copyOf(ordered), histories, ordered.size() - from);
+    }
+
+    // Copy of a history cut back to a prefix, then grown by the replayed matches
+    private static final class Builder {
+        private Match[] matches;
+        private double[] ratings;
+        private int size;
+
+        Builder(History base, Match cut) {
+            this(base == null ? History.EMPTY : base, base == null || cut == null ? 0 : base.countBefore(cut));
+        }
+
+        private Builder(History base, int keep) {
+            this.matches = Arrays.copyOf(base.matches(), Math.max(keep + 8, keep * 2));
+            this.ratings = Arrays.copyOf(base.ratings(), matches.length);
+            this.size = keep;
+        }
+
+        double latest() { return size == 0 ? INITIAL_RATING : ratings[size - 1]; }
+
+        void add(Match match, double rating) {
+            if (size == matches.length) {
+                matches = Arrays.copyOf(matches, size * 2);
+                ratings = Arrays.copyOf(ratings, size * 2);
+            }
+            matches[size] = match;
+            ratings[size] = rating;
+            size++;
+        }
+
+        History build() {
+            return new History(Arrays.copyOf(matches, size), Arrays.copyOf(ratings, size));
+        }
+    }
+
+    // Played matches with both teams
+    private static boolean rated(Match match) {
+        return match.goals() != null && match.home() != null && match.away() != null;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.model.TeamSeasonKey;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.LongFunction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+// Scores the forecasts carried by played matches against their results. Additive sums (count,
+// Brier, log loss, calibration bins) are kept per cell, one cell per (league, season) and one
+// per (league, season, team); a slice is the sum of its cells. A reset is one parallel pass
+// over primitive columns extracted from the snapshot. An edit subtracts the old match and adds
+// the new one to its few cells and drops only the cached slices that contain it. Cell arrays
+// are copied and replaced as a whole, so readers never see half an update.
+@Component
+public class ForecastEvaluator implements MatchChangeListener {
+
+    public static final int BINS = 10;
+    private static final double MIN_PROBABILITY = 1e-15;
+
+    // Cell layout: count, Brier sum, log-loss sum, then per bin: predictions, probability sum, hits
+    private static final int COUNT = 0;
+    private static final int BRIER = 1;
+    private static final int LOG_LOSS = 2;
+    private static final int BIN_COUNT = 3;
+    private static final int BIN_PREDICTED = BIN_COUNT + BINS;
+    private static final int BIN_HITS = BIN_PREDICTED + BINS;
+    private static final int CELL_SIZE = BIN_HITS + BINS;
+
+    private record Slice(String league, Integer season, String team) {
+    }
+
+    private final Map<Long, double[]> cells = new ConcurrentHashMap<>();
+    private final Map<Slice, ForecastScore> cache = new ConcurrentHashMap<>();
+
+    public ForecastEvaluator(MatchService matchService) {
+        matchService.addChangeListener(this);
+    }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        Map<Long, double[]> rebuilt = evaluate(snapshot.matches());
+        cells.keySet().retainAll(rebuilt.keySet());
+        cells.putAll(rebuilt);
+        cache.clear();
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        if (change.before() != null && counts(change.before())) {
+            update(change.before(), -1);
+        }
+        if (change.after() != null && counts(change.after())) {
+            update(change.after(), 1);
+        }
+    }
+
+    // Scores of the matches in the slice; null means all leagues, seasons or teams
+    public ForecastScore score(String league, Integer season, String team) {
+        return cache.computeIfAbsent(new Slice(league, season, team), this::compute);
+    }
+
+    public List<ForecastScore> byLeague(Integer season) {
+        return keys(cell -> NameDictionary.LEAGUES.name(TeamSeasonKey.league(cell)), null).stream()
+                .map(league -> score(league, season, null))
+                .filter(score -> score.matches() > 0)
+                .toList();
+    }
+
+    public List<ForecastScore> bySeason(String league) {
+        List<ForecastScore> scores = new ArrayList<>();
+        for (int season : new TreeSet<>(cells.keySet().stream().map(TeamSeasonKey::season).toList())) {
+            ForecastScore score = score(league, season, null);
+            if (score.matches() > 0) {
+                scores.add(score);
+            }
+        }
+        return scores;
+    }
+
+    // Teams of the slice, best (lowest) Brier score first
+    public List<ForecastScore> byTeam(String league, Integer season) {
+        return keys(cell -> NameDictionary.TEAMS.name(TeamSeasonKey.team(cell)), NameDictionary.NONE).stream()
+                .map(team -> score(league, season, team))
+                .filter(score -> score.matches() > 0)
+                .sorted(Comparator.comparingDouble(ForecastScore::brier).thenComparing(ForecastScore::team))
+                .toList();
+    }
+
+    private List<String> keys(LongFunction<String> name, Integer skipTeam) {
+        return cells.keySet().stream()
+                .filter(cell -> skipTeam == null || TeamSeasonKey.team(cell) != skipTeam)
+                .map(name::apply)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private ForecastScore compute(Slice slice) {
+        int leagueCode = slice.league() == null ? NameDictionary.NONE : NameDictionary.LEAGUES.find(slice.league());
+        int teamCode = slice.team() == null ? NameDictionary.NONE : NameDictionary.TEAMS.find(slice.team());
+        double[] sum = new double[CELL_SIZE];
+        boolean known = (slice.league() == null || leagueCode != NameDictionary.NONE)
+                && (slice.team() == null || teamCode != NameDictionary.NONE);
+        if (known) {
+            cells.forEach((cell, values) -> {
+                if (TeamSeasonKey.team(cell) == teamCode
+                        && (slice.league() == null || TeamSeasonKey.league(cell) == leagueCode)
+                        && (slice.season() == null || TeamSeasonKey.season(cell) == slice.season())) {
+                    for (int i = 0; i < CELL_SIZE; i++) {
+                        sum[i] += values[i];
+                    }
+                }
+            });
+        }
+
+        int matches = (int) Math.round(sum[COUNT]);
+        List<CalibrationBin> calibration = new ArrayList<>(BINS);
+        for (int bin = 0; bin < BINS; bin++) {
+            int predictions = (int) Math.round(sum[BIN_COUNT + bin]);
+            calibration.add(new CalibrationBin((double) bin / BINS, (double) (bin + 1) / BINS, predictions,
+                    predictions == 0 ? 0 : sum[BIN_PREDICTED + bin] / predictions,
+                    predictions == 0 ? 0 : sum[BIN_HITS + bin] / predictions));
+        }
+        return new ForecastScore(slice.league(), slice.season(), slice.team(), matches,
+                matches == 0 ? 0 : sum[BRIER] / matches, matches == 0 ? 0 : sum[LOG_LOSS] / matches,
+                List.copyOf(calibration));
+    }
+
+    private void update(Match match, int sign) {
+        int league = NameDictionary.LEAGUES.code(match.league());
+        double[] contribution = new double[CELL_SIZE];
+        add(contribution, match.forecast().win(), match.forecast().draw(), match.forecast().loss(), outcome(match));
+        for (long cell : cellKeys(league, match.season(), NameDictionary.TEAMS.code(match.homeTitle()),
+                NameDictionary.TEAMS.code(match.awayTitle()))) {
+            cells.compute(cell, (key, current) -> {
+                double[] next = current == null ? new double[CELL_SIZE] : current.clone();
+                for (int i = 0; i < CELL_SIZE; i++) {
+                    next[i] += sign * contribution[i];
+                }
+                return Math.round(next[COUNT]) == 0 ? null : next;
+            });
+        }
+        // Only the slices this match belongs to can have changed
+        for (String leagueName : Arrays.asList(null, match.league())) {
+            for (Integer season : Arrays.asList(null, match.season())) {
+                for (String team : Arrays.asList(null, match.homeTitle(), match.awayTitle())) {
+                    cache.remove(new Slice(leagueName, season, team));
+                }
+            }
+        }
+    }
+
+    // One parallel pass over primitive columns; each thread fills its own cell map, merged at the end
+    static Map<Long, double[]> evaluate(List<Match> matches) {
+        Match[] counted = matches.stream().filter(ForecastEvaluator::counts).toArray(Match[]::new);
+        int rows = counted.length;
+        double[] win = new double[rows];
+        double[] draw = new double[rows];
+        double[] loss = new double[rows];
+        byte[] outcome = new byte[rows];
+        int[] league = new int[rows];
+        int[] season = new int[rows];
+        int[] home = new int[rows];
+        int[] away = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            Match match = counted[row];
+            win[row] = match.forecast().win();
+            draw[row] = match.forecast().draw();
+            loss[row] = match.forecast().loss();
+            outcome[row] = outcome(match);
+            league[row] = NameDictionary.LEAGUES.code(match.league());
+            season[row] = match.season();
+            home[row] = NameDictionary.TEAMS.code(match.homeTitle());
+            away[row] = NameDictionary.TEAMS.code(match.awayTitle());
+        }
+
+        return IntStream.range(0, rows).parallel().collect(HashMap<Long, double[]>::new, (partial, row) -> {
+            for (long cell : cellKeys(league[row], season[row], home[row], away[row])) {
+                add(partial.computeIfAbsent(cell, key -> new double[CELL_SIZE]), win[row], draw[row], loss[row], outcome[row]);
+            }
+        }, (left, right) -> right.forEach((cell, values) -> left.merge(cell, values, (a, b) -> {
+            for (int i = 0; i < CELL_SIZE; i++) {
+                a[i] += b[i];
+            }
+            return a;
+        })));
+    }
+
+    // Adds one match to the sums; outcome is 0 for a home win, 1 for a draw, 2 for an away win
+    private static void add(double[] cell, double win, double draw, double loss, int outcome) {
+        double[] probabilities = {win, draw, loss};
+        cell[COUNT]++;
+        for (int i = 0; i < 3; i++) {
+            double observed = i == outcome ? 1 : 0;
+            double error = probabilities[i] - observed;
+            cell[BRIER] += error * error;
+            int bin = Math.min(BINS - 1, Math.max(0, (int) (probabilities[i] * BINS)));
+            cell[BIN_COUNT + bin]++;
+            cell[BIN_PREDICTED + bin] += probabilities[i];
+            cell[BIN_HITS + bin] += observed;
+        }
+        cell[LOG_LOSS] -= Math.log(Math.max(MIN_PROBABILITY, probabilities[outcome]));
+    }
+
+    // The match's (league, season) cell and one (league, season, team) cell per side
+    private static long[] cellKeys(int league, int season, int home, int away) {
+        return new long[] {TeamSeasonKey.of(league, season, NameDictionary.NONE), TeamSeasonKey.of(league, season, home), TeamSeasonKey.of(league, season, away)};
+    }
+
+    private static byte outcome(Match match) {
+        return (byte) (1 - match.goals().outcome());
+    }
+
+    // Played matches with a forecast, both teams and a league
+    static boolean counts(Match match) {
+        return match.forecast() != null && match.goals() != null && match.home() != null && match.away() != null
+                && match.league() != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.UIFootball.analytics;
+
+import java.util.List;
+
+// Quality of the pre-match forecasts of the matches in one slice; league, season or team is
+// null when the slice spans all of them. brier is the mean three-outcome Brier score (0 is
+// perfect, 2 is always certain and wrong), logLoss the mean negative log probability of the
+// actual result. The calibration bins pool home win, draw and away win probabilities.
+public record ForecastScore(String league, Integer season, String team, int matches,
+                            double brier, double logLoss, List<CalibrationBin> calibration) {
+}
@@ -0,0 +1,11 @@
+package com.example.UIFootball.analytics;
+
+// Chances and goals of a whole league; season is null when the row spans several
+public record LeagueXg(String league, Integer season, int matches, double xg, int goals) {
+
+    public double xgPerMatch() { return matches == 0 ? 0 : xg / matches; }
+
+    public double goalsPerMatch() { return matches == 0 ? 0 : (double) goals / matches; }
+
+    public double goalsMinusXg() { return goals - xg; }
+}
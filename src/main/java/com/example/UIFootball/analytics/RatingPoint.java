@@ -0,0 +1,7 @@
+package com.example.UIFootball.analytics;
+
+import java.time.LocalDateTime;
+
+// A team's rating right after the given match
+public record RatingPoint(int matchId, LocalDateTime datetime, double rating) {
+}
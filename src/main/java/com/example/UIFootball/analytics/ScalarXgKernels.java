@@ -0,0 +1,48 @@
+package com.example.UIFootball.analytics;
+
+// Plain loops over the columns. Two partial sums per column break the dependency chain of the
+// floating-point adds, which the JIT will not reorder on its own.
+final class ScalarXgKernels implements XgKernels {
+
+    @Override
+    public String name() { return "scalar"; }
+
+    @Override
+    public void sums(double[] a, double[] b, double[] c, double[] d, int from, int to, double[] out) {
+        double a0 = 0, a1 = 0, b0 = 0, b1 = 0, c0 = 0, c1 = 0, d0 = 0, d1 = 0;
+        int i = from;
+        for (; i + 1 < to; i += 2) {
+            a0 += a[i];
+            a1 += a[i + 1];
+            b0 += b[i];
+            b1 += b[i + 1];
+            c0 += c[i];
+            c1 += c[i + 1];
+            d0 += d[i];
+            d1 += d[i + 1];
+        }
+        if (i < to) {
+            a0 += a[i];
+            b0 += b[i];
+            c0 += c[i];
+            d0 += d[i];
+        }
+        out[0] = a0 + a1;
+        out[1] = b0 + b1;
+        out[2] = c0 + c1;
+        out[3] = d0 + d1;
+    }
+
+    @Override
+    public void rollingMean(double[] values, int from, int to, int window, double[] prefix, double[] out) {
+        int length = to - from;
+        prefix[0] = 0;
+        for (int i = 0; i < length; i++) {
+            prefix[i + 1] = prefix[i] + values[from + i];
+        }
+        double scale = 1.0 / window;
+        for (int i = 0; i + window <= length; i++) {
+            out[i] = (prefix[i + window] - prefix[i]) * scale;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.UIFootball.analytics;
+
+import java.time.LocalDateTime;
+
+// A team's Elo rating after its latest rated match; league is the league of that match
+public record TeamRating(String team, String league, double rating, int matches, LocalDateTime lastMatch) {
+}
@@ -0,0 +1,21 @@
+package com.example.UIFootball.analytics;
+
+// A team's expected-goals line over the selected leagues and seasons. league or season is null
+// when the row spans several. The form values are mean xG for and against over the team's last
+// matches of its latest season in scope.
+public record TeamXg(String team, String league, Integer season, int played,
+                     double xgFor, double xgAgainst, int goalsFor, int goalsAgainst,
+                     double formXgFor, double formXgAgainst) {
+
+    public double xgDifference() { return xgFor - xgAgainst; }
+
+    // Goals scored above (positive) or below the chances created
+    public double finishing() { return goalsFor - xgFor; }
+
+    // Goals conceded below (positive) or above the chances allowed
+    public double prevention() { return xgAgainst - goalsAgainst; }
+
+    public double xgForPerMatch() { return played == 0 ? 0 : xgFor / played; }
+
+    public double xgAgainstPerMatch() { return played == 0 ? 0 : xgAgainst / played; }
+}
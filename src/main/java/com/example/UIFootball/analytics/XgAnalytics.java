@@ -0,0 +1,188 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// Expected-goals tables over XgColumns. The columns are rebuilt from the current snapshot the
+// first time they are read after a change (one pass plus a sort, a few milliseconds for the
+// whole dataset); every query is then a handful of contiguous-range sums through XgKernels.
+@Component
+public class XgAnalytics {
+    private static final Logger logger = LoggerFactory.getLogger(XgAnalytics.class);
+
+    public static final int DEFAULT_FORM_WINDOW = 5;
+
+    private final MatchService matchService;
+    private final XgKernels kernels;
+    private volatile XgColumns columns;
+    private volatile long lastBuildNanos;
+
+    @Autowired
+    public XgAnalytics(MatchService matchService) {
+        this(matchService, XgKernels.best());
+    }
+
+    XgAnalytics(MatchService matchService, XgKernels kernels) {
+        this.matchService = matchService;
+        this.kernels = kernels;
+        logger.info("xG analytics using {} kernels", kernels.name());
+    }
+
+    public String kernelName() { return kernels.name(); }
+
+    public long lastBuildNanos() { return lastBuildNanos; }
+
+    // One row per team, sorted by xG difference; null means all leagues or seasons
+    public List<TeamXg> teams(String league, Integer season, int window) {
+        XgColumns columns = columns();
+        int teamCount = NameDictionary.TEAMS.size();
+        double[] sums = new double[teamCount * 4];
+        int[] played = new int[teamCount];
+        int[] leagues = new int[teamCount];
+        int[] seasons = new int[teamCount];
+        int[] latest = new int[teamCount];
+        Arrays.fill(latest, -1);
+
+        double[] range = new double[4];
+        IntPredicate selected = selection(columns, league, season);
+        for (int segment = 0; segment < columns.segments(); segment++) {
+            if (!selected.test(segment)) {
+                continue;
+            }
+            int team = columns.segmentTeam[segment];
+            int from = columns.segmentStart[segment];
+            int to = columns.segmentStart[segment + 1];
+            kernels.sums(columns.xgFor, columns.xgAgainst, columns.goalsFor, columns.goalsAgainst, from, to, range);
+            for (int i = 0; i < 4; i++) {
+                sums[team * 4 + i] += range[i];
+            }
+            if (played[team] == 0) {
+                leagues[team] = columns.segmentLeague[segment];
+                seasons[team] = columns.segmentSeason[segment];
+            } else {
+                leagues[team] = leagues[team] == columns.segmentLeague[segment] ? leagues[team] : NameDictionary.NONE;
+                seasons[team] = seasons[team] == columns.segmentSeason[segment] ? seasons[team] : -1;
+            }
+            played[team] += to - from;
+            if (latest[team] < 0 || columns.segmentSeason[segment] > columns.segmentSeason[latest[team]]) {
+                latest[team] = segment;
+            }
+        }
+
+        List<TeamXg> rows = new ArrayList<>();
+        for (int team = 0; team < teamCount; team++) {
+            if (played[team] == 0) {
+                continue;
+            }
+            int to = columns.segmentStart[latest[team] + 1];
+            int from = Math.max(columns.segmentStart[latest[team]], to - window);
+            kernels.sums(columns.xgFor, columns.xgAgainst, columns.goalsFor, columns.goalsAgainst, from, to, range);
+            int formMatches = to - from;
+            rows.add(new TeamXg(NameDictionary.TEAMS.name(team), NameDictionary.LEAGUES.name(leagues[team]),
+                    seasons[team] < 0 ? null : seasons[team], played[team],
+                    sums[team * 4], sums[team * 4 + 1], (int) sums[team * 4 + 2], (int) sums[team * 4 + 3],
+                    range[0] / formMatches, range[1] / formMatches));
+        }
+        rows.sort(Comparator.comparingDouble(TeamXg::xgDifference).reversed().thenComparing(TeamXg::team));
+        return rows;
+    }
+
+    // One row per league; each match is counted once although it has a row for both teams
+    public List<LeagueXg> leagues(Integer season) {
+        XgColumns columns = columns();
+        int leagueCount = NameDictionary.LEAGUES.size();
+        double[] xg = new double[leagueCount];
+        double[] goals = new double[leagueCount];
+        int[] rows = new int[leagueCount];
+        double[] range = new double[4];
+        IntPredicate selected = selection(columns, null, season);
+        for (int segment = 0; segment < columns.segments(); segment++) {
+            if (selected.test(segment)) {
+                int league = columns.segmentLeague[segment];
+                int from = columns.segmentStart[segment];
+                int to = columns.segmentStart[segment + 1];
+                kernels.sums(columns.xgFor, columns.xgAgainst, columns.goalsFor, columns.goalsAgainst, from, to, range);
+                xg[league] += range[0];
+                goals[league] += range[2];
+                rows[league] += to - from;
+            }
+        }
+        List<LeagueXg> result = new ArrayList<>();
+        for (int league = 0; league < leagueCount; league++) {
+            if (rows[league] > 0) {
+                result.add(new LeagueXg(NameDictionary.LEAGUES.name(league), season, rows[league] / 2, xg[league],
+                        (int) goals[league]));
+            }
+        }
+        result.sort(Comparator.comparing(LeagueXg::league));
+        return result;
+    }
+
+    // Rolling xG for and against over the team's matches in scope, oldest first
+    public XgSeries rolling(String team, String league, Integer season, int window) {
+        XgColumns columns = columns();
+        int teamCode = NameDictionary.TEAMS.find(team);
+        IntPredicate selected = selection(columns, league, season);
+        List<Integer> segments = new ArrayList<>();
+        for (int segment = 0; segment < columns.segments(); segment++) {
+            if (columns.segmentTeam[segment] == teamCode && selected.test(segment)) {
+                segments.add(segment);
+            }
+        }
+        segments.sort(Comparator.comparingInt((Integer segment) -> columns.segmentSeason[segment]));
+
+        int length = segments.stream().mapToInt(s -> columns.segmentStart[s + 1] - columns.segmentStart[s]).sum();
+        double[] xgFor = new double[length];
+        double[] xgAgainst = new double[length];
+        int position = 0;
+        for (int segment : segments) {
+            int from = columns.segmentStart[segment];
+            int count = columns.segmentStart[segment + 1] - from;
+            System.arraycopy(columns.xgFor, from, xgFor, position, count);
+            System.arraycopy(columns.xgAgainst, from, xgAgainst, position, count);
+            position += count;
+        }
+        int outputs = Math.max(0, length - window + 1);
+        double[] prefix = new double[length + 1];
+        double[] rollingFor = new double[outputs];
+        double[] rollingAgainst = new double[outputs];
+        if (outputs > 0) {
+            kernels.rollingMean(xgFor, 0, length, window, prefix, rollingFor);
+            kernels.rollingMean(xgAgainst, 0, length, window, prefix, rollingAgainst);
+        }
+        return new XgSeries(team, window, rollingFor, rollingAgainst);
+    }
+
+    private static IntPredicate selection(XgColumns columns, String league, Integer season) {
+        int leagueCode = league == null ? NameDictionary.NONE : NameDictionary.LEAGUES.find(league);
+        if (league != null && leagueCode == NameDictionary.NONE) {
+            return segment -> false;
+        }
+        return segment -> (league == null || columns.segmentLeague[segment] == leagueCode)
+                && (season == null || columns.segmentSeason[segment] == season);
+    }
+
+    // Rebuilt at most once per snapshot version; a racing second build is identical and harmless
+    private XgColumns columns() {
+        MatchSnapshot snapshot = matchService.getSnapshot();
+        XgColumns current = columns;
+        if (current == null || current.version != snapshot.version()) {
+            long start = System.nanoTime();
+            current = XgColumns.build(snapshot.version(), snapshot.matches());
+            lastBuildNanos = System.nanoTime() - start;
+            columns = current;
+        }
+        return current;
+    }
+}
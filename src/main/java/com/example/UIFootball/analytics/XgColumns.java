@@ -0,0 +1,113 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.model.TeamSeasonKey;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Column-oriented copy of the played matches for xG work. Every match contributes two side rows,
+// one per team (xG for and against, goals for and against from that team's point of view). Rows
+// are grouped into segments, one per (league, season, team), each contiguous and in kick-off
+// order, so every aggregate is a sum over a few contiguous ranges of primitive doubles.
+final class XgColumns {
+
+    final long version;
+    final double[] xgFor;
+    final double[] xgAgainst;
+    final double[] goalsFor;
+    final double[] goalsAgainst;
+
+    // Segment s spans rows [segmentStart[s], segmentStart[s + 1])
+    final int[] segmentStart;
+    final int[] segmentLeague;
+    final int[] segmentSeason;
+    final int[] segmentTeam;
+
+    private XgColumns(long version, int rows, int segments) {
+        this.version = version;
+        this.xgFor = new double[rows];
+        this.xgAgainst = new double[rows];
+        this.goalsFor = new double[rows];
+        this.goalsAgainst = new double[rows];
+        this.segmentStart = new int[segments + 1];
+        this.segmentLeague = new int[segments];
+        this.segmentSeason = new int[segments];
+        this.segmentTeam = new int[segments];
+    }
+
+    int segments() { return segmentTeam.length; }
+
+    static XgColumns build(long version, List<Match> matches) {
+        Match[] played = matches.stream().filter(XgColumns::counts).toArray(Match[]::new);
+        Arrays.sort(played, Match.KICK_OFF);
+
+        // First pass: assign segment ids and count the rows of each
+        Map<Long, Integer> segmentIds = new HashMap<>();
+        int[] homeSegment = new int[played.length];
+        int[] awaySegment = new int[played.length];
+        int[] counts = new int[16];
+        for (int i = 0; i < played.length; i++) {
+            Match match = played[i];
+            int league = NameDictionary.LEAGUES.code(match.league());
+            homeSegment[i] = segment(segmentIds, TeamSeasonKey.of(league, match.season(), NameDictionary.TEAMS.code(match.homeTitle())));
+            awaySegment[i] = segment(segmentIds, TeamSeasonKey.of(league, match.season(), NameDictionary.TEAMS.code(match.awayTitle())));
+            int needed = Math.max(homeSegment[i], awaySegment[i]) + 1;
+            if (needed > counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(needed, counts.length * 2));
+            }
+            counts[homeSegment[i]]++;
+            counts[awaySegment[i]]++;
+        }
+
+        XgColumns columns = new XgColumns(version, played.length * 2, segmentIds.size());
+        for (Map.Entry<Long, Integer> entry : segmentIds.entrySet()) {
+            int segment = entry.getValue();
+            long key = entry.getKey();
+            columns.segmentLeague[segment] = (int) (key >>> 48) - 1;
+            columns.segmentSeason[segment] = (int) ((key >>> 32) & 0xFFFF);
+            columns.segmentTeam[segment] = (int) key;
+        }
+        for (int segment = 0; segment < columns.segments(); segment++) {
+            columns.segmentStart[segment + 1] = columns.segmentStart[segment] + counts[segment];
+        }
+
+        // Second pass: matches are visited in kick-off order, so each segment fills in that order
+        int[] cursor = Arrays.copyOf(columns.segmentStart, columns.segments());
+        for (int i = 0; i < played.length; i++) {
+            Match match = played[i];
+            double homeXg = match.xG().home();
+            double awayXg = match.xG().away();
+            double homeGoals = match.goals().home();
+            double awayGoals = match.goals().away();
+            columns.put(cursor[homeSegment[i]]++, homeXg, awayXg, homeGoals, awayGoals);
+            columns.put(cursor[awaySegment[i]]++, awayXg, homeXg, awayGoals, homeGoals);
+        }
+        return columns;
+    }
+
+    private void put(int row, double xgFor, double xgAgainst, double goalsFor, double goalsAgainst) {
+        this.xgFor[row] = xgFor;
+        this.xgAgainst[row] = xgAgainst;
+        this.goalsFor[row] = goalsFor;
+        this.goalsAgainst[row] = goalsAgainst;
+    }
+
+    private static int segment(Map<Long, Integer> segmentIds, long key) {
+        Integer id = segmentIds.get(key);
+        if (id == null) {
+            id = segmentIds.size();
+            segmentIds.put(key, id);
+        }
+        return id;
+    }
+
+    // Played matches with both teams, a score, xG and a league
+    static boolean counts(Match match) {
+        return match.goals() != null && match.xG() != null && match.home() != null && match.away() != null
+                && match.league() != null;
+    }
+}
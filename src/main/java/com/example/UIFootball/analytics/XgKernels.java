@@ -0,0 +1,30 @@
+package com.example.UIFootball.analytics;
+
+// The numeric inner loops of the xG engine over primitive double columns. best() returns the
+// Vector API implementation (VectorXgKernels, in the separately compiled src/vector source root)
+// when that class is on the classpath and the jdk.incubator.vector module is present at run time
+// (--add-modules jdk.incubator.vector), and the scalar one otherwise; both give the same results
+// up to floating-point summation order.
+interface XgKernels {
+
+    String name();
+
+    // Sums of four parallel columns over [from, to), written to out[0..3]
+    void sums(double[] a, double[] b, double[] c, double[] d, int from, int to, double[] out);
+
+    // Means of every window of consecutive values in [from, to); out receives to - from - window + 1
+    // entries starting at index 0. prefix is scratch space of at least to - from + 1 entries.
+    void rollingMean(double[] values, int from, int to, int window, double[] prefix, double[] out);
+
+    static XgKernels best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (XgKernels) Class.forName("com.example.UIFootball.analytics.VectorXgKernels")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // not built into this deployment: fall through to the scalar kernels
+            }
+        }
+        return new ScalarXgKernels();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.UIFootball.analytics;
+
+// Rolling means of a team's xG for and against, one entry per match from its window-th match on
+public record XgSeries(String team, int window, double[] xgFor, double[] xgAgainst) {
+
+    public int length() { return xgFor.length; }
+}
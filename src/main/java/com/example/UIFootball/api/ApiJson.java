@@ -0,0 +1,83 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.standings.TeamStanding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+// Wire format of the REST API, written field by field with Jackson's streaming generator so a
+// row goes straight to the response without an intermediate tree or DTO
+final class ApiJson {
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private ApiJson() {
+    }
+
+    static void writeMatch(JsonGenerator json, Match match) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", match.id());
+        json.writeBooleanField("isResult", match.result());
+        writeTeam(json, "home", match.home());
+        writeTeam(json, "away", match.away());
+        if (match.goals() != null) {
+            json.writeObjectFieldStart("goals");
+            json.writeNumberField("home", match.goals().home());
+            json.writeNumberField("away", match.goals().away());
+            json.writeEndObject();
+        }
+        if (match.xG() != null) {
+            json.writeObjectFieldStart("xG");
+            json.writeNumberField("home", match.xG().home());
+            json.writeNumberField("away", match.xG().away());
+            json.writeEndObject();
+        }
+        if (match.datetime() != null) {
+            json.writeStringField("datetime", DATETIME_FORMAT.format(match.datetime()));
+        }
+        if (match.forecast() != null) {
+            json.writeObjectFieldStart("forecast");
+            json.writeNumberField("win", match.forecast().win());
+            json.writeNumberField("draw", match.forecast().draw());
+            json.writeNumberField("loss", match.forecast().loss());
+            json.writeEndObject();
+        }
+        json.writeStringField("league", match.league());
+        json.writeNumberField("season", match.season());
+        json.writeEndObject();
+    }
+
+    static void writeStanding(JsonGenerator json, TeamStanding standing) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("team", standing.team());
+        json.writeStringField("league", standing.league());
+        if (standing.season() != null) {
+            json.writeNumberField("season", standing.season());
+        } else {
+            json.writeNullField("season");
+        }
+        json.writeNumberField("played", standing.played());
+        json.writeNumberField("wins", standing.wins());
+        json.writeNumberField("draws", standing.draws());
+        json.writeNumberField("losses", standing.losses());
+        json.writeNumberField("goalsFor", standing.goalsFor());
+        json.writeNumberField("goalsAgainst", standing.goalsAgainst());
+        json.writeNumberField("goalDifference", standing.goalDifference());
+        json.writeNumberField("points", standing.points());
+        json.writeEndObject();
+    }
+
+    private static void writeTeam(JsonGenerator json, String field, TeamRef team) throws IOException {
+        if (team == null) {
+            return;
+        }
+        json.writeObjectFieldStart(field);
+        json.writeStringField("id", team.id());
+        json.writeStringField("title", team.title());
+        json.writeStringField("shortTitle", team.shortTitle());
+        json.writeEndObject();
+    }
+}
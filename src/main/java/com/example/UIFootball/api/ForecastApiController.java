@@ -0,0 +1,47 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.analytics.ForecastEvaluator;
+import com.example.UIFootball.analytics.ForecastScore;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Quality of the pre-match forecasts, e.g. /api/forecasts?league=EPL&by=season. Returns the score
+// of the slice chosen by league, season and team (each optional) and, with by=league, season or
+// team, the scores it breaks down into: every league of a season, every season of a league, or
+// every team of a league season, best first. All of it is read from ForecastEvaluator's sums.
+@RestController
+@RequestMapping("/api")
+public class ForecastApiController {
+
+    public record Forecasts(ForecastScore score, List<ForecastScore> breakdown) {
+    }
+
+    private final ForecastEvaluator evaluator;
+
+    public ForecastApiController(ForecastEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    @GetMapping("/forecasts")
+    public ResponseEntity<Forecasts> forecasts(@RequestParam(required = false) String league,
+                                               @RequestParam(required = false) Integer season,
+                                               @RequestParam(required = false) String team,
+                                               @RequestParam(required = false) String by) {
+        List<ForecastScore> breakdown = switch (by == null ? "" : by) {
+            case "" -> List.of();
+            case "league" -> evaluator.byLeague(season);
+            case "season" -> evaluator.bySeason(league);
+            case "team" -> evaluator.byTeam(league, season);
+            default -> null;
+        };
+        if (breakdown == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new Forecasts(evaluator.score(league, season, team), breakdown));
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.UIFootball.api;
+
+import java.util.List;
+
+// Outcome of one bulk import. rows counts the data rows read, imported those committed and
+// rejected those that failed validation; errors lists the first rejected rows by line number.
+// In strict mode a single rejected row means nothing is imported.
+public record ImportResult(int rows, int imported, int rejected, List<RowError> errors, long elapsedNanos) {
+
+    // line is the 1-based line of the row in the file (of its opening brace in a JSON array)
+    public record RowError(int line, String message) {
+    }
+}
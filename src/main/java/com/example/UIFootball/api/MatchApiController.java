@@ -0,0 +1,167 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.TeamStanding;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Read-only JSON API over the same data as the views. Every response carries a weak ETag made of
+// this process's instance id and the dataset version, so a poll with a matching If-None-Match is
+// answered 304 before any query runs. The tag on a body is the version the data was actually
+// read at (the result set's, or the repository's as read before the query), which may trail the
+// snapshot while listeners are still applying a change. Bodies are written row by row with Jackson's streaming
+// generator straight to the response (gzipped by the server, see server.compression.*); match
+// lists are fetched from the repository one page at a time.
+@RestController
+@RequestMapping("/api")
+public class MatchApiController {
+
+    static final int PAGE_SIZE = 1000;
+
+    // Versions restart with the process, so the instance id keeps an old ETag from matching
+    private final String instance = UUID.randomUUID().toString().substring(0, 8);
+    private final MatchService matchService;
+    private final MatchRepository matchRepository;
+    private final ObjectMapper objectMapper;
+
+    public MatchApiController(MatchService matchService, MatchRepository matchRepository, ObjectMapper objectMapper) {
+        this.matchService = matchService;
+        this.matchRepository = matchRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<StreamingResponseBody> matches(@RequestParam(required = false) String season,
+                                                         @RequestParam(required = false) String league,
+                                                         @RequestParam(required = false) String team,
+                                                         @RequestParam(required = false) String matchId,
+                                                         @RequestParam(required = false) String sort,
+                                                         @RequestParam(defaultValue = "false") boolean descending,
+                                                         @RequestParam(defaultValue = "0") int offset,
+                                                         @RequestParam(defaultValue = "" + Integer.MAX_VALUE) int limit,
+                                                         WebRequest request) {
+        if (request.checkNotModified(etag(matchService.getSnapshot().version()))) {
+            return null;
+        }
+        MatchResults results = matchRepository.query(new MatchFilter(season, league, team, matchId));
+        MatchSort order = MatchSort.by(sort, descending);
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(results.size(), (long) from + Math.max(0, limit));
+        return json(request, results.version(), json -> {
+            json.writeNumberField("total", results.size());
+            json.writeNumberField("offset", from);
+            json.writeArrayFieldStart("matches");
+            for (int pageStart = from; pageStart < to; pageStart += PAGE_SIZE) {
+                for (Match match : results.page(order, pageStart, Math.min(PAGE_SIZE, to - pageStart))) {
+                    ApiJson.writeMatch(json, match);
+                }
+                json.flush();
+            }
+            json.writeEndArray();
+        });
+    }
+
+    @GetMapping("/standings")
+    public ResponseEntity<StreamingResponseBody> standings(@RequestParam(required = false) String league,
+                                                           @RequestParam(required = false) Integer season,
+                                                           @RequestParam(required = false) String team,
+                                                           @RequestParam(defaultValue = "false") boolean combined,
+                                                           WebRequest request) {
+        if (request.checkNotModified(etag(matchService.getSnapshot().version()))) {
+            return null;
+        }
+        long version = matchRepository.version();
+        List<TeamStanding> rows = combined
+                ? matchRepository.combinedStandings(league, season, team)
+                : matchRepository.standings(league, season, team);
+        return json(request, version, json -> {
+            json.writeArrayFieldStart("standings");
+            for (TeamStanding row : rows) {
+                ApiJson.writeStanding(json, row);
+            }
+            json.writeEndArray();
+        });
+    }
+
+    @GetMapping("/teams")
+    public ResponseEntity<StreamingResponseBody> teams(WebRequest request) {
+        return names("teams", matchRepository::teams, request);
+    }
+
+    @GetMapping("/leagues")
+    public ResponseEntity<StreamingResponseBody> leagues(WebRequest request) {
+        return names("leagues", matchRepository::leagues, request);
+    }
+
+    @GetMapping("/seasons")
+    public ResponseEntity<StreamingResponseBody> seasons(WebRequest request) {
+        return names("seasons", matchRepository::seasons, request);
+    }
+
+    private ResponseEntity<StreamingResponseBody> names(String field, Supplier<List<String>> names,
+                                                        WebRequest request) {
+        if (request.checkNotModified(etag(matchService.getSnapshot().version()))) {
+            return null;
+        }
+        long version = matchRepository.version();
+        List<String> values = names.get();
+        return json(request, version, json -> {
+            json.writeArrayFieldStart(field);
+            for (String value : values) {
+                json.writeString(value);
+            }
+            json.writeEndArray();
+        });
+    }
+
+    String etag(long version) {
+        return "W/\"" + instance + "-" + version + "\"";
+    }
+
+    private interface Body {
+        void write(JsonGenerator json) throws IOException;
+    }
+
+    // An object with the dataset version followed by the fields the body writes
+    private ResponseEntity<StreamingResponseBody> json(WebRequest request, long version, Body body) {
+        StreamingResponseBody stream = (OutputStream out) -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                json.writeStartObject();
+                json.writeNumberField("version", version);
+                body.write(json);
+                json.writeEndObject();
+            }
+        };
+        // Replaces the ETag checkNotModified set for the snapshot version
+        HttpServletResponse response = ((NativeWebRequest) request).getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.ETAG, etag(version));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(stream);
+    }
+}
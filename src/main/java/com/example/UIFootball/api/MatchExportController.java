@@ -0,0 +1,55 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchSort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// File download of a filtered match list, e.g. /api/export/matches?league=EPL&format=jsonl&gzip=true.
+// Takes the same filter and sort parameters as /api/matches. The filter is evaluated once before
+// the response starts; the rows are then streamed by MatchExporter. The server's JSON compression
+// does not apply to these content types, so gzip is chosen here and shows in the file name.
+@RestController
+@RequestMapping("/api/export")
+public class MatchExportController {
+
+    private final MatchRepository matchRepository;
+    private final MatchExporter exporter;
+
+    public MatchExportController(MatchRepository matchRepository, MatchExporter exporter) {
+        this.matchRepository = matchRepository;
+        this.exporter = exporter;
+    }
+
+    @GetMapping("/matches")
+    public ResponseEntity<StreamingResponseBody> matches(@RequestParam(required = false) String season,
+                                                         @RequestParam(required = false) String league,
+                                                         @RequestParam(required = false) String team,
+                                                         @RequestParam(required = false) String matchId,
+                                                         @RequestParam(required = false) String sort,
+                                                         @RequestParam(defaultValue = "false") boolean descending,
+                                                         @RequestParam(defaultValue = "csv") String format,
+                                                         @RequestParam(defaultValue = "false") boolean gzip) {
+        MatchExporter.Format exportFormat = MatchExporter.Format.of(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        MatchResults results = matchRepository.query(new MatchFilter(season, league, team, matchId));
+        MatchSort order = MatchSort.by(sort, descending);
+        StreamingResponseBody body = out -> exporter.write(results, order, exportFormat, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exporter.contentType(exportFormat, gzip)))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(exporter.fileName(exportFormat, gzip)).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchSort;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+// Writes a filtered match result as CSV or JSON Lines, optionally gzipped, straight to an output
+// stream. Matches are visited one at a time in the requested order and encoded field by field
+// from the records, so memory stays at the stream buffers whatever the size of the export.
+// Used by the export endpoint and by the download links of the match grids.
+@Component
+public class MatchExporter {
+
+    public enum Format {
+        CSV("csv", "text/csv"),
+        JSON_LINES("jsonl", "application/x-ndjson");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String extension() { return extension; }
+
+        // Accepts the file extension (csv, jsonl) or the constant name; null if unknown
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name) || format.name().equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    static final String CSV_HEADER = "id,isResult,homeId,homeTitle,homeShortTitle,awayId,awayTitle,awayShortTitle,"
+            + "homeGoals,awayGoals,homeXg,awayXg,datetime,forecastWin,forecastDraw,forecastLoss,league,season";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public MatchExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String fileName(Format format, boolean gzip) {
+        return "matches." + format.extension() + (gzip ? ".gz" : "");
+    }
+
+    public String contentType(Format format, boolean gzip) {
+        return gzip ? "application/gzip" : format.contentType;
+    }
+
+    // Flushes but does not close the stream; the caller owns it
+    public void write(MatchResults results, MatchSort sort, Format format, boolean gzip, OutputStream out) throws IOException {
+        if (gzip) {
+            // Closing the gzip stream finishes it and ends its deflater, also when the export fails
+            try (GZIPOutputStream zip = new FastGzipOutputStream(new NonClosingOutputStream(out))) {
+                writeFormat(results, sort, format, zip);
+            }
+        } else {
+            writeFormat(results, sort, format, out);
+        }
+        out.flush();
+    }
+
+    private void writeFormat(MatchResults results, MatchSort sort, Format format, OutputStream out) throws IOException {
+        try {
+            if (format == Format.CSV) {
+                writeCsv(results, sort, out);
+            } else {
+                writeJsonLines(results, sort, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Deflate at its fastest level: compression is the bottleneck of a gzipped export, and the
+    // default level takes about twice as long for files only about a fifth smaller
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    // Passes writes through and turns close into flush, so the gzip stream can be closed
+    // without closing the caller's stream
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    // Rows are appended to one builder and handed to the writer in chunks; per-field writes to a
+    // Writer take its lock every time and cost more than the encoding itself
+    private static void writeCsv(MatchResults results, MatchSort sort, OutputStream out) throws IOException {
+        Writer csv = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        StringBuilder chunk = new StringBuilder(BUFFER_SIZE + 1024);
+        char[] chars = new char[chunk.capacity()];
+        chunk.append(CSV_HEADER).append('\n');
+        results.forEach(sort, match -> {
+            appendCsvRow(chunk, match);
+            if (chunk.length() >= BUFFER_SIZE) {
+                flush(csv, chunk, chars);
+            }
+        });
+        flush(csv, chunk, chars);
+        csv.flush();
+    }
+
+    private static void flush(Writer csv, StringBuilder chunk, char[] chars) {
+        try {
+            char[] target = chunk.length() <= chars.length ? chars : new char[chunk.length()];
+            chunk.getChars(0, chunk.length(), target, 0);
+            csv.write(target, 0, chunk.length());
+            chunk.setLength(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonLines(MatchResults results, MatchSort sort, OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null);
+        results.forEach(sort, match -> {
+            try {
+                ApiJson.writeMatch(json, match);
+                json.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        json.close();
+    }
+
+    private static void appendCsvRow(StringBuilder csv, Match match) {
+        csv.append(match.id()).append(',').append(match.result());
+        appendTeam(csv, match.home());
+        appendTeam(csv, match.away());
+        if (match.goals() != null) {
+            csv.append(',').append(match.goals().home()).append(',').append(match.goals().away());
+        } else {
+            csv.append(",,");
+        }
+        if (match.xG() != null) {
+            csv.append(',').append(match.xG().home()).append(',').append(match.xG().away());
+        } else {
+            csv.append(",,");
+        }
+        csv.append(',');
+        if (match.datetime() != null) {
+            appendDatetime(csv, match.datetime());
+        }
+        if (match.forecast() != null) {
+            csv.append(',').append(match.forecast().win())
+                    .append(',').append(match.forecast().draw())
+                    .append(',').append(match.forecast().loss());
+        } else {
+            csv.append(",,,");
+        }
+        appendField(csv, match.league());
+        csv.append(',').append(match.season()).append('\n');
+    }
+
+    // yyyy-MM-dd HH:mm:ss without a DateTimeFormatter, which allocates several objects per call
+    private static void appendDatetime(StringBuilder csv, LocalDateTime datetime) {
+        csv.append(datetime.getYear()).append('-');
+        appendTwoDigits(csv, datetime.getMonthValue()).append('-');
+        appendTwoDigits(csv, datetime.getDayOfMonth()).append(' ');
+        appendTwoDigits(csv, datetime.getHour()).append(':');
+        appendTwoDigits(csv, datetime.getMinute()).append(':');
+        appendTwoDigits(csv, datetime.getSecond());
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder csv, int value) {
+        return csv.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void appendTeam(StringBuilder csv, TeamRef team) {
+        if (team == null) {
+            csv.append(",,,");
+            return;
+        }
+        appendField(csv, team.id());
+        appendField(csv, team.title());
+        appendField(csv, team.shortTitle());
+    }
+
+    // RFC 4180: a value with a comma, quote or line break is quoted and its quotes doubled
+    private static void appendField(StringBuilder csv, String value) {
+        csv.append(',');
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            csv.append(value);
+            return;
+        }
+        csv.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        csv.append('"');
+    }
+}
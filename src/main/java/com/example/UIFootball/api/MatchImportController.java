@@ -0,0 +1,58 @@
+package com.example.UIFootball.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Bulk upload of matches in any format MatchImporter reads, either as a multipart form field
+// named file or as the raw request body, e.g. curl --data-binary @matches.csv.gz /api/import/matches.
+// Responds with the ImportResult: 200 when the valid rows were committed, 422 when strict=true
+// and rows were rejected so nothing was, 413 when the file is over the importer's size or row
+// limits (which also bound the raw body, outside spring.servlet.multipart.*), and 400 when the
+// file cannot be read at all.
+@RestController
+@RequestMapping("/api/import")
+public class MatchImportController {
+
+    private final MatchImporter importer;
+
+    public MatchImportController(MatchImporter importer) {
+        this.importer = importer;
+    }
+
+    @PostMapping(value = "/matches", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResult> upload(@RequestPart("file") MultipartFile file,
+                                               @RequestParam(defaultValue = "false") boolean strict) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return importMatches(in, strict);
+        }
+    }
+
+    @PostMapping("/matches")
+    public ResponseEntity<ImportResult> body(InputStream body, @RequestParam(defaultValue = "false") boolean strict) {
+        return importMatches(body, strict);
+    }
+
+    private ResponseEntity<ImportResult> importMatches(InputStream in, boolean strict) {
+        ImportResult result;
+        try {
+            result = importer.importMatches(in, strict);
+        } catch (MatchImporter.TooLargeException e) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage(), e);
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        }
+        return ResponseEntity.status(strict && result.rejected() > 0 ? HttpStatus.UNPROCESSABLE_ENTITY : HttpStatus.OK)
+                .body(result);
+    }
+}
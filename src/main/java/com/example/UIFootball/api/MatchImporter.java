@@ -0,0 +1,553 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.model.XgPair;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+// Bulk import of matches from CSV with the export's columns (in any order) or from JSON with the
+// API's match objects, either as JSON Lines or as one array; gzipped files are detected by their
+// magic bytes. One sequential pass cuts the file into raw rows, which are then parsed and validated
+// in parallel batches. Rejected rows are reported by line, and the valid ones are added with
+// MatchService.addMatches as one snapshot, so indexes and aggregates are updated once per import.
+// Ids in the file are ignored; the service assigns new ones. The upload and its decompressed
+// content are each capped at match.import.max-bytes and the rows at match.import.max-rows, as
+// the rows are held in memory until the import commits.
+@Component
+public class MatchImporter {
+    private static final Logger logger = LoggerFactory.getLogger(MatchImporter.class);
+
+    static final int BATCH_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 1000;
+    public static final int MIN_SEASON = 1900;
+    public static final int MAX_SEASON = 2100;
+    static final DataSize DEFAULT_MAX_BYTES = DataSize.ofMegabytes(64);
+    static final int DEFAULT_MAX_ROWS = 200_000;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final List<String> REQUIRED_COLUMNS = List.of("homeTitle", "awayTitle", "league", "season");
+
+    // Where each CSV column is found in an API match object
+    private static final Map<String, JsonPointer> JSON_FIELDS = Map.ofEntries(
+            Map.entry("isResult", JsonPointer.compile("/isResult")),
+            Map.entry("homeId", JsonPointer.compile("/home/id")),
+            Map.entry("homeTitle", JsonPointer.compile("/home/title")),
+            Map.entry("homeShortTitle", JsonPointer.compile("/home/shortTitle")),
+            Map.entry("awayId", JsonPointer.compile("/away/id")),
+            Map.entry("awayTitle", JsonPointer.compile("/away/title")),
+            Map.entry("awayShortTitle", JsonPointer.compile("/away/shortTitle")),
+            Map.entry("homeGoals", JsonPointer.compile("/goals/home")),
+            Map.entry("awayGoals", JsonPointer.compile("/goals/away")),
+            Map.entry("homeXg", JsonPointer.compile("/xG/home")),
+            Map.entry("awayXg", JsonPointer.compile("/xG/away")),
+            Map.entry("datetime", JsonPointer.compile("/datetime")),
+            Map.entry("forecastWin", JsonPointer.compile("/forecast/win")),
+            Map.entry("forecastDraw", JsonPointer.compile("/forecast/draw")),
+            Map.entry("forecastLoss", JsonPointer.compile("/forecast/loss")),
+            Map.entry("league", JsonPointer.compile("/league")),
+            Map.entry("season", JsonPointer.compile("/season")));
+
+    private final MatchService matchService;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final int maxRows;
+
+    public MatchImporter(MatchService matchService, ObjectMapper objectMapper) {
+        this(matchService, objectMapper, DEFAULT_MAX_BYTES, DEFAULT_MAX_ROWS);
+    }
+
+    @Autowired
+    public MatchImporter(MatchService matchService, ObjectMapper objectMapper,
+                         @Value("${match.import.max-bytes:64MB}") DataSize maxBytes,
+                         @Value("${match.import.max-rows:200000}") int maxRows) {
+        this.matchService = matchService;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes.toBytes();
+        this.maxRows = maxRows;
+    }
+
+    // Upper bound for an uploaded file, also applied to its decompressed content
+    public long maxBytes() { return maxBytes; }
+
+    // The file, or what it decompresses to, is over the configured size or row limit
+    public static final class TooLargeException extends IOException {
+        TooLargeException(String message) {
+            super(message);
+        }
+    }
+
+    // Fails once more than limit bytes have been read through it
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private final String what;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit, String what) {
+            super(in);
+            this.limit = limit;
+            this.what = what;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long bytes) throws TooLargeException {
+            count += bytes;
+            if (count > limit) {
+                throw new TooLargeException(String.format("The %s is larger than %,d bytes", what, limit));
+            }
+        }
+    }
+
+    // A raw row before parsing: the text of a CSV record or JSON line, or an element of a JSON array
+    private record RawRow(int line, String text, JsonNode json) {
+    }
+
+    // Column positions by name and the number of fields every CSV record must have
+    private record CsvHeader(Map<String, Integer> columns, int width) {
+    }
+
+    // The named column of one row, trimmed; null if it is absent or blank
+    private interface Fields {
+        String get(String column);
+    }
+
+    // A league plays each home fixture once per season, so a second one is a duplicate
+    private record Fixture(String league, int season, String home, String away) {
+
+        static Fixture of(Match match) {
+            return new Fixture(match.league(), match.season(), match.homeTitle(), match.awayTitle());
+        }
+
+        @Override
+        public String toString() {
+            return home + " v " + away + " in " + league + " " + season;
+        }
+    }
+
+    private static final class InvalidRowException extends RuntimeException {
+        InvalidRowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    // Reads, validates and commits the file. Without strict, the valid rows are imported and the
+    // rest reported; with strict, one invalid row rejects the whole file. Throws IOException if the
+    // file cannot be read as a whole, e.g. malformed JSON or a CSV header without required columns.
+    public ImportResult importMatches(InputStream in, boolean strict) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader reader = open(in);
+        CsvHeader header = null;
+        List<RawRow> rows;
+        int first = firstCharacter(reader);
+        if (first == '[') {
+            rows = readJsonArray(reader);
+        } else if (first == '{') {
+            rows = readLines(reader, false);
+        } else {
+            rows = readLines(reader, true);
+            header = rows.isEmpty() ? null : csvHeader(rows.remove(0));
+        }
+
+        Match[] parsed = new Match[rows.size()];
+        String[] problems = new String[rows.size()];
+        parse(rows, header, parsed, problems);
+
+        List<Match> added = matchService.addMatches(current -> accept(current, rows, parsed, problems, strict));
+        List<ImportResult.RowError> errors = new ArrayList<>();
+        int rejected = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (problems[i] != null && rejected++ < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(rows.get(i).line(), problems[i]));
+            }
+        }
+
+        int imported = added.size();
+        ImportResult result = new ImportResult(rows.size(), imported, rejected, List.copyOf(errors), System.nanoTime() - start);
+        logger.info("Imported {} of {} rows ({} rejected{}) in {} ms", imported, rows.size(), rejected,
+                strict && rejected > 0 ? ", strict" : "", result.elapsedNanos() / 1_000_000);
+        return result;
+    }
+
+    // The rows to add: duplicates are checked in file order, against the dataset and the rows
+    // before, and recorded as problems. Runs under the writer lock, so two concurrent imports of
+    // the same file cannot both pass the check. With strict, any problem means nothing is added.
+    private static List<Match> accept(MatchSnapshot current, List<RawRow> rows, Match[] parsed, String[] problems,
+                                      boolean strict) {
+        Map<Fixture, Integer> seen = new HashMap<>();
+        for (Match match : current.matches()) {
+            if (match.home() != null && match.away() != null) {
+                seen.putIfAbsent(Fixture.of(match), 0);
+            }
+        }
+        List<Match> accepted = new ArrayList<>(rows.size());
+        boolean rejected = false;
+        for (int i = 0; i < rows.size(); i++) {
+            if (problems[i] == null) {
+                Integer previous = seen.putIfAbsent(Fixture.of(parsed[i]), rows.get(i).line());
+                if (previous == null) {
+                    accepted.add(parsed[i]);
+                } else {
+                    problems[i] = Fixture.of(parsed[i]) + (previous == 0 ? " is already in the dataset"
+                            : " is already on line " + previous);
+                }
+            }
+            rejected |= problems[i] != null;
+        }
+        return strict && rejected ? List.of() : accepted;
+    }
+
+    // Each batch fills its own slice of the arrays, a match or a problem per row; the parallel
+    // forEach completes before the arrays are read, so no further synchronization is needed
+    private void parse(List<RawRow> rows, CsvHeader header, Match[] parsed, String[] problems) {
+        int batches = (rows.size() + BATCH_SIZE - 1) / BATCH_SIZE;
+        IntStream.range(0, batches).parallel().forEach(batch -> {
+            for (int i = batch * BATCH_SIZE; i < Math.min(rows.size(), (batch + 1) * BATCH_SIZE); i++) {
+                try {
+                    parsed[i] = toMatch(fields(rows.get(i), header));
+                } catch (InvalidRowException e) {
+                    problems[i] = e.getMessage();
+                }
+            }
+        });
+    }
+
+    private BufferedReader open(InputStream in) throws IOException {
+        BufferedInputStream input = new BufferedInputStream(new LimitedInputStream(in, maxBytes, "file"), BUFFER_SIZE);
+        input.mark(2);
+        boolean gzip = input.read() == 0x1f && input.read() == 0x8b;
+        input.reset();
+        InputStream source = gzip
+                ? new LimitedInputStream(new GZIPInputStream(input, BUFFER_SIZE), maxBytes, "decompressed file")
+                : input;
+        return new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    // Skips a byte order mark and returns the first character that is not whitespace, left unread;
+    // -1 for an empty file
+    private static int firstCharacter(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        reader.mark(BUFFER_SIZE);
+        int c;
+        do {
+            c = reader.read();
+        } while (c != -1 && Character.isWhitespace(c));
+        reader.reset();
+        return c;
+    }
+
+    // CSV records or JSON lines with the line each starts on; blank lines are skipped. A quoted
+    // CSV field may span lines, so a record continues while it has an unclosed quote.
+    private List<RawRow> readLines(BufferedReader reader, boolean csv) throws IOException {
+        List<RawRow> rows = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            int start = ++lineNumber;
+            if (csv && openQuote(line)) {
+                StringBuilder record = new StringBuilder(line);
+                String next;
+                boolean open = true;
+                while (open && (next = reader.readLine()) != null) {
+                    lineNumber++;
+                    record.append('\n').append(next);
+                    open = openQuote(next) != open;
+                }
+                line = record.toString();
+            }
+            if (!line.isBlank()) {
+                // the CSV header does not count
+                checkRowCount(rows.size() - (csv ? 1 : 0));
+                rows.add(new RawRow(start, line, null));
+            }
+        }
+        return rows;
+    }
+
+    // Whether the line leaves a quote open; an escaped quote ("") toggles twice
+    private static boolean openQuote(String line) {
+        boolean open = false;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                open = !open;
+            }
+        }
+        return open;
+    }
+
+    private List<RawRow> readJsonArray(BufferedReader reader) throws IOException {
+        List<RawRow> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(reader)) {
+            parser.nextToken();
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("The JSON array is not closed");
+                }
+                int line = parser.currentTokenLocation().getLineNr();
+                checkRowCount(rows.size());
+                rows.add(new RawRow(line, null, objectMapper.readTree(parser)));
+            }
+        }
+        return rows;
+    }
+
+    // Called before adding a row to the count read so far
+    private void checkRowCount(int rows) throws TooLargeException {
+        if (rows >= maxRows) {
+            throw new TooLargeException(String.format("The file has more than %,d rows", maxRows));
+        }
+    }
+
+    private static CsvHeader csvHeader(RawRow header) throws IOException {
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> names = splitCsv(header.text());
+        for (int i = 0; i < names.size(); i++) {
+            columns.putIfAbsent(names.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("The CSV header has no " + String.join(", ", missing) + " column");
+        }
+        return new CsvHeader(columns, names.size());
+    }
+
+    private Fields fields(RawRow row, CsvHeader header) {
+        if (header != null) {
+            List<String> values = splitCsv(row.text());
+            if (values.size() != header.width()) {
+                throw invalid("Expected %d fields, found %d", header.width(), values.size());
+            }
+            return column -> {
+                Integer index = header.columns().get(column);
+                return index == null ? null : blankToNull(values.get(index));
+            };
+        }
+        JsonNode json = row.json();
+        if (json == null) {
+            try {
+                json = objectMapper.readTree(row.text());
+            } catch (JsonProcessingException e) {
+                throw new InvalidRowException("Not valid JSON: " + e.getOriginalMessage());
+            }
+        }
+        if (!json.isObject()) {
+            throw new InvalidRowException("Expected a JSON object");
+        }
+        JsonNode match = json;
+        return column -> {
+            JsonNode value = match.at(JSON_FIELDS.get(column));
+            return value.isMissingNode() || value.isNull() ? null : blankToNull(value.asText());
+        };
+    }
+
+    // RFC 4180 fields; quotes around a field are removed and doubled quotes inside it unescaped
+    static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>(24);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String blankToNull(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static Match toMatch(Fields fields) {
+        String league = required(fields, "league");
+        int season = wholeNumber("season", required(fields, "season"));
+        if (season < MIN_SEASON || season > MAX_SEASON) {
+            throw invalid("season must be between %d and %d, got %d", MIN_SEASON, MAX_SEASON, season);
+        }
+        TeamRef home = team(fields, "home");
+        TeamRef away = team(fields, "away");
+        if (home.title().equals(away.title())) {
+            throw invalid("homeTitle and awayTitle are both '%s'", home.title());
+        }
+
+        Score goals = null;
+        if (given(fields, "homeGoals", "awayGoals")) {
+            goals = new Score(wholeNumber("homeGoals", fields.get("homeGoals")), wholeNumber("awayGoals", fields.get("awayGoals")));
+        }
+        XgPair xG = null;
+        if (given(fields, "homeXg", "awayXg")) {
+            xG = new XgPair(nonNegative("homeXg", fields.get("homeXg")), nonNegative("awayXg", fields.get("awayXg")));
+        }
+        Forecast forecast = null;
+        if (given(fields, "forecastWin", "forecastDraw", "forecastLoss")) {
+            forecast = new Forecast(probability("forecastWin", fields.get("forecastWin")),
+                    probability("forecastDraw", fields.get("forecastDraw")),
+                    probability("forecastLoss", fields.get("forecastLoss")));
+        }
+
+        String datetimeText = fields.get("datetime");
+        LocalDateTime datetime = null;
+        if (datetimeText != null) {
+            try {
+                datetime = LocalDateTime.parse(datetimeText.replace('T', ' '), DATETIME_FORMAT);
+            } catch (DateTimeParseException e) {
+                throw invalid("datetime must be yyyy-MM-dd HH:mm:ss, got '%s'", datetimeText);
+            }
+        }
+
+        String resultText = fields.get("isResult");
+        boolean result = goals != null;
+        if (resultText != null) {
+            if (!resultText.equalsIgnoreCase("true") && !resultText.equalsIgnoreCase("false")) {
+                throw invalid("isResult must be true or false, got '%s'", resultText);
+            }
+            result = Boolean.parseBoolean(resultText);
+            if (result != (goals != null)) {
+                throw invalid(result ? "isResult is true but there is no score" : "isResult is false but there is a score");
+            }
+        }
+        return new Match(0, result, home, away, goals, xG, datetime, forecast, league, season);
+    }
+
+    private static TeamRef team(Fields fields, String side) {
+        String title = required(fields, side + "Title");
+        return new TeamRef(fields.get(side + "Id"), title, fields.get(side + "ShortTitle"));
+    }
+
+    private static String required(Fields fields, String column) {
+        String value = fields.get(column);
+        if (value == null) {
+            throw invalid("%s is required", column);
+        }
+        return value;
+    }
+
+    // Values that only make sense together: true if all are given, false if none is
+    private static boolean given(Fields fields, String... columns) {
+        int count = 0;
+        for (String column : columns) {
+            if (fields.get(column) != null) {
+                count++;
+            }
+        }
+        if (count > 0 && count < columns.length) {
+            throw invalid("%s must be given together", String.join(", ", columns));
+        }
+        return count > 0;
+    }
+
+    private static int wholeNumber(String column, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 0) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw invalid("%s must be a whole number of at least 0, got '%s'", column, value);
+    }
+
+    private static double nonNegative(String column, String value) {
+        try {
+            double number = Double.parseDouble(value);
+            if (number >= 0 && Double.isFinite(number)) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw invalid("%s must be a number of at least 0, got '%s'", column, value);
+    }
+
+    private static double probability(String column, String value) {
+        double number = nonNegative(column, value);
+        if (number > 1) {
+            throw invalid("%s must be between 0 and 1, got '%s'", column, value);
+        }
+        return number;
+    }
+
+    private static InvalidRowException invalid(String format, Object... args) {
+        return new InvalidRowException(String.format(format, args));
+    }
+}
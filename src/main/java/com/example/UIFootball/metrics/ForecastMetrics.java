@@ -0,0 +1,25 @@
+package com.example.UIFootball.metrics;
+
+import com.example.UIFootball.analytics.ForecastEvaluator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+// Forecast quality meters over every played match that carries a forecast: how many were
+// scored, their mean Brier score and their mean log loss. Gauges read ForecastEvaluator on
+// scrape; the all-data score is cached there until a match changes.
+@Component
+public class ForecastMetrics {
+
+    public ForecastMetrics(ForecastEvaluator evaluator, MeterRegistry registry) {
+        Gauge.builder("match.forecast.matches", evaluator, forecasts -> forecasts.score(null, null, null).matches())
+                .description("Played matches whose forecast is scored")
+                .register(registry);
+        Gauge.builder("match.forecast.brier", evaluator, forecasts -> forecasts.score(null, null, null).brier())
+                .description("Mean three-outcome Brier score of the forecasts, 0 is perfect")
+                .register(registry);
+        Gauge.builder("match.forecast.logloss", evaluator, forecasts -> forecasts.score(null, null, null).logLoss())
+                .description("Mean negative log probability the forecasts gave the actual result")
+                .register(registry);
+    }
+}
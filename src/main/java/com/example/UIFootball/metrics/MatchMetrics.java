@@ -0,0 +1,77 @@
+package com.example.UIFootball.metrics;
+
+import com.example.UIFootball.service.LoadStats;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Dataset meters: how the data was loaded (duration, bytes, matches), its current size and
+// version, and the rate of adds, edits and deletes. Gauges read MatchService on scrape; the
+// mutation counters are bumped from the change listener, one increment per applied change.
+@Component
+public class MatchMetrics implements MatchChangeListener {
+
+    private final Counter added;
+    private final Counter updated;
+    private final Counter deleted;
+
+    public MatchMetrics(MatchService matchService, MeterRegistry registry) {
+        TimeGauge.builder("match.load.duration", matchService, TimeUnit.NANOSECONDS,
+                        service -> loadStats(service).elapsedNanos())
+                .description("Time taken by the last dataset load")
+                .register(registry);
+        Gauge.builder("match.load.bytes", matchService, service -> loadStats(service).bytes())
+                .description("Size of the file the dataset was loaded from")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("match.load.matches", matchService, service -> loadStats(service).matches())
+                .description("Matches read by the last dataset load")
+                .register(registry);
+        Gauge.builder("match.dataset.size", matchService, service -> service.getSnapshot().matches().size())
+                .description("Matches in the current snapshot")
+                .register(registry);
+        Gauge.builder("match.dataset.version", matchService, service -> service.getSnapshot().version())
+                .description("Version of the current snapshot, bumped by every change")
+                .register(registry);
+
+        added = mutations(registry, "add");
+        updated = mutations(registry, "update");
+        deleted = mutations(registry, "delete");
+        matchService.addChangeListener(this);
+    }
+
+    private static Counter mutations(MeterRegistry registry, String operation) {
+        return Counter.builder("match.mutations")
+                .description("Applied match changes")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    private static LoadStats loadStats(MatchService matchService) {
+        LoadStats stats = matchService.getLoadStats();
+        return stats != null ? stats : new LoadStats("none", 0, 0, 0, -1, 0, 0);
+    }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        if (change.before() == null) {
+            added.increment();
+        } else if (change.after() == null) {
+            deleted.increment();
+        } else {
+            updated.increment();
+        }
+    }
+}
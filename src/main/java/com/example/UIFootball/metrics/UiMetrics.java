@@ -0,0 +1,73 @@
+package com.example.UIFootball.metrics;
+
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinRequestInterceptor;
+import com.vaadin.flow.server.VaadinResponse;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Vaadin meters: open sessions, and per view the time from the start of the request that
+// navigates to the end of the navigation, which covers constructing the view, attaching it and
+// loading its first data
+@Component
+public class UiMetrics implements VaadinServiceInitListener {
+
+    private final MeterRegistry registry;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Map<String, Timer> navigationTimers = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> requestStart = new ThreadLocal<>();
+
+    public UiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("ui.sessions.active", activeSessions, AtomicInteger::get)
+                .description("Open Vaadin sessions")
+                .register(registry);
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionInitListener(init -> activeSessions.incrementAndGet());
+        event.getSource().addSessionDestroyListener(destroy -> activeSessions.decrementAndGet());
+        event.addVaadinRequestInterceptor(new VaadinRequestInterceptor() {
+            @Override
+            public void requestStart(VaadinRequest request, VaadinResponse response) {
+                requestStart.set(System.nanoTime());
+            }
+
+            @Override
+            public void handleException(VaadinRequest request, VaadinResponse response, VaadinSession session, Exception e) {
+            }
+
+            @Override
+            public void requestEnd(VaadinRequest request, VaadinResponse response, VaadinSession session) {
+                requestStart.remove();
+            }
+        });
+        event.getSource().addUIInitListener(init -> init.getUI().addAfterNavigationListener(navigation -> {
+            Long started = requestStart.get();
+            if (started == null || navigation.getActiveChain().isEmpty()) {
+                return;
+            }
+            String view = navigation.getActiveChain().get(0).getClass().getSimpleName();
+            navigationTimers.computeIfAbsent(view, this::navigationTimer).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }));
+    }
+
+    private Timer navigationTimer(String view) {
+        return Timer.builder("ui.view.navigation")
+                .description("Navigation time including view construction")
+                .tag("view", view)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.UIFootball.model;
+
+// Pre-match probabilities of a home win, a draw and an away win
+public record Forecast(double win, double draw, double loss) {
+}
@@ -0,0 +1,9 @@
+package com.example.UIFootball.model;
+
+// Identifies one league table, e.g. EPL 2023
+public record LeagueSeason(String league, int season) {
+
+    public static LeagueSeason of(Match match) {
+        return new LeagueSeason(match.league(), match.season());
+    }
+}
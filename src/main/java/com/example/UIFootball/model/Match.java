@@ -0,0 +1,54 @@
+package com.example.UIFootball.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// goals, xG and forecast are null for fixtures that have not been played yet
+public record Match(int id,
+                    boolean result,
+                    TeamRef home,
+                    TeamRef away,
+                    Score goals,
+                    XgPair xG,
+                    LocalDateTime datetime,
+                    Forecast forecast,
+                    String league,
+                    int season) {
+
+    // Kick-off order: by datetime with undated fixtures first, ties broken by id
+    public static final Comparator<Match> KICK_OFF = Comparator
+            .comparing(Match::datetime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingInt(Match::id);
+
+    public String homeTitle() {
+        return home != null ? home.title() : "N/A";
+    }
+
+    public String awayTitle() {
+        return away != null ? away.title() : "N/A";
+    }
+
+    public String scoreText() {
+        return goals != null ? goals.toString() : "N/A";
+    }
+
+    public boolean involves(String team) {
+        return team.equals(homeTitle()) || team.equals(awayTitle());
+    }
+
+    // This match with its teams and league name replaced by the shared instances from the
+    // dictionaries. MatchService applies it to every match it publishes, so a match that never
+    // enters the dataset (a rejected import row, an abandoned edit) does not grow them.
+    public Match interned() {
+        return new Match(id, result, TeamRef.intern(home), TeamRef.intern(away), goals, xG, datetime, forecast,
+                NameDictionary.LEAGUES.intern(league), season);
+    }
+
+    public Match withId(int id) {
+        return new Match(id, result, home, away, goals, xG, datetime, forecast, league, season);
+    }
+
+    public Match withTeamsAndScore(TeamRef home, TeamRef away, Score goals) {
+        return new Match(id, goals != null, home, away, goals, xG, datetime, forecast, league, season);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.UIFootball.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Append-only dictionary from names to dense int codes 0, 1, 2, ... Each distinct name is stored
+// once and its code never changes, so arrays indexed by code (per-team tallies, per-league
+// bitmaps) stay valid across snapshots; a new name just extends them. Lookups are lock-free.
+// Names are added as MatchService publishes them (see Match.interned), so only names that have
+// been in the dataset get a code; use find() to look up a name without adding it.
+public final class NameDictionary {
+
+    public static final NameDictionary TEAMS = new NameDictionary();
+    public static final NameDictionary LEAGUES = new NameDictionary();
+
+    public static final int NONE = -1;
+
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+    private volatile int size;
+
+    // Code of the name, assigning the next free one if it is new; NONE for null
+    public int code(String name) {
+        if (name == null) {
+            return NONE;
+        }
+        Integer code = codes.get(name);
+        return code != null ? code : add(name);
+    }
+
+    // Code of the name if it was seen before, else NONE
+    public int find(String name) {
+        Integer code = name == null ? null : codes.get(name);
+        return code != null ? code : NONE;
+    }
+
+    public String name(int code) {
+        return code == NONE ? null : names[code];
+    }
+
+    // The canonical instance equal to the given name
+    public String intern(String name) {
+        return name == null ? null : name(code(name));
+    }
+
+    // Upper bound (exclusive) of the codes assigned so far
+    public int size() { return size; }
+
+    private synchronized int add(String name) {
+        Integer existing = codes.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        int code = size;
+        if (code == names.length) {
+            names = Arrays.copyOf(names, code * 2);
+        }
+        names[code] = name;
+        size = code + 1;
+        codes.put(name, code);
+        return code;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.UIFootball.model;
+
+public record Score(int home, int away) {
+
+    public int outcome() {
+        return Integer.compare(home, away);
+    }
+
+    @Override
+    public String toString() {
+        return home + " - " + away;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.UIFootball.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+public record TeamRef(String id, String title, String shortTitle) {
+
+    private static final ConcurrentHashMap<TeamRef, TeamRef> CANONICAL = new ConcurrentHashMap<>();
+
+    public static TeamRef ofTitle(String title) {
+        return new TeamRef(null, title, null);
+    }
+
+    // The one shared instance equal to the given team; its title is registered in NameDictionary.TEAMS
+    public static TeamRef intern(TeamRef team) {
+        if (team == null) {
+            return null;
+        }
+        TeamRef canonical = CANONICAL.get(team);
+        if (canonical != null) {
+            return canonical;
+        }
+        canonical = new TeamRef(team.id(), NameDictionary.TEAMS.intern(team.title()), team.shortTitle());
+        TeamRef raced = CANONICAL.putIfAbsent(canonical, canonical);
+        return raced != null ? raced : canonical;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.UIFootball.model;
+
+// A (league, season, team) triple of NameDictionary codes packed into one long, for maps keyed by
+// it: league code + 1 in the top 16 bits, season in the next 16, team code (or NONE) in the low 32.
+public final class TeamSeasonKey {
+
+    private TeamSeasonKey() {
+    }
+
+    public static long of(int league, int season, int team) {
+        return ((long) (league + 1) << 48) | ((long) (season & 0xFFFF) << 32) | (team & 0xFFFFFFFFL);
+    }
+
+    public static int league(long key) { return (int) (key >>> 48) - 1; }
+
+    public static int season(long key) { return (int) ((key >>> 32) & 0xFFFF); }
+
+    public static int team(long key) { return (int) key; }
+}
@@ -0,0 +1,4 @@
+package com.example.UIFootball.model;
+
+public record XgPair(double home, double away) {
+}
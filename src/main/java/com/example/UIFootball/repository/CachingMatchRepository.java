@@ -0,0 +1,103 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.CacheStats;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import com.example.UIFootball.service.QueryResultCache;
+import com.example.UIFootball.standings.TeamStanding;
+
+import java.util.List;
+import java.util.Locale;
+
+// Puts one shared QueryResultCache in front of the configured backend, so the same filter or
+// table requested by many sessions is computed once per dataset version. Filters are
+// normalized first (blank values dropped, league and team lower-cased, as both backends compare
+// them case-insensitively). Any change to the data clears the cache; the filter choices are
+// already kept per snapshot and are passed through. This listener registers after the backend
+// it wraps, so by the time it clears the cache the backend has applied the change, and loads
+// that overlapped the change are dropped by the cache instead of stored under the new version.
+public class CachingMatchRepository implements MatchRepository, MatchChangeListener {
+
+    private record StandingsKey(boolean combined, String league, Integer season, String team) {
+    }
+
+    private final MatchRepository delegate;
+    private final MatchService matchService;
+    private final QueryResultCache cache;
+
+    public CachingMatchRepository(MatchRepository delegate, MatchService matchService, QueryResultCache cache) {
+        this.delegate = delegate;
+        this.matchService = matchService;
+        this.cache = cache;
+        matchService.addChangeListener(this);
+    }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() { return cache.stats(); }
+
+    public MatchRepository delegate() { return delegate; }
+
+    @Override
+    public String name() { return delegate.name(); }
+
+    @Override
+    public long version() { return delegate.version(); }
+
+    @Override
+    public MatchResults query(MatchFilter filter) {
+        MatchFilter key = normalize(filter);
+        return cache.get(snapshotVersion(), key, () -> delegate.query(key), results -> results.size() + 1L);
+    }
+
+    @Override
+    public List<String> seasons() { return delegate.seasons(); }
+
+    @Override
+    public List<String> leagues() { return delegate.leagues(); }
+
+    @Override
+    public List<String> teams() { return delegate.teams(); }
+
+    @Override
+    public List<TeamStanding> standings(String league, Integer season, String team) {
+        StandingsKey key = new StandingsKey(false, league, season, team);
+        return cache.get(snapshotVersion(), key, () -> List.copyOf(delegate.standings(league, season, team)), rows -> rows.size() + 1L);
+    }
+
+    @Override
+    public List<TeamStanding> combinedStandings(String league, Integer season, String team) {
+        StandingsKey key = new StandingsKey(true, league, season, team);
+        return cache.get(snapshotVersion(), key, () -> List.copyOf(delegate.combinedStandings(league, season, team)),
+                rows -> rows.size() + 1L);
+    }
+
+    private long snapshotVersion() {
+        return matchService.getSnapshot().version();
+    }
+
+    static MatchFilter normalize(MatchFilter filter) {
+        return new MatchFilter(blankToNull(filter.season()), lowerCase(filter.league()), lowerCase(filter.team()),
+                blankToNull(filter.matchId()));
+    }
+
+    private static String lowerCase(String value) {
+        return MatchFilter.isBlank(value) ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String blankToNull(String value) {
+        return MatchFilter.isBlank(value) ? null : value;
+    }
+}
@@ -0,0 +1,548 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.model.XgPair;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.Tally;
+import com.example.UIFootball.standings.TeamStanding;
+import jakarta.annotation.PreDestroy;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+// Embedded H2 backend. The matches live in one table with indexes on league, season, team ids
+// and datetime; filters, paging and the league tables are translated to SQL and run inside the
+// database, so only the requested page or table rows reach the heap. The table follows
+// MatchService as a change listener: a reset reloads it with batched inserts, each edit is one
+// INSERT, UPDATE or DELETE, and the changes of one snapshot are applied in one transaction. If a
+// batch cannot be applied, it is rolled back and the table is rebuilt from the snapshot, so it
+// never drifts from the dataset. A file URL (jdbc:h2:file:...) keeps the table off heap entirely.
+@Repository
+@ConditionalOnProperty(name = "match.repository", havingValue = "h2")
+public class H2MatchRepository implements MatchRepository, MatchChangeListener {
+    private static final Logger logger = LoggerFactory.getLogger(H2MatchRepository.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String COLUMNS = "id, result, home_id, home_title, home_short, away_id, away_title, away_short, "
+            + "home_goals, away_goals, home_xg, away_xg, match_datetime, forecast_w, forecast_d, forecast_l, league, season";
+    private static final String INSERT = "INSERT INTO matches (" + COLUMNS + ", home_key, away_key, league_key, seq) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE matches SET id = ?, result = ?, home_id = ?, home_title = ?, home_short = ?, "
+            + "away_id = ?, away_title = ?, away_short = ?, home_goals = ?, away_goals = ?, home_xg = ?, away_xg = ?, "
+            + "match_datetime = ?, forecast_w = ?, forecast_d = ?, forecast_l = ?, league = ?, season = ?, "
+            + "home_key = ?, away_key = ?, league_key = ? WHERE id = ?";
+
+    // Only played matches with a known score and both teams count towards a table
+    private static final String COUNTED = "home_goals IS NOT NULL AND home_title IS NOT NULL AND away_title IS NOT NULL "
+            + "AND league IS NOT NULL";
+
+    private final JdbcConnectionPool pool;
+    private volatile long version;
+    private long nextSeq;
+
+    @Autowired
+    public H2MatchRepository(MatchService matchService,
+                             @Value("${match.repository.h2.url:jdbc:h2:mem:matches;DB_CLOSE_DELAY=-1}") String url) {
+        this(url);
+        matchService.addChangeListener(this);
+    }
+
+    // Without a MatchService, e.g. for benchmarks: fill the table with load()
+    public H2MatchRepository(String url) {
+        this.pool = JdbcConnectionPool.create(url, "sa", "");
+    }
+
+    @Override
+    public String name() { return "h2"; }
+
+    @Override
+    public long version() { return version; }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        load(snapshot.matches(), snapshot.version());
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        onChanges(snapshot, List.of(change));
+    }
+
+    // A batch is one transaction; consecutive adds (e.g. an import) go in as JDBC batches
+    @Override
+    public void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+        try {
+            apply(changes);
+            version = snapshot.version();
+        } catch (SQLException e) {
+            logger.error("Could not apply {} match changes to H2, reloading the table", changes.size(), e);
+            load(snapshot.matches(), snapshot.version());
+        }
+    }
+
+    // Rolled back as a whole on failure. An edit or removal of a row that is not in the table
+    // fails too: the table has drifted from the dataset and only a reload can repair it.
+    private void apply(List<MatchChange> changes) throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                int pending = 0;
+                for (MatchChange change : changes) {
+                    if (change.before() == null) {
+                        bindInsert(insert, change.after(), nextSeq++);
+                        insert.addBatch();
+                        if (++pending % BATCH_SIZE == 0) {
+                            insert.executeBatch();
+                        }
+                        continue;
+                    }
+                    if (pending > 0) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                    int rows;
+                    if (change.after() == null) {
+                        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM matches WHERE id = ?")) {
+                            delete.setInt(1, change.before().id());
+                            rows = delete.executeUpdate();
+                        }
+                    } else {
+                        try (PreparedStatement update = connection.prepareStatement(UPDATE)) {
+                            int next = bindMatch(update, change.after());
+                            update.setInt(next, change.before().id());
+                            rows = update.executeUpdate();
+                        }
+                    }
+                    if (rows != 1) {
+                        throw new SQLException("Match " + change.before().id() + " is not in the table");
+                    }
+                }
+                if (pending > 0) {
+                    insert.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+                throw e;
+            }
+        }
+    }
+
+    // Recreates the table and bulk-loads it in one transaction. Indexes are built after the
+    // rows are in, which is cheaper than maintaining them row by row during the load.
+    public void load(List<Match> matches, long version) {
+        long start = System.nanoTime();
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS matches");
+                statement.execute("CREATE TABLE matches (id INT PRIMARY KEY, result BOOLEAN NOT NULL, "
+                        + "home_id VARCHAR, home_title VARCHAR, home_short VARCHAR, "
+                        + "away_id VARCHAR, away_title VARCHAR, away_short VARCHAR, "
+                        + "home_goals INT, away_goals INT, home_xg DOUBLE PRECISION, away_xg DOUBLE PRECISION, "
+                        + "match_datetime TIMESTAMP, forecast_w DOUBLE PRECISION, forecast_d DOUBLE PRECISION, "
+                        + "forecast_l DOUBLE PRECISION, league VARCHAR, season INT NOT NULL, "
+                        + "home_key VARCHAR, away_key VARCHAR, league_key VARCHAR, seq BIGINT NOT NULL)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                long seq = 0;
+                for (Match match : matches) {
+                    bindInsert(insert, match, seq++);
+                    insert.addBatch();
+                    if (seq % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+                nextSeq = seq;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX matches_league ON matches (league_key, season)");
+                statement.execute("CREATE INDEX matches_season ON matches (season)");
+                statement.execute("CREATE INDEX matches_home ON matches (home_id)");
+                statement.execute("CREATE INDEX matches_away ON matches (away_id)");
+                statement.execute("CREATE INDEX matches_datetime ON matches (match_datetime)");
+                statement.execute("CREATE INDEX matches_seq ON matches (seq)");
+            }
+            connection.commit();
+            this.version = version;
+            logger.info("Loaded {} matches into H2 in {} ms", matches.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not load matches into H2", e);
+        }
+    }
+
+    @Override
+    public MatchResults query(MatchFilter filter) {
+        Where where = Where.of(filter);
+        long queriedVersion = version;
+        int size = queryForInt("SELECT COUNT(*) FROM matches WHERE " + where.sql(), where.params());
+        return new SqlResults(queriedVersion, filter, where, size);
+    }
+
+    @Override
+    public List<String> seasons() {
+        return queryForStrings("SELECT DISTINCT CAST(season AS VARCHAR) FROM matches ORDER BY 1");
+    }
+
+    @Override
+    public List<String> leagues() {
+        return queryForStrings("SELECT DISTINCT league FROM matches WHERE league IS NOT NULL ORDER BY 1");
+    }
+
+    @Override
+    public List<String> teams() {
+        return queryForStrings("SELECT home_title FROM matches WHERE home_title IS NOT NULL "
+                + "UNION SELECT away_title FROM matches WHERE away_title IS NOT NULL ORDER BY 1");
+    }
+
+    @Override
+    public List<TeamStanding> standings(String league, Integer season, String team) {
+        return standings(league, season, team, false);
+    }
+
+    @Override
+    public List<TeamStanding> combinedStandings(String league, Integer season, String team) {
+        return standings(league, season, team, true);
+    }
+
+    // Each match contributes a home row and an away row; both are grouped per team (and per
+    // league and season unless combined) inside the database. League or season is reported only
+    // when every grouped match shares it, as on the in-memory combined tables.
+    private List<TeamStanding> standings(String league, Integer season, String team, boolean combined) {
+        List<Object> params = new ArrayList<>();
+        String home = side("home_title", "home_goals", "away_goals", 1, league, season, team, params);
+        String away = side("away_title", "away_goals", "home_goals", 0, league, season, team, params);
+        String groupColumns = combined
+                ? "CASE WHEN COUNT(DISTINCT league) = 1 THEN MIN(league) END, "
+                + "CASE WHEN COUNT(DISTINCT season) = 1 THEN MIN(season) END, team"
+                : "league, season, team";
+        String sql = "SELECT " + groupColumns + ", "
+                + tallySums(1) + ", " + tallySums(0)
+                + " FROM (" + home + " UNION ALL " + away + ") sides"
+                + " GROUP BY " + (combined ? "team" : "league, season, team");
+
+        List<TeamStanding> rows = new ArrayList<>();
+        try (Connection connection = pool.getConnection();
+             PreparedStatement statement = prepare(connection, sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                int rowSeason = resultSet.getInt(2);
+                Integer groupSeason = resultSet.wasNull() ? null : rowSeason;
+                rows.add(new TeamStanding(resultSet.getString(1), groupSeason, resultSet.getString(3),
+                        tally(resultSet, 4), tally(resultSet, 10)));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Standings query failed", e);
+        }
+        rows.sort(TeamStanding.TABLE_ORDER);
+        return rows;
+    }
+
+    private static String side(String teamColumn, String goalsFor, String goalsAgainst, int isHome,
+                               String league, Integer season, String team, List<Object> params) {
+        StringBuilder sql = new StringBuilder("SELECT league, season, ").append(teamColumn).append(" AS team, ")
+                .append(isHome).append(" AS is_home, ").append(goalsFor).append(" AS gf, ")
+                .append(goalsAgainst).append(" AS ga FROM matches WHERE ").append(COUNTED);
+        if (league != null) {
+            sql.append(" AND league = ?");
+            params.add(league);
+        }
+        if (season != null) {
+            sql.append(" AND season = ?");
+            params.add(season);
+        }
+        if (team != null) {
+            sql.append(" AND ").append(teamColumn).append(" = ?");
+            params.add(team);
+        }
+        return sql.toString();
+    }
+
+    // played, wins, draws, losses, goals for, goals against of one side
+    private static String tallySums(int isHome) {
+        String side = "is_home = " + isHome;
+        return "SUM(CASE WHEN " + side + " THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN " + side + " AND gf > ga THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN " + side + " AND gf = ga THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN " + side + " AND gf < ga THEN 1 ELSE 0 END), "
+                + "SUM(CASE WHEN " + side + " THEN gf ELSE 0 END), "
+                + "SUM(CASE WHEN " + side + " THEN ga ELSE 0 END)";
+    }
+
+    private static Tally tally(ResultSet resultSet, int column) throws SQLException {
+        return new Tally(resultSet.getInt(column), resultSet.getInt(column + 1), resultSet.getInt(column + 2),
+                resultSet.getInt(column + 3), resultSet.getInt(column + 4), resultSet.getInt(column + 5));
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+
+    // A filter as a WHERE clause with its bind values. The same substring and case rules as
+    // MatchFilterIndex: league is compared case-insensitively, team and id are substring searches.
+    private record Where(String sql, List<Object> params) {
+
+        static Where of(MatchFilter filter) {
+            List<String> conditions = new ArrayList<>();
+            List<Object> params = new ArrayList<>();
+            if (!MatchFilter.isBlank(filter.season())) {
+                Integer season = parseSeason(filter.season());
+                if (season == null) {
+                    conditions.add("1 = 0");
+                } else {
+                    conditions.add("season = ?");
+                    params.add(season);
+                }
+            }
+            if (!MatchFilter.isBlank(filter.league())) {
+                conditions.add("league_key = ?");
+                params.add(filter.league().toLowerCase(Locale.ROOT));
+            }
+            if (!MatchFilter.isBlank(filter.team())) {
+                String pattern = "%" + escapeLike(filter.team().toLowerCase(Locale.ROOT)) + "%";
+                conditions.add("(home_key LIKE ? ESCAPE '\\' OR away_key LIKE ? ESCAPE '\\')");
+                params.add(pattern);
+                params.add(pattern);
+            }
+            if (!MatchFilter.isBlank(filter.matchId())) {
+                conditions.add("CAST(id AS VARCHAR) LIKE ? ESCAPE '\\'");
+                params.add("%" + escapeLike(filter.matchId()) + "%");
+            }
+            return new Where(conditions.isEmpty() ? "1 = 1" : String.join(" AND ", conditions), params);
+        }
+
+        // Only the exact text of a season number matches, as with the in-memory season index
+        private static Integer parseSeason(String text) {
+            try {
+                int season = Integer.parseInt(text);
+                return String.valueOf(season).equals(text) ? season : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String escapeLike(String text) {
+            return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+    }
+
+    // Count taken once at query time; each page is its own LIMIT/OFFSET query. Unlike the
+    // in-memory result set, pages read the live table, so an edit between pages is visible.
+    // forEach instead walks all rows with one query, so an export sees a single state.
+    private final class SqlResults implements MatchResults {
+
+        private final long version;
+        private final MatchFilter filter;
+        private final Where where;
+        private final int size;
+
+        SqlResults(long version, MatchFilter filter, Where where, int size) {
+            this.version = version;
+            this.filter = filter;
+            this.where = where;
+            this.size = size;
+        }
+
+        @Override
+        public long version() { return version; }
+
+        @Override
+        public MatchFilter filter() { return filter; }
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public List<Match> page(MatchSort sort, int offset, int limit) {
+            List<Object> params = new ArrayList<>(where.params());
+            params.add(limit);
+            params.add(offset);
+            String sql = "SELECT " + COLUMNS + " FROM matches WHERE " + where.sql()
+                    + " ORDER BY " + orderBy(sort) + " LIMIT ? OFFSET ?";
+            List<Match> page = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+            try (Connection connection = pool.getConnection();
+                 PreparedStatement statement = prepare(connection, sql, params);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    page.add(readMatch(resultSet));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Match page query failed", e);
+            }
+            return page;
+        }
+
+        // One ordered query in one read transaction, streamed through a forward-only cursor with
+        // lazy execution, so rows are fetched as the action consumes them rather than page by page
+        @Override
+        public void forEach(MatchSort sort, Consumer<? super Match> action) {
+            String sql = "SELECT " + COLUMNS + " FROM matches WHERE " + where.sql() + " ORDER BY " + orderBy(sort);
+            try (Connection connection = pool.getConnection()) {
+                connection.setAutoCommit(false);
+                try (Statement session = connection.createStatement()) {
+                    session.execute("SET LAZY_QUERY_EXECUTION TRUE");
+                }
+                try (PreparedStatement statement = prepare(connection, sql, where.params())) {
+                    statement.setFetchSize(FETCH_SIZE);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            action.accept(readMatch(resultSet));
+                        }
+                    }
+                } finally {
+                    connection.rollback();
+                    try (Statement session = connection.createStatement()) {
+                        session.execute("SET LAZY_QUERY_EXECUTION FALSE");
+                    }
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Match export query failed", e);
+            }
+        }
+    }
+
+    // Ties keep list order (seq), and a descending sort reverses the whole order, matching the
+    // stable sort permutations of MatchFilterIndex
+    private static String orderBy(MatchSort sort) {
+        if (sort.field() == null) {
+            return "seq";
+        }
+        String column = switch (sort.field()) {
+            case ID -> "id";
+            case SEASON -> "season";
+            case LEAGUE -> "league";
+            case DATETIME -> "match_datetime";
+            case HOME_TEAM -> "COALESCE(home_title, 'N/A')";
+            case AWAY_TEAM -> "COALESCE(away_title, 'N/A')";
+        };
+        return sort.descending() ? column + " DESC NULLS LAST, seq DESC" : column + " ASC NULLS FIRST, seq ASC";
+    }
+
+    private static void bindInsert(PreparedStatement statement, Match match, long seq) throws SQLException {
+        int next = bindMatch(statement, match);
+        statement.setLong(next, seq);
+    }
+
+    // Binds the columns in COLUMNS order followed by the lower-cased keys; returns the next index
+    private static int bindMatch(PreparedStatement statement, Match match) throws SQLException {
+        int i = 1;
+        statement.setInt(i++, match.id());
+        statement.setBoolean(i++, match.result());
+        i = bindTeam(statement, i, match.home());
+        i = bindTeam(statement, i, match.away());
+        statement.setObject(i++, match.goals() != null ? match.goals().home() : null, Types.INTEGER);
+        statement.setObject(i++, match.goals() != null ? match.goals().away() : null, Types.INTEGER);
+        statement.setObject(i++, match.xG() != null ? match.xG().home() : null, Types.DOUBLE);
+        statement.setObject(i++, match.xG() != null ? match.xG().away() : null, Types.DOUBLE);
+        statement.setObject(i++, match.datetime(), Types.TIMESTAMP);
+        statement.setObject(i++, match.forecast() != null ? match.forecast().win() : null, Types.DOUBLE);
+        statement.setObject(i++, match.forecast() != null ? match.forecast().draw() : null, Types.DOUBLE);
+        statement.setObject(i++, match.forecast() != null ? match.forecast().loss() : null, Types.DOUBLE);
+        statement.setString(i++, match.league());
+        statement.setInt(i++, match.season());
+        statement.setString(i++, match.home() != null ? match.homeTitle().toLowerCase(Locale.ROOT) : null);
+        statement.setString(i++, match.away() != null ? match.awayTitle().toLowerCase(Locale.ROOT) : null);
+        statement.setString(i++, match.league() != null ? match.league().toLowerCase(Locale.ROOT) : null);
+        return i;
+    }
+
+    private static int bindTeam(PreparedStatement statement, int i, TeamRef team) throws SQLException {
+        statement.setString(i++, team != null ? team.id() : null);
+        statement.setString(i++, team != null ? team.title() : null);
+        statement.setString(i++, team != null ? team.shortTitle() : null);
+        return i;
+    }
+
+    private static Match readMatch(ResultSet resultSet) throws SQLException {
+        Score goals = null;
+        int homeGoals = resultSet.getInt("home_goals");
+        if (!resultSet.wasNull()) {
+            goals = new Score(homeGoals, resultSet.getInt("away_goals"));
+        }
+        XgPair xG = null;
+        double homeXg = resultSet.getDouble("home_xg");
+        if (!resultSet.wasNull()) {
+            xG = new XgPair(homeXg, resultSet.getDouble("away_xg"));
+        }
+        Forecast forecast = null;
+        double win = resultSet.getDouble("forecast_w");
+        if (!resultSet.wasNull()) {
+            forecast = new Forecast(win, resultSet.getDouble("forecast_d"), resultSet.getDouble("forecast_l"));
+        }
+        return new Match(resultSet.getInt("id"), resultSet.getBoolean("result"),
+                readTeam(resultSet, "home"), readTeam(resultSet, "away"), goals, xG,
+                resultSet.getObject("match_datetime", LocalDateTime.class), forecast,
+                resultSet.getString("league"), resultSet.getInt("season"));
+    }
+
+    private static TeamRef readTeam(ResultSet resultSet, String side) throws SQLException {
+        String title = resultSet.getString(side + "_title");
+        return title == null ? null
+                : new TeamRef(resultSet.getString(side + "_id"), title, resultSet.getString(side + "_short"));
+    }
+
+    private int queryForInt(String sql, List<Object> params) {
+        try (Connection connection = pool.getConnection();
+             PreparedStatement statement = prepare(connection, sql, params);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Query failed: " + sql, e);
+        }
+    }
+
+    private List<String> queryForStrings(String sql) {
+        List<String> values = new ArrayList<>();
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                values.add(resultSet.getString(1));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Query failed: " + sql, e);
+        }
+        return values;
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, List<Object> params) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < params.size(); i++) {
+            statement.setObject(i + 1, params.get(i));
+        }
+        return statement;
+    }
+}
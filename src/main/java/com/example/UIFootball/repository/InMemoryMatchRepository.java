@@ -0,0 +1,55 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.example.UIFootball.standings.TeamStanding;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// The default backend: bitmap-indexed snapshots from MatchService and the incrementally
+// maintained tables of StandingsEngine, all on heap.
+@Repository
+@ConditionalOnProperty(name = "match.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryMatchRepository implements MatchRepository {
+
+    private final MatchService matchService;
+    private final StandingsEngine standingsEngine;
+
+    public InMemoryMatchRepository(MatchService matchService, StandingsEngine standingsEngine) {
+        this.matchService = matchService;
+        this.standingsEngine = standingsEngine;
+    }
+
+    @Override
+    public String name() { return "memory"; }
+
+    // Queries read the snapshot directly, only the tables trail it
+    @Override
+    public long version() { return standingsEngine.version(); }
+
+    @Override
+    public MatchResults query(MatchFilter filter) { return matchService.query(filter); }
+
+    @Override
+    public List<String> seasons() { return matchService.getUniqueSeasons(); }
+
+    @Override
+    public List<String> leagues() { return matchService.getUniqueLeagues(); }
+
+    @Override
+    public List<String> teams() { return matchService.getUniqueTeams(); }
+
+    @Override
+    public List<TeamStanding> standings(String league, Integer season, String team) {
+        return standingsEngine.standings(league, season, team);
+    }
+
+    @Override
+    public List<TeamStanding> combinedStandings(String league, Integer season, String team) {
+        return standingsEngine.combined(league, season, team);
+    }
+}
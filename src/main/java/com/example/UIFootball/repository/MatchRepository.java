@@ -0,0 +1,35 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.standings.TeamStanding;
+
+import java.util.List;
+
+// Read side of the match dataset as the views query it: filtered paging, the filter choices and
+// the league tables. Implementations decide where the work happens; edits always go through
+// MatchService, which every implementation follows as a change listener or reads directly.
+// The backend is chosen with match.repository (memory or h2).
+public interface MatchRepository {
+
+    String name();
+
+    // Dataset version the backend's answers reflect. It moves only after a change is applied, so
+    // reading it before a query never labels older data with a newer version.
+    long version();
+
+    // Evaluates the filter; the result is then counted and paged without re-filtering where the backend allows
+    MatchResults query(MatchFilter filter);
+
+    List<String> seasons();
+
+    List<String> leagues();
+
+    List<String> teams();
+
+    // One row per team and (league, season); null means all leagues, seasons or teams
+    List<TeamStanding> standings(String league, Integer season, String team);
+
+    // One row per team over everything matching, e.g. an all-time table
+    List<TeamStanding> combinedStandings(String league, Integer season, String team);
+}
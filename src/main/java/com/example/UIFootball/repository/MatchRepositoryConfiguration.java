@@ -0,0 +1,31 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.QueryResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// The MatchRepository the views and the API receive: the backend selected by match.repository
+// behind the shared result cache sized by match.cache.*, timed from the outside
+@Configuration
+public class MatchRepositoryConfiguration {
+
+    @Bean
+    @Primary
+    public MeteredMatchRepository meteredMatchRepository(MatchService matchService, MeterRegistry meterRegistry,
+                                                        ObjectProvider<InMemoryMatchRepository> memory,
+                                                        ObjectProvider<H2MatchRepository> h2,
+                                                        @Value("${match.cache.max-entries:1000}") int maxEntries,
+                                                        @Value("${match.cache.max-weight:2000000}") long maxWeight) {
+        MatchRepository backend = memory.getIfAvailable();
+        if (backend == null) {
+            backend = h2.getObject();
+        }
+        CachingMatchRepository cached = new CachingMatchRepository(backend, matchService, new QueryResultCache(maxEntries, maxWeight));
+        return new MeteredMatchRepository(cached, meterRegistry);
+    }
+}
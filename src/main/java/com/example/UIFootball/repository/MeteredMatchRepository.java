@@ -0,0 +1,104 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.standings.TeamStanding;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Times the queries the views and the API issue, cache hits included, so the histograms show
+// what a user waits for. Result sizes are recorded as the number of rows a query matched.
+// The cache counters are read from CachingMatchRepository on scrape.
+public class MeteredMatchRepository implements MatchRepository {
+
+    private final MatchRepository delegate;
+    private final Timer filterTimer;
+    private final Timer standingsTimer;
+    private final Timer combinedTimer;
+    private final DistributionSummary filterRows;
+    private final DistributionSummary standingsRows;
+
+    public MeteredMatchRepository(CachingMatchRepository delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.filterTimer = timer(registry, "match.query.filter", "kind", "matches");
+        this.standingsTimer = timer(registry, "match.query.standings", "kind", "tables");
+        this.combinedTimer = timer(registry, "match.query.standings", "kind", "combined");
+        this.filterRows = rows(registry, "matches");
+        this.standingsRows = rows(registry, "standings");
+
+        FunctionCounter.builder("match.cache.requests", delegate, repository -> repository.stats().hits())
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("match.cache.requests", delegate, repository -> repository.stats().misses())
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("match.cache.evictions", delegate, repository -> repository.stats().evictions())
+                .register(registry);
+        FunctionCounter.builder("match.cache.invalidations", delegate, repository -> repository.stats().invalidations())
+                .register(registry);
+        Gauge.builder("match.cache.entries", delegate, repository -> repository.stats().entries()).register(registry);
+        Gauge.builder("match.cache.weight", delegate, repository -> repository.stats().weight())
+                .baseUnit("rows").register(registry);
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String tag, String value) {
+        return Timer.builder(name)
+                .tag(tag, value)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static DistributionSummary rows(MeterRegistry registry, String kind) {
+        return DistributionSummary.builder("match.query.rows")
+                .description("Rows matched by a query")
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public String name() { return delegate.name(); }
+
+    @Override
+    public long version() { return delegate.version(); }
+
+    @Override
+    public MatchResults query(MatchFilter filter) {
+        long start = System.nanoTime();
+        MatchResults results = delegate.query(filter);
+        filterTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        filterRows.record(results.size());
+        return results;
+    }
+
+    @Override
+    public List<String> seasons() { return delegate.seasons(); }
+
+    @Override
+    public List<String> leagues() { return delegate.leagues(); }
+
+    @Override
+    public List<String> teams() { return delegate.teams(); }
+
+    @Override
+    public List<TeamStanding> standings(String league, Integer season, String team) {
+        long start = System.nanoTime();
+        List<TeamStanding> rows = delegate.standings(league, season, team);
+        standingsTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        standingsRows.record(rows.size());
+        return rows;
+    }
+
+    @Override
+    public List<TeamStanding> combinedStandings(String league, Integer season, String team) {
+        long start = System.nanoTime();
+        List<TeamStanding> rows = delegate.combinedStandings(league, season, team);
+        combinedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        standingsRows.record(rows.size());
+        return rows;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.UIFootball.service;
+
+// Figures reported for one dataset load, either a JSON parse or a binary snapshot open.
+// allocatedBytes is -1 when the JVM does not support per-thread allocation accounting.
+public record LoadStats(String source, int matches, long bytes, long elapsedNanos, long allocatedBytes, int chunks, int parallelism) {
+
+    public double elapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    public double megabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (bytes / (1024.0 * 1024.0)) / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    public double matchesPerSecond() {
+        return elapsedNanos == 0 ? 0 : matches / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d matches, %.1f KB in %.1f ms (%.1f MB/s, %.0f matches/s), %s allocated, %d chunks on %d threads",
+                source, matches, bytes / 1024.0, elapsedMillis(), megabytesPerSecond(), matchesPerSecond(),
+                allocatedBytes < 0 ? "n/a" : String.format("%.1f MB", allocatedBytes / (1024.0 * 1024.0)),
+                chunks, parallelism);
+    }
+}
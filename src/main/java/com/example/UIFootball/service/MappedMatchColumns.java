@@ -0,0 +1,139 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.model.XgPair;
+
+import java.nio.MappedByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.UIFootball.service.MatchSnapshotFile.*;
+
+// Read-only columnar view over a mapped MatchSnapshotFile. Column values are read straight from
+// the mapping, off-heap; only the small string and team dictionaries are copied onto the heap.
+public final class MappedMatchColumns {
+
+    private final MappedByteBuffer buffer;
+    private final int count;
+    private final String[] strings;
+    private final TeamRef[] teams;
+
+    private final int idOffset;
+    private final int flagsOffset;
+    private final int seasonOffset;
+    private final int leagueOffset;
+    private final int homeTeamOffset;
+    private final int awayTeamOffset;
+    private final int homeGoalsOffset;
+    private final int awayGoalsOffset;
+    private final int homeXgOffset;
+    private final int awayXgOffset;
+    private final int winOffset;
+    private final int drawOffset;
+    private final int lossOffset;
+    private final int datetimeOffset;
+
+    MappedMatchColumns(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.count = buffer.getInt(PAYLOAD_OFFSET);
+        int stringCount = buffer.getInt(PAYLOAD_OFFSET + 4);
+        int teamCount = buffer.getInt(PAYLOAD_OFFSET + 8);
+
+        int position = HEADER_SIZE;
+        strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = buffer.getInt(position);
+            strings[i] = readString(buffer, position + 4, length);
+            position += 4 + length;
+        }
+        teams = new TeamRef[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            teams[i] = new TeamRef(string(buffer.getInt(position)), string(buffer.getInt(position + 4)),
+                    string(buffer.getInt(position + 8)));
+            position += 12;
+        }
+
+        idOffset = position;
+        flagsOffset = idOffset + count * 4;
+        seasonOffset = flagsOffset + count;
+        leagueOffset = seasonOffset + count * 2;
+        homeTeamOffset = leagueOffset + count * 4;
+        awayTeamOffset = homeTeamOffset + count * 4;
+        homeGoalsOffset = awayTeamOffset + count * 4;
+        awayGoalsOffset = homeGoalsOffset + count * 2;
+        homeXgOffset = awayGoalsOffset + count * 2;
+        awayXgOffset = homeXgOffset + count * 8;
+        winOffset = awayXgOffset + count * 8;
+        drawOffset = winOffset + count * 8;
+        lossOffset = drawOffset + count * 8;
+        datetimeOffset = lossOffset + count * 8;
+        if (datetimeOffset + (long) count * 8 > buffer.limit()) {
+            throw new IllegalStateException("Truncated match snapshot file");
+        }
+    }
+
+    public int size() { return count; }
+
+    public int id(int row) { return buffer.getInt(idOffset + row * 4); }
+
+    public int season(int row) { return buffer.getShort(seasonOffset + row * 2); }
+
+    public String league(int row) { return string(buffer.getInt(leagueOffset + row * 4)); }
+
+    public TeamRef home(int row) { return team(buffer.getInt(homeTeamOffset + row * 4)); }
+
+    public TeamRef away(int row) { return team(buffer.getInt(awayTeamOffset + row * 4)); }
+
+    public boolean isResult(int row) { return (flags(row) & FLAG_RESULT) != 0; }
+
+    public boolean hasGoals(int row) { return (flags(row) & FLAG_GOALS) != 0; }
+
+    public int homeGoals(int row) { return buffer.getShort(homeGoalsOffset + row * 2); }
+
+    public int awayGoals(int row) { return buffer.getShort(awayGoalsOffset + row * 2); }
+
+    public boolean hasXg(int row) { return (flags(row) & FLAG_XG) != 0; }
+
+    public double homeXg(int row) { return buffer.getDouble(homeXgOffset + row * 8); }
+
+    public double awayXg(int row) { return buffer.getDouble(awayXgOffset + row * 8); }
+
+    public boolean hasForecast(int row) { return (flags(row) & FLAG_FORECAST) != 0; }
+
+    public double win(int row) { return buffer.getDouble(winOffset + row * 8); }
+
+    public double draw(int row) { return buffer.getDouble(drawOffset + row * 8); }
+
+    public double loss(int row) { return buffer.getDouble(lossOffset + row * 8); }
+
+    public LocalDateTime datetime(int row) {
+        return (flags(row) & FLAG_DATETIME) != 0 ? fromEpochSecond(buffer.getLong(datetimeOffset + row * 8)) : null;
+    }
+
+    public Match match(int row) {
+        return new Match(id(row), isResult(row), home(row), away(row),
+                hasGoals(row) ? new Score(homeGoals(row), awayGoals(row)) : null,
+                hasXg(row) ? new XgPair(homeXg(row), awayXg(row)) : null,
+                datetime(row),
+                hasForecast(row) ? new Forecast(win(row), draw(row), loss(row)) : null,
+                league(row), season(row));
+    }
+
+    public List<Match> toMatches() {
+        List<Match> matches = new ArrayList<>(count);
+        for (int row = 0; row < count; row++) {
+            matches.add(match(row));
+        }
+        return matches;
+    }
+
+    private int flags(int row) { return buffer.get(flagsOffset + row); }
+
+    private String string(int code) { return code == NONE ? null : strings[code]; }
+
+    private TeamRef team(int code) { return code == NONE ? null : teams[code]; }
+}
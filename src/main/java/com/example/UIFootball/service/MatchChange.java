@@ -0,0 +1,7 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+// One published mutation: before is null for an add, after is null for a delete
+public record MatchChange(Match before, Match after) {
+}
@@ -0,0 +1,22 @@
+package com.example.UIFootball.service;
+
+import java.util.List;
+
+// Keeps state derived from the match data (aggregates, indexes) in step with MatchService.
+// Calls arrive one at a time, in publication order, with the writer lock held.
+public interface MatchChangeListener {
+
+    // Rebuild everything from this snapshot
+    void onReset(MatchSnapshot snapshot);
+
+    // Apply a single change; snapshot is the version that already contains it
+    void onChange(MatchSnapshot snapshot, MatchChange change);
+
+    // Apply every change published with one snapshot, in order. Listeners whose per-change update
+    // copies or replays a large structure override this to do that work once for the whole batch.
+    default void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+        for (MatchChange change : changes) {
+            onChange(snapshot, change);
+        }
+    }
+}
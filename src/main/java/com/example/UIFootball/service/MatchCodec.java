@@ -0,0 +1,87 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.model.XgPair;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Compact binary form of a single Match, used for journal records
+final class MatchCodec {
+
+    private MatchCodec() {
+    }
+
+    static void write(DataOutput out, Match match) throws IOException {
+        out.writeInt(match.id());
+        out.writeBoolean(match.result());
+        writeTeam(out, match.home());
+        writeTeam(out, match.away());
+        out.writeBoolean(match.goals() != null);
+        if (match.goals() != null) {
+            out.writeShort(match.goals().home());
+            out.writeShort(match.goals().away());
+        }
+        out.writeBoolean(match.xG() != null);
+        if (match.xG() != null) {
+            out.writeDouble(match.xG().home());
+            out.writeDouble(match.xG().away());
+        }
+        out.writeBoolean(match.datetime() != null);
+        if (match.datetime() != null) {
+            out.writeLong(match.datetime().toEpochSecond(ZoneOffset.UTC));
+        }
+        out.writeBoolean(match.forecast() != null);
+        if (match.forecast() != null) {
+            out.writeDouble(match.forecast().win());
+            out.writeDouble(match.forecast().draw());
+            out.writeDouble(match.forecast().loss());
+        }
+        writeString(out, match.league());
+        out.writeShort(match.season());
+    }
+
+    static Match read(DataInput in) throws IOException {
+        int id = in.readInt();
+        boolean result = in.readBoolean();
+        TeamRef home = readTeam(in);
+        TeamRef away = readTeam(in);
+        Score goals = in.readBoolean() ? new Score(in.readShort(), in.readShort()) : null;
+        XgPair xG = in.readBoolean() ? new XgPair(in.readDouble(), in.readDouble()) : null;
+        LocalDateTime datetime = in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC) : null;
+        Forecast forecast = in.readBoolean() ? new Forecast(in.readDouble(), in.readDouble(), in.readDouble()) : null;
+        String league = readString(in);
+        int season = in.readShort();
+        return new Match(id, result, home, away, goals, xG, datetime, forecast, league, season);
+    }
+
+    private static void writeTeam(DataOutput out, TeamRef team) throws IOException {
+        out.writeBoolean(team != null);
+        if (team != null) {
+            writeString(out, team.id());
+            writeString(out, team.title());
+            writeString(out, team.shortTitle());
+        }
+    }
+
+    private static TeamRef readTeam(DataInput in) throws IOException {
+        return in.readBoolean() ? new TeamRef(readString(in), readString(in), readString(in)) : null;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
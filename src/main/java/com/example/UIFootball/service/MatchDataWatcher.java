@@ -0,0 +1,298 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+// Hot reload of a scraped all_matches.json dropped next to the running app. A watcher thread
+// waits for the file to settle, parses it off the request path, diffs it by match id against
+// the last file applied (at first the bundled all_matches.json the dataset was built from) and
+// hands only that diff to MatchService, which publishes it as one new snapshot; the standings
+// and repository listeners update from the same diff. Matches added or edited in the app are not
+// part of any file, so they are never removed or reverted by a reload: a file change to a match
+// edited or deleted since is skipped, and a new file match whose id is taken gets a free one.
+// Sessions keep reading the previous snapshot until the swap. Replace the file with an atomic
+// move to avoid parsing a half-written copy; a file that fails to parse is ignored until it
+// changes again. With a journal, the last file applied and the ids its matches were given are
+// saved next to it (watched.state), so after a restart the next reload diffs against what the
+// replayed dataset already contains instead of adding the file's matches a second time.
+@Component
+public class MatchDataWatcher {
+    private static final Logger logger = LoggerFactory.getLogger(MatchDataWatcher.class);
+
+    static final String STATE_FILE = "watched.state";
+    private static final int STATE_MAGIC = 0x55495753; // "UIWS"
+    private static final int STATE_VERSION = 1;
+
+    private final MatchService matchService;
+    private final Path file;
+    private final Duration settle;
+    private WatchService watchService;
+    private Thread thread;
+    private FileTime lastModified;
+    private long lastSize = -1;
+    // The last file applied, by file id, first occurrence of an id only; null until the first reload
+    private Map<Integer, Match> appliedFile;
+    // File ids stored under a different id in the dataset because theirs was already taken
+    private final Map<Integer, Integer> liveIds = new HashMap<>();
+
+    public MatchDataWatcher(MatchService matchService,
+                            @Value("${match.data.watch-path:}") String file,
+                            @Value("${match.data.watch-settle:PT0.5S}") Duration settle) {
+        this.matchService = matchService;
+        this.file = file == null || file.isBlank() ? null : Path.of(file).toAbsolutePath();
+        this.settle = settle;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (file == null) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        thread = new Thread(this::watchLoop, "match-data-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching {} for match data changes", file);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    // Reloads the file if it differs from the last one applied. Returns the applied diff, or
+    // null if the file is missing, unchanged or unreadable.
+    public synchronized MatchDiff reload() {
+        try {
+            if (file == null || !Files.isRegularFile(file)) {
+                return null;
+            }
+            FileTime modified = Files.getLastModifiedTime(file);
+            long size = Files.size(file);
+            if (modified.equals(lastModified) && size == lastSize) {
+                return null;
+            }
+            long start = System.nanoTime();
+            MatchJsonLoader.Result result;
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                result = new MatchJsonLoader().load(inputStream);
+            }
+            long parsed = System.nanoTime();
+            if (appliedFile == null && !loadState()) {
+                appliedFile = byId(bundledMatches());
+            }
+            MatchDiff diff = MatchDiff.between(List.copyOf(appliedFile.values()), result.matches());
+            List<MatchChange> results = matchService.applyChanges(diff.changes().stream().map(this::toLive).toList());
+            int applied = 0;
+            for (int i = 0; i < results.size(); i++) {
+                MatchChange change = diff.changes().get(i);
+                MatchChange outcome = results.get(i);
+                if (outcome != null) {
+                    applied++;
+                }
+                if (change.after() == null) {
+                    liveIds.remove(change.before().id());
+                } else if (change.before() == null && outcome != null && outcome.after().id() != change.after().id()) {
+                    liveIds.put(change.after().id(), outcome.after().id());
+                }
+            }
+            appliedFile = byId(result.matches());
+            saveState();
+            lastModified = modified;
+            lastSize = size;
+            logger.info("Reloaded {}: {} ({} applied), parsed in {} ms, diffed and applied in {} ms", file, diff, applied,
+                    TimeUnit.NANOSECONDS.toMillis(parsed - start), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parsed));
+            return diff;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not reload {}, keeping the current dataset", file, e);
+            return null;
+        }
+    }
+
+    // A change between two files, addressed to the ids the file matches have in the dataset
+    private MatchChange toLive(MatchChange change) {
+        Match match = change.before() != null ? change.before() : change.after();
+        int id = liveIds.getOrDefault(match.id(), match.id());
+        return new MatchChange(change.before() == null ? null : change.before().withId(id),
+                change.after() == null ? null : change.after().withId(id));
+    }
+
+    private static Map<Integer, Match> byId(List<Match> matches) {
+        Map<Integer, Match> byId = new LinkedHashMap<>(matches.size() * 2);
+        for (Match match : matches) {
+            byId.putIfAbsent(match.id(), match);
+        }
+        return byId;
+    }
+
+    // Restores the last applied file and its live ids saved with the journal. Returns false if
+    // there is no journal or no usable state, e.g. because the dataset was rebuilt from a new JSON.
+    private boolean loadState() {
+        Path stateFile = stateFile();
+        if (stateFile == null || !Files.isRegularFile(stateFile)) {
+            return false;
+        }
+        MatchService.SourceFingerprint source = matchService.source();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile)))) {
+            if (in.readInt() != STATE_MAGIC || in.readInt() != STATE_VERSION
+                    || in.readLong() != source.checksum() || in.readLong() != source.length()) {
+                logger.info("Watcher state {} belongs to another dataset, diffing against {}", stateFile, MatchService.DATA_RESOURCE);
+                return false;
+            }
+            int checksum = in.readInt();
+            byte[] payload = in.readAllBytes();
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Checksum mismatch");
+            }
+            DataInputStream state = new DataInputStream(new ByteArrayInputStream(payload));
+            Map<Integer, Integer> ids = new HashMap<>();
+            for (int i = state.readInt(); i > 0; i--) {
+                ids.put(state.readInt(), state.readInt());
+            }
+            List<Match> matches = new ArrayList<>();
+            for (int i = state.readInt(); i > 0; i--) {
+                matches.add(MatchCodec.read(state));
+            }
+            liveIds.clear();
+            liveIds.putAll(ids);
+            appliedFile = byId(matches);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not read watcher state {}, diffing against {}", stateFile, MatchService.DATA_RESOURCE, e);
+            return false;
+        }
+    }
+
+    // Written like the baseline: to a forced temp file that is then moved into place. If this
+    // fails, a restart diffs against an older file; adds already applied are then skipped by
+    // MatchService, except those that were given a new id.
+    private void saveState() {
+        Path stateFile = stateFile();
+        if (stateFile == null) {
+            return;
+        }
+        try {
+            writeState(stateFile);
+        } catch (IOException e) {
+            logger.warn("Could not save watcher state {}", stateFile, e);
+        }
+    }
+
+    private void writeState(Path stateFile) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64 * appliedFile.size());
+        DataOutputStream state = new DataOutputStream(payload);
+        state.writeInt(liveIds.size());
+        for (Map.Entry<Integer, Integer> entry : liveIds.entrySet()) {
+            state.writeInt(entry.getKey());
+            state.writeInt(entry.getValue());
+        }
+        state.writeInt(appliedFile.size());
+        for (Match match : appliedFile.values()) {
+            MatchCodec.write(state, match);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.toByteArray());
+        MatchService.SourceFingerprint source = matchService.source();
+        ByteBuffer header = ByteBuffer.allocate(28)
+                .putInt(STATE_MAGIC)
+                .putInt(STATE_VERSION)
+                .putLong(source.checksum())
+                .putLong(source.length())
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path temp = Files.createTempFile(stateFile.getParent(), STATE_FILE, ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer body = ByteBuffer.wrap(payload.toByteArray());
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, body});
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        MatchSnapshotFile.replace(temp, stateFile);
+    }
+
+    private Path stateFile() {
+        Path directory = matchService.journalDirectory();
+        return directory == null ? null : directory.resolve(STATE_FILE);
+    }
+
+    private List<Match> bundledMatches() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(MatchService.DATA_RESOURCE)) {
+            return inputStream == null ? List.of() : new MatchJsonLoader().load(inputStream).matches();
+        }
+    }
+
+    private void watchLoop() {
+        reload();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean relevant = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context());
+                }
+                key.reset();
+                if (relevant) {
+                    awaitQuiet();
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // stopped
+        }
+    }
+
+    // A copy in progress fires many modify events; wait until none arrives for the settle time
+    private void awaitQuiet() throws InterruptedException {
+        WatchKey key;
+        while ((key = watchService.poll(settle.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
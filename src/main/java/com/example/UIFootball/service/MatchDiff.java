@@ -0,0 +1,55 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Difference between two versions of the dataset, keyed by match id. Matches are records, so a
+// changed match is any field differing under equals(). The changes are in MatchService form:
+// added (before null), changed (both set) and removed (after null).
+public record MatchDiff(List<MatchChange> changes, int added, int changed, int removed) {
+
+    public static MatchDiff between(List<Match> current, List<Match> loaded) {
+        Map<Integer, Match> currentById = new HashMap<>(current.size() * 2);
+        for (Match match : current) {
+            currentById.put(match.id(), match);
+        }
+        List<MatchChange> changes = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>(loaded.size() * 2);
+        int added = 0, changed = 0, removed = 0;
+        for (Match match : loaded) {
+            if (!seen.add(match.id())) {
+                continue; // a duplicate id in the file: the first occurrence wins
+            }
+            Match before = currentById.get(match.id());
+            if (before == null) {
+                changes.add(new MatchChange(null, match));
+                added++;
+            } else if (!before.equals(match)) {
+                changes.add(new MatchChange(before, match));
+                changed++;
+            }
+        }
+        for (Match match : current) {
+            if (!seen.contains(match.id())) {
+                changes.add(new MatchChange(match, null));
+                removed++;
+            }
+        }
+        return new MatchDiff(changes, added, changed, removed);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return added + " added, " + changed + " changed, " + removed + " removed";
+    }
+}
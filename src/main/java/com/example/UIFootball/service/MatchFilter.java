@@ -0,0 +1,20 @@
+package com.example.UIFootball.service;
+
+// Filter values as entered in the views; null or blank means "no restriction".
+// league is compared case-insensitively, team and matchId are substring searches.
+public record MatchFilter(String season, String league, String team, String matchId) {
+
+    public static final MatchFilter NONE = new MatchFilter(null, null, null, null);
+
+    public static MatchFilter ofLeague(String league) {
+        return new MatchFilter(null, league, null, null);
+    }
+
+    public boolean isEmpty() {
+        return isBlank(season) && isBlank(league) && isBlank(team) && isBlank(matchId);
+    }
+
+    public static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// Bitmap indexes over the rows of one MatchSnapshot. Season and league filters are single bitset
+// lookups; team searches go through a trigram index over the distinct team names, so a query
+// touches the ~100 team names and the matching rows, never the whole match list. Bitmaps are
+// kept in arrays indexed by season offset and by NameDictionary league and team code.
+public final class MatchFilterIndex {
+
+    private final List<Match> matches;
+    private final int minSeason;
+    private final BitSet[] rowsBySeason;
+    private final String[] leagueKeys;
+    private final BitSet[] rowsByLeague;
+    private final String[] teamNames;
+    private final BitSet[] rowsByTeam;
+    private final Map<Long, BitSet> teamsByTrigram = new HashMap<>();
+    private final String[] idText;
+    private final Map<MatchSort.Field, int[]> sortOrders = new ConcurrentHashMap<>();
+
+    MatchFilterIndex(List<Match> matches) {
+        this.matches = matches;
+        this.idText = new String[matches.size()];
+        this.minSeason = matches.stream().mapToInt(Match::season).min().orElse(0);
+        this.rowsBySeason = new BitSet[matches.stream().mapToInt(Match::season).max().orElse(-1) - minSeason + 1];
+        this.rowsByLeague = new BitSet[NameDictionary.LEAGUES.size()];
+        this.rowsByTeam = new BitSet[NameDictionary.TEAMS.size()];
+
+        for (int row = 0; row < matches.size(); row++) {
+            Match match = matches.get(row);
+            idText[row] = String.valueOf(match.id());
+            set(rowsBySeason, match.season() - minSeason, row);
+            if (match.league() != null) {
+                set(rowsByLeague, NameDictionary.LEAGUES.code(match.league()), row);
+            }
+            if (match.home() != null) {
+                set(rowsByTeam, NameDictionary.TEAMS.code(match.homeTitle()), row);
+            }
+            if (match.away() != null) {
+                set(rowsByTeam, NameDictionary.TEAMS.code(match.awayTitle()), row);
+            }
+        }
+
+        leagueKeys = new String[rowsByLeague.length];
+        for (int league = 0; league < rowsByLeague.length; league++) {
+            if (rowsByLeague[league] != null) {
+                leagueKeys[league] = NameDictionary.LEAGUES.name(league).toLowerCase(Locale.ROOT);
+            }
+        }
+        teamNames = new String[rowsByTeam.length];
+        for (int team = 0; team < rowsByTeam.length; team++) {
+            if (rowsByTeam[team] == null) {
+                continue;
+            }
+            String name = NameDictionary.TEAMS.name(team).toLowerCase(Locale.ROOT);
+            teamNames[team] = name;
+            for (int i = 0; i + 3 <= name.length(); i++) {
+                teamsByTrigram.computeIfAbsent(trigram(name, i), key -> new BitSet()).set(team);
+            }
+        }
+    }
+
+    private static void set(BitSet[] bitmaps, int key, int row) {
+        if (bitmaps[key] == null) {
+            bitmaps[key] = new BitSet();
+        }
+        bitmaps[key].set(row);
+    }
+
+    public int size() { return matches.size(); }
+
+    // Rows of the snapshot that pass the filter
+    public BitSet rows(MatchFilter filter) {
+        BitSet result = null;
+        if (!MatchFilter.isBlank(filter.season())) {
+            result = and(result, seasonRows(filter.season()));
+        }
+        if (!MatchFilter.isBlank(filter.league())) {
+            result = and(result, leagueRows(filter.league().toLowerCase(Locale.ROOT)));
+        }
+        if (!MatchFilter.isBlank(filter.team())) {
+            result = and(result, teamRows(filter.team().toLowerCase(Locale.ROOT)));
+        }
+        if (result == null) {
+            result = new BitSet(matches.size());
+            result.set(0, matches.size());
+        }
+        if (!MatchFilter.isBlank(filter.matchId())) {
+            // Only the surviving rows are checked
+            String idSearch = filter.matchId();
+            for (int row = result.nextSetBit(0); row >= 0; row = result.nextSetBit(row + 1)) {
+                if (!idText[row].contains(idSearch)) {
+                    result.clear(row);
+                }
+            }
+        }
+        return result;
+    }
+
+    public int count(MatchFilter filter) {
+        return rows(filter).cardinality();
+    }
+
+    // One page of the filtered rows in the requested order. Rows are visited in sort order and
+    // skipped until the offset, so only the page itself is materialized.
+    public List<Match> page(MatchFilter filter, MatchSort sort, int offset, int limit) {
+        return page(rows(filter), sort, offset, limit);
+    }
+
+    List<Match> page(BitSet rows, MatchSort sort, int offset, int limit) {
+        List<Match> page = new ArrayList<>(Math.max(0, Math.min(limit, rows.cardinality() - offset)));
+        int skipped = 0;
+        if (sort.field() == null) {
+            for (int row = rows.nextSetBit(0); row >= 0 && page.size() < limit; row = rows.nextSetBit(row + 1)) {
+                if (skipped++ >= offset) {
+                    page.add(matches.get(row));
+                }
+            }
+            return page;
+        }
+        int[] order = sortOrder(sort.field());
+        for (int i = 0; i < order.length && page.size() < limit; i++) {
+            int row = order[sort.descending() ? order.length - 1 - i : i];
+            if (rows.get(row) && skipped++ >= offset) {
+                page.add(matches.get(row));
+            }
+        }
+        return page;
+    }
+
+    // Every row in sort order in a single pass, for exports that must not page from the start each time
+    void forEach(BitSet rows, MatchSort sort, Consumer<? super Match> action) {
+        if (sort.field() == null) {
+            for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+                action.accept(matches.get(row));
+            }
+            return;
+        }
+        int[] order = sortOrder(sort.field());
+        for (int i = 0; i < order.length; i++) {
+            int row = order[sort.descending() ? order.length - 1 - i : i];
+            if (rows.get(row)) {
+                action.accept(matches.get(row));
+            }
+        }
+    }
+
+    public List<Match> filter(MatchFilter filter) {
+        BitSet rows = rows(filter);
+        List<Match> result = new ArrayList<>(rows.cardinality());
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            result.add(matches.get(row));
+        }
+        return result;
+    }
+
+    // Row numbers sorted ascending by the field, built once per field and snapshot
+    private int[] sortOrder(MatchSort.Field field) {
+        return sortOrders.computeIfAbsent(field, key -> IntStream.range(0, matches.size())
+                .boxed()
+                .sorted((a, b) -> key.comparator().compare(matches.get(a), matches.get(b)))
+                .mapToInt(Integer::intValue)
+                .toArray());
+    }
+
+    // Only the exact text of a season number matches, e.g. "2019" but not "02019"
+    private BitSet seasonRows(String text) {
+        try {
+            int season = Integer.parseInt(text);
+            int key = season - minSeason;
+            return String.valueOf(season).equals(text) && key >= 0 && key < rowsBySeason.length ? rowsBySeason[key] : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Leagues are compared case-insensitively; different spellings of one name share the rows
+    private BitSet leagueRows(String key) {
+        BitSet rows = null;
+        for (int league = 0; league < leagueKeys.length; league++) {
+            if (key.equals(leagueKeys[league])) {
+                if (rows == null) {
+                    rows = new BitSet();
+                }
+                rows.or(rowsByLeague[league]);
+            }
+        }
+        return rows;
+    }
+
+    // Rows of every team whose lower-cased name contains the search text
+    private BitSet teamRows(String search) {
+        BitSet candidates;
+        if (search.length() >= 3) {
+            candidates = null;
+            for (int i = 0; i + 3 <= search.length(); i++) {
+                BitSet teams = teamsByTrigram.get(trigram(search, i));
+                if (teams == null) {
+                    return new BitSet();
+                }
+                candidates = and(candidates, teams);
+            }
+        } else {
+            candidates = new BitSet(teamNames.length);
+            candidates.set(0, teamNames.length);
+        }
+
+        BitSet rows = new BitSet(matches.size());
+        for (int team = candidates.nextSetBit(0); team >= 0; team = candidates.nextSetBit(team + 1)) {
+            // Trigrams only narrow the candidates; the substring check is what decides
+            if (teamNames[team] != null && teamNames[team].contains(search)) {
+                rows.or(rowsByTeam[team]);
+            }
+        }
+        return rows;
+    }
+
+    private static BitSet and(BitSet current, BitSet rows) {
+        if (rows == null) {
+            return new BitSet();
+        }
+        if (current == null) {
+            return (BitSet) rows.clone();
+        }
+        current.and(rows);
+        return current;
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+// Append-only log of match mutations. Each record is framed as (payload length, CRC32, payload),
+// so a record torn by a crash is detected and cut off on recovery. Appends are queued and written
+// by one writer thread, which drains everything queued so far, writes it and calls fsync once for
+// the whole batch (group commit): under a burst of edits, many writers share a single fsync.
+// A batch that fails to write is cut off again, so no later record lands behind a torn frame
+// that recovery would stop at, and the journal then fails everything still queued and refuses
+// appends until resume(): those records were built on the lost ones. If even cutting off fails,
+// the journal refuses all further appends.
+public class MatchJournal implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(MatchJournal.class);
+    private static final int MAX_BATCH = 256;
+
+    public enum Operation { ADD, UPDATE, DELETE }
+
+    // match is null for DELETE, matchId is the affected id for every operation
+    public record Entry(Operation operation, int matchId, Match match) {
+
+        static Entry of(MatchChange change) {
+            if (change.after() == null) {
+                return new Entry(Operation.DELETE, change.before().id(), null);
+            }
+            return new Entry(change.before() == null ? Operation.ADD : Operation.UPDATE, change.after().id(), change.after());
+        }
+    }
+
+    // records framed back to back; null for a flush marker
+    private record Pending(byte[] records, int count, CompletableFuture<Void> durable) {
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private final AtomicInteger unwritten = new AtomicInteger();
+    // Orders append, flush and close, so nothing can be queued behind the final flush of close()
+    private final Object queueLock = new Object();
+    private boolean closed;
+    // Set by a failed batch, cleared by resume(); guarded by queueLock
+    private IOException halted;
+    private volatile IOException failure;
+
+    public MatchJournal(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+        this.writer = new Thread(this::writeLoop, "match-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Reads every intact record in order and truncates a torn tail left by a crash
+    public List<Entry> recover() throws IOException {
+        List<Entry> recovered = new ArrayList<>();
+        long position = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(8);
+        while (position + 8 <= size) {
+            header.clear();
+            channel.read(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length <= 0 || position + 8 + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, position + 8);
+            if (checksum != crc(payload.array())) {
+                break;
+            }
+            try {
+                recovered.add(decode(payload.array()));
+            } catch (IOException | RuntimeException e) {
+                break;
+            }
+            position += 8 + length;
+        }
+        if (position < size) {
+            logger.warn("Truncating {} bytes of incomplete journal records in {}", size - position, file);
+            channel.truncate(position);
+        }
+        channel.position(position);
+        entries.set(recovered.size());
+        return recovered;
+    }
+
+    // Queues the change; the future completes once it is on disk
+    public CompletableFuture<Void> append(MatchChange change) {
+        return append(List.of(change));
+    }
+
+    // Queues the changes as one unit: they are written in the same batch, and a failed write
+    // removes all of them. The future completes once they are on disk.
+    public CompletableFuture<Void> append(List<MatchChange> changes) {
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        unwritten.incrementAndGet();
+        durable.whenComplete((result, e) -> unwritten.decrementAndGet());
+        try {
+            ByteArrayOutputStream records = new ByteArrayOutputStream(128 * changes.size());
+            for (MatchChange change : changes) {
+                records.write(frame(encode(Entry.of(change))));
+            }
+            enqueue(new Pending(records.toByteArray(), changes.size(), durable));
+        } catch (IOException e) {
+            durable.completeExceptionally(e);
+        }
+        return durable;
+    }
+
+    // Completes once everything queued before this call is on disk
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        enqueue(new Pending(null, 0, durable));
+        return durable;
+    }
+
+    private void enqueue(Pending pending) {
+        synchronized (queueLock) {
+            if (closed) {
+                pending.durable().completeExceptionally(new IOException("Journal is closed"));
+            } else if (failure != null) {
+                pending.durable().completeExceptionally(failure);
+            } else if (halted != null) {
+                pending.durable().completeExceptionally(halted);
+            } else {
+                queue.add(pending);
+            }
+        }
+    }
+
+    // Drops all records, e.g. after they were folded into a new baseline. The caller must make
+    // sure nothing is appended concurrently and that earlier appends were flushed.
+    public synchronized void reset() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        entries.set(0);
+    }
+
+    public boolean isHalted() {
+        synchronized (queueLock) {
+            return halted != null;
+        }
+    }
+
+    // Accepts appends again after a failed batch. The caller must have dropped every change that
+    // was built on the failed records.
+    public void resume() {
+        synchronized (queueLock) {
+            halted = null;
+        }
+    }
+
+    public long entryCount() { return entries.get(); }
+
+    public long syncCount() { return syncs.get(); }
+
+    public long sizeInBytes() throws IOException { return channel.size(); }
+
+    // Appends queued or being written, not yet completed
+    int unwrittenCount() { return unwritten.get(); }
+
+    // Waits for everything appended before to reach the disk; later appends fail
+    @Override
+    public void close() throws IOException {
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        synchronized (queueLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(new Pending(null, 0, drained));
+        }
+        drained.exceptionally(e -> null).join();
+        writer.interrupt();
+        channel.close();
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(MAX_BATCH);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void writeBatch(List<Pending> batch) {
+        if (failure != null) {
+            batch.forEach(pending -> pending.durable().completeExceptionally(failure));
+            return;
+        }
+        long start = -1;
+        try {
+            start = channel.position();
+            int records = 0;
+            for (Pending pending : batch) {
+                if (pending.records() != null) {
+                    ByteBuffer buffer = ByteBuffer.wrap(pending.records());
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    records += pending.count();
+                }
+            }
+            if (records > 0) {
+                channel.force(false);
+                syncs.incrementAndGet();
+                entries.addAndGet(records);
+            }
+            batch.forEach(pending -> pending.durable().complete(null));
+        } catch (IOException e) {
+            logger.error("Failed to write {} journal records to {}", batch.size(), file, e);
+            rollBack(start, e);
+            List<Pending> dropped = new ArrayList<>(batch);
+            synchronized (queueLock) {
+                halted = e;
+                queue.drainTo(dropped);
+            }
+            dropped.forEach(pending -> pending.durable().completeExceptionally(e));
+        }
+    }
+
+    // Cuts the file back to the end of the last good batch, so later records follow intact ones.
+    // If that fails too, the end of the file is unknown and the journal stops accepting appends.
+    private void rollBack(long position, IOException cause) {
+        try {
+            if (position < 0) {
+                throw new IOException("Journal position unknown");
+            }
+            channel.truncate(position);
+            channel.position(position);
+            channel.force(true);
+        } catch (IOException e) {
+            e.addSuppressed(cause);
+            logger.error("Could not cut {} back to {} bytes, refusing further journal records", file, position, e);
+            failure = e;
+        }
+    }
+
+    private static byte[] encode(Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(entry.operation().ordinal());
+            out.writeInt(entry.matchId());
+            if (entry.match() != null) {
+                MatchCodec.write(out, entry.match());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Entry decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Operation operation = Operation.values()[in.readByte()];
+            int matchId = in.readInt();
+            Match match = operation == Operation.DELETE ? null : MatchCodec.read(in);
+            return new Entry(operation, matchId, match);
+        }
+    }
+
+    private static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(8 + payload.length)
+                .putInt(payload.length)
+                .putInt(crc(payload))
+                .put(payload)
+                .array();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
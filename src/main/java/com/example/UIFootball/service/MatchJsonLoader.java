@@ -0,0 +1,178 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchParser.RawMatch;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Streaming loader for all_matches.json. One thread walks the token stream and cuts the array
+// into chunks of raw field values; worker threads decode the nested blobs of each chunk into
+// Match records. At most a fixed number of chunks is in flight, so the raw text held at any
+// moment is bounded regardless of file size and the work grows linearly with the match count.
+public class MatchJsonLoader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final int chunkSize;
+    private final int parallelism;
+
+    public record Result(List<Match> matches, LoadStats stats) {
+    }
+
+    public MatchJsonLoader() {
+        this(DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public MatchJsonLoader(int chunkSize, int parallelism) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public Result load(InputStream inputStream) throws IOException {
+        long start = System.nanoTime();
+        long readerAllocationStart = threadAllocatedBytes();
+        AtomicLong workerAllocated = new AtomicLong();
+
+        List<Match> matches = new ArrayList<>();
+        ArrayDeque<Future<List<Match>>> inFlight = new ArrayDeque<>();
+        int maxInFlight = parallelism * 2;
+        int chunks = 0;
+        long bytes;
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "match-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of matches");
+            }
+            List<RawMatch> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(readRawMatch(parser));
+                if (chunk.size() == chunkSize) {
+                    if (inFlight.size() == maxInFlight) {
+                        matches.addAll(await(inFlight.poll()));
+                    }
+                    inFlight.add(executor.submit(decodeTask(chunk, workerAllocated)));
+                    chunks++;
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                inFlight.add(executor.submit(decodeTask(chunk, workerAllocated)));
+                chunks++;
+            }
+            while (!inFlight.isEmpty()) {
+                matches.addAll(await(inFlight.poll()));
+            }
+            bytes = parser.currentLocation().getByteOffset();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long readerAllocationEnd = threadAllocatedBytes();
+        long allocatedBytes = readerAllocationStart >= 0 && readerAllocationEnd >= 0
+                ? workerAllocated.get() + (readerAllocationEnd - readerAllocationStart)
+                : -1;
+        LoadStats stats = new LoadStats("json", matches.size(), bytes, System.nanoTime() - start, allocatedBytes, chunks, parallelism);
+        return new Result(matches, stats);
+    }
+
+    private static RawMatch readRawMatch(JsonParser parser) throws IOException {
+        int id = 0;
+        boolean isResult = false;
+        String h = null, a = null, goals = null, xG = null, datetime = null, forecast = null, league = null;
+        int season = 0;
+
+        String field;
+        while ((field = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "id" -> id = intValue(parser, token);
+                case "isResult" -> isResult = token == JsonToken.VALUE_TRUE;
+                case "h" -> h = textValue(parser, token);
+                case "a" -> a = textValue(parser, token);
+                case "goals" -> goals = textValue(parser, token);
+                case "xG" -> xG = textValue(parser, token);
+                case "datetime" -> datetime = textValue(parser, token);
+                case "forecast" -> forecast = textValue(parser, token);
+                case "league" -> league = textValue(parser, token);
+                case "season" -> season = intValue(parser, token);
+                default -> parser.skipChildren();
+            }
+        }
+        return new RawMatch(id, isResult, h, a, goals, xG, datetime, forecast, league, season);
+    }
+
+    private static String textValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static int intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        Integer parsed = MatchParser.toInt(textValue(parser, token));
+        return parsed != null ? parsed : 0;
+    }
+
+    private static Callable<List<Match>> decodeTask(List<RawMatch> chunk, AtomicLong allocated) {
+        return () -> {
+            long before = threadAllocatedBytes();
+            MatchParser matchParser = new MatchParser();
+            List<Match> decoded = new ArrayList<>(chunk.size());
+            for (RawMatch raw : chunk) {
+                decoded.add(matchParser.parse(raw));
+            }
+            long after = threadAllocatedBytes();
+            if (before >= 0 && after >= 0) {
+                allocated.addAndGet(after - before);
+            }
+            return decoded;
+        };
+    }
+
+    private static List<Match> await(Future<List<Match>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading matches", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to decode match chunk", e.getCause());
+        }
+    }
+
+    // Bytes allocated so far by the calling thread, or -1 if the JVM cannot tell
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled()) {
+            return threadBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.model.XgPair;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+// Turns the raw field values of one all_matches.json entry into a typed Match. The nested
+// h/a/goals/xG/forecast fields are Python dict reprs and are decoded by PythonDictReader.
+// Not thread-safe: each loader worker uses its own instance.
+class MatchParser {
+    static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Field values exactly as they appear in the file, before any nested decoding
+    record RawMatch(int id, boolean isResult, String h, String a, String goals, String xG,
+                    String datetime, String forecast, String league, int season) {
+    }
+
+    private final PythonDictReader reader = new PythonDictReader();
+
+    Match parse(RawMatch raw) {
+        Score goals = null;
+        if (reader.read(raw.goals())) {
+            Integer home = toInt(reader.get("h"));
+            Integer away = toInt(reader.get("a"));
+            goals = home != null && away != null ? new Score(home, away) : null;
+        }
+        XgPair xG = null;
+        if (reader.read(raw.xG())) {
+            Double home = toDouble(reader.get("h"));
+            Double away = toDouble(reader.get("a"));
+            xG = home != null && away != null ? new XgPair(home, away) : null;
+        }
+        Forecast forecast = null;
+        if (reader.read(raw.forecast())) {
+            Double win = toDouble(reader.get("w"));
+            Double draw = toDouble(reader.get("d"));
+            Double loss = toDouble(reader.get("l"));
+            forecast = win != null && draw != null && loss != null ? new Forecast(win, draw, loss) : null;
+        }
+
+        return new Match(raw.id(), raw.isResult(), team(raw.h()), team(raw.a()), goals, xG,
+                toDateTime(raw.datetime()), forecast, raw.league(), raw.season());
+    }
+
+    private TeamRef team(String text) {
+        if (!reader.read(text) || reader.get("title") == null) {
+            return null;
+        }
+        return new TeamRef(reader.get("id"), reader.get("title"), reader.get("short_title"));
+    }
+
+    static Integer toInt(String value) {
+        try {
+            return value != null ? Integer.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static Double toDouble(String value) {
+        try {
+            return value != null ? Double.valueOf(value.trim()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static LocalDateTime toDateTime(String value) {
+        if (value == null) {
+            return null;
+        }
+        // Fast path for the fixed "yyyy-MM-dd HH:mm:ss" layout used by the scraper
+        if (value.length() == 19 && value.charAt(4) == '-' && value.charAt(7) == '-' && value.charAt(10) == ' '
+                && value.charAt(13) == ':' && value.charAt(16) == ':') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 2);
+            int day = digits(value, 8, 2);
+            int hour = digits(value, 11, 2);
+            int minute = digits(value, 14, 2);
+            int second = digits(value, 17, 2);
+            if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0) {
+                try {
+                    return LocalDateTime.of(year, month, day, hour, minute, second);
+                } catch (RuntimeException e) {
+                    return null;
+                }
+            }
+        }
+        try {
+            return LocalDateTime.parse(value, DATETIME_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static int digits(String value, int start, int length) {
+        int result = 0;
+        for (int i = start; i < start + length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+// The rows of one snapshot that passed a filter. Evaluated once, then paged any number of
+// times without re-filtering; count and pages always come from the same snapshot version.
+public final class MatchResultSet implements MatchResults {
+
+    private final MatchSnapshot snapshot;
+    private final MatchFilter filter;
+    private final BitSet rows;
+    private final int size;
+
+    MatchResultSet(MatchSnapshot snapshot, MatchFilter filter, BitSet rows) {
+        this.snapshot = snapshot;
+        this.filter = filter;
+        this.rows = rows;
+        this.size = rows.cardinality();
+    }
+
+    @Override
+    public long version() { return snapshot.version(); }
+
+    @Override
+    public MatchFilter filter() { return filter; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public List<Match> page(MatchSort sort, int offset, int limit) {
+        return snapshot.filterIndex().page(rows, sort, offset, limit);
+    }
+
+    @Override
+    public void forEach(MatchSort sort, Consumer<? super Match> action) {
+        snapshot.filterIndex().forEach(rows, sort, action);
+    }
+}
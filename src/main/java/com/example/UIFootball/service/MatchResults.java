@@ -0,0 +1,27 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// A filtered, countable, pageable set of matches as returned by a MatchRepository
+public interface MatchResults {
+
+    long version();
+
+    MatchFilter filter();
+
+    int size();
+
+    List<Match> page(MatchSort sort, int offset, int limit);
+
+    // Hands every match to the action in the requested order without collecting them. The
+    // default reads page by page; a backend that can walk its rows in one pass overrides it.
+    default void forEach(MatchSort sort, Consumer<? super Match> action) {
+        int pageSize = 1000;
+        for (int offset = 0; offset < size(); offset += pageSize) {
+            page(sort, offset, pageSize).forEach(action);
+        }
+    }
+}
@@ -1,49 +1,593 @@
 package com.example.UIFootball.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.UIFootball.model.Match;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.zip.CRC32;
 
+// Application-wide match dataset. Readers take the current snapshot with a single volatile read and
+// never lock. Writers are serialized by a lock, build a modified copy and publish it atomically, so
+// readers never block or see partial edits, and change listeners see changes in publication order.
+//
+// With a journal directory configured, edits survive restarts: every change is appended to
+// journal.log and a mutation is published, and returns, only once its record is on disk. Writers
+// append under the lock but wait for the disk outside it, so concurrent edits share one fsync;
+// their snapshots are then published strictly in version order, and a change whose record could
+// not be written, or any change built on it, is never published. On startup the journal is
+// replayed over the newest baseline (baseline.bin, or the JSON if there is none), and a periodic
+// compaction folds the journal into a fresh baseline so replay stays short.
+@Service
 public class MatchService {
     private static final Logger logger = LoggerFactory.getLogger(MatchService.class);
-    private List<Map<String, Object>> matchData = Collections.emptyList();
+    private final AtomicReference<MatchSnapshot> snapshot = new AtomicReference<>(new MatchSnapshot(0, List.of()));
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // The newest snapshot accepted by a writer, published or not; guarded by writeLock
+    private MatchSnapshot head;
+    // Orders publication: guards the accepted but unpublished changes and the listener calls
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Deque<Publication> unpublished = new ArrayDeque<>();
+    // Set when an accepted change was dropped, so the next writer restarts from the published snapshot
+    private volatile boolean dropped;
+    private final List<MatchChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private LoadStats loadStats;
 
-    public MatchService() { loadMatchData(); }
+    static final String DATA_RESOURCE = "all_matches.json";
+
+    static final String BASELINE_FILE = "baseline.bin";
+    static final String JOURNAL_FILE = "journal.log";
+
+    private final Path binarySnapshotPath;
+    private final Path journalDirectory;
+    private SourceFingerprint source;
+    private MatchJournal journal;
+
+    public MatchService() { this(null, null); }
+
+    public MatchService(String binarySnapshotPath) { this(binarySnapshotPath, null); }
+
+    @Autowired
+    public MatchService(@Value("${match.snapshot.path:}") String binarySnapshotPath,
+                        @Value("${match.journal.dir:}") String journalDirectory) {
+        this.binarySnapshotPath = toPath(binarySnapshotPath);
+        this.journalDirectory = toPath(journalDirectory);
+        loadMatchData();
+        if (this.journalDirectory != null && source != null) {
+            openJournal();
+        }
+        head = snapshot.get();
+    }
+
+    private static Path toPath(String value) {
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
 
     private void loadMatchData() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("all_matches.json")) {
-            if (inputStream != null) {
-                matchData = objectMapper.readValue(inputStream, new TypeReference<>() {});
+        try {
+            source = fingerprint();
+            if (source == null) {
+                logger.error("Match data resource {} not found", DATA_RESOURCE);
+                return;
+            }
+            if (journalDirectory != null && openBaseline()) {
+                return;
+            }
+            if (binarySnapshotPath != null && openBinarySnapshot()) {
+                return;
+            }
+            try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(DATA_RESOURCE)) {
+                MatchJsonLoader.Result result = new MatchJsonLoader().load(inputStream);
+                loadStats = result.stats();
+                snapshot.set(new MatchSnapshot(1, interned(result.matches())));
+                logger.info("Loaded {}: {}", DATA_RESOURCE, loadStats);
+            }
+            if (binarySnapshotPath != null) {
+                writeBinarySnapshot();
             }
         } catch (IOException e) {
             logger.error("Error loading match data", e);
         }
     }
 
-    public List<Map<String, Object>> getMatchData() { return matchData; }
-    
-    public List<String> getUniqueSeasons() {
-        return matchData.stream()
-                .map(match -> String.valueOf(match.get("season")))
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+    private boolean openBinarySnapshot() {
+        long start = System.nanoTime();
+        try {
+            MappedMatchColumns columns = MatchSnapshotFile.open(binarySnapshotPath, source.checksum(), source.length());
+            if (columns == null) {
+                logger.info("Binary snapshot {} is missing or stale, parsing {}", binarySnapshotPath, DATA_RESOURCE);
+                return false;
+            }
+            List<Match> matches = interned(columns.toMatches());
+            loadStats = new LoadStats("snapshot", matches.size(), Files.size(binarySnapshotPath),
+                    System.nanoTime() - start, -1, 0, 1);
+            snapshot.set(new MatchSnapshot(1, matches));
+            logger.info("Opened binary snapshot {}: {}", binarySnapshotPath, loadStats);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not open binary snapshot {}, parsing {}", binarySnapshotPath, DATA_RESOURCE, e);
+            return false;
+        }
+    }
+
+    private void writeBinarySnapshot() {
+        try {
+            MatchSnapshotFile.write(binarySnapshotPath, snapshot.get().matches(), source.checksum(), source.length());
+            logger.info("Wrote binary snapshot {}", binarySnapshotPath);
+        } catch (IOException e) {
+            logger.warn("Could not write binary snapshot {}", binarySnapshotPath, e);
+        }
+    }
+
+    // The baseline carries the fingerprint of the JSON it was derived from. If the JSON has changed
+    // since, the baseline and the journal describe edits to a dataset that no longer exists: both
+    // are set aside rather than replayed over data they were not recorded against. A damaged
+    // baseline fails startup instead, leaving both files in place.
+    private boolean openBaseline() {
+        Path baseline = journalDirectory.resolve(BASELINE_FILE);
+        if (!Files.isRegularFile(baseline)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            MappedMatchColumns columns = MatchSnapshotFile.open(baseline, source.checksum(), source.length());
+            if (columns == null) {
+                logger.warn("Baseline {} was built from a different {}, discarding it and its journal", baseline, DATA_RESOURCE);
+                setAside(baseline);
+                setAside(journalDirectory.resolve(JOURNAL_FILE));
+                return false;
+            }
+            List<Match> matches = interned(columns.toMatches());
+            loadStats = new LoadStats("baseline", matches.size(), Files.size(baseline),
+                    System.nanoTime() - start, -1, 0, 1);
+            snapshot.set(new MatchSnapshot(1, matches));
+            logger.info("Opened baseline {}: {}", baseline, loadStats);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Could not open baseline " + baseline, e);
+        }
+    }
+
+    private static void setAside(Path file) throws IOException {
+        if (Files.exists(file)) {
+            Files.move(file, file.resolveSibling(file.getFileName() + ".stale"), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // Replays the journal over the loaded baseline. Entries are applied by match id, so replaying
+    // records that a crashed compaction already folded into the baseline gives the same result.
+    private void openJournal() {
+        Path file = journalDirectory.resolve(JOURNAL_FILE);
+        try {
+            journal = new MatchJournal(file);
+            List<MatchJournal.Entry> entries = journal.recover();
+            if (entries.isEmpty()) {
+                return;
+            }
+            Map<Integer, Match> byId = new LinkedHashMap<>();
+            for (Match match : snapshot.get().matches()) {
+                byId.put(match.id(), match);
+            }
+            for (MatchJournal.Entry entry : entries) {
+                if (entry.operation() == MatchJournal.Operation.DELETE) {
+                    byId.remove(entry.matchId());
+                } else {
+                    byId.put(entry.matchId(), entry.match().interned());
+                }
+            }
+            snapshot.set(new MatchSnapshot(1, new ArrayList<>(byId.values())));
+            logger.info("Replayed {} journal entries from {}", entries.size(), file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open match journal " + file, e);
+        }
+    }
+
+    // Folds the journal into a new baseline and empties it. The baseline is written to a temp file,
+    // forced to disk and moved into place, and the directory synced, before the journal is cut, so a
+    // crash or power loss in between only leaves entries that replay to the same state. Writers wait
+    // for the duration; readers are not affected.
+    @Scheduled(fixedDelayString = "${match.journal.compaction-interval:PT10M}",
+            initialDelayString = "${match.journal.compaction-interval:PT10M}")
+    public boolean compactJournal() {
+        if (journal == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            settle();
+            MatchSnapshot current = head();
+            if (journal.entryCount() == 0) {
+                return false;
+            }
+            long entries = journal.entryCount();
+            Path baseline = journalDirectory.resolve(BASELINE_FILE);
+            MatchSnapshotFile.write(baseline, current.matches(), source.checksum(), source.length());
+            journal.reset();
+            logger.info("Compacted {} journal entries into {}", entries, baseline);
+            return true;
+        } catch (IOException e) {
+            logger.error("Journal compaction failed, keeping the journal", e);
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public MatchJournal getJournal() { return journal; }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    // CRC32 and length of the JSON resource, computed in one streaming pass
+    private SourceFingerprint fingerprint() throws IOException {
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(DATA_RESOURCE)) {
+            if (inputStream == null) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[1 << 16];
+            long length = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                length += read;
+            }
+            return new SourceFingerprint(crc.getValue(), length);
+        }
+    }
+
+    record SourceFingerprint(long checksum, long length) {
+    }
+
+    // The JSON the dataset was built from, and the journal directory (null without a journal):
+    // state that must stay in step with the journal, like the watcher's, is kept next to it
+    SourceFingerprint source() { return source; }
+
+    Path journalDirectory() { return journal != null ? journalDirectory : null; }
+
+    public MatchSnapshot getSnapshot() { return snapshot.get(); }
+
+    public LoadStats getLoadStats() { return loadStats; }
+
+    public List<Match> getMatches() { return snapshot.get().matches(); }
+
+    public List<String> getUniqueSeasons() { return snapshot.get().seasons(); }
+
+    public List<String> getUniqueLeagues() { return snapshot.get().leagues(); }
+
+    public List<String> getUniqueTeams() { return snapshot.get().teams(); }
+
+    public List<Match> findMatches(MatchFilter filter) {
+        MatchSnapshot current = snapshot.get();
+        return filter.isEmpty() ? current.matches() : current.filterIndex().filter(filter);
+    }
+
+    // Evaluates the filter once against the current snapshot; the result can then be paged freely
+    public MatchResultSet query(MatchFilter filter) {
+        MatchSnapshot current = snapshot.get();
+        return new MatchResultSet(current, filter, current.filterIndex().rows(filter));
+    }
+
+    // Registers a listener for dataset changes. The listener first receives the current snapshot
+    // via onReset and then every later change in order; both happen under the publish lock, so
+    // no change can slip in between.
+    public void addChangeListener(MatchChangeListener listener) {
+        publishLock.lock();
+        try {
+            listener.onReset(snapshot.get());
+            listeners.add(listener);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    // The id of the given match is ignored; the next free id is assigned
+    public Match addMatch(Match match) {
+        Match added;
+        Publication publication;
+        writeLock.lock();
+        try {
+            MatchSnapshot current = head();
+            added = match.withId(current.maxId() + 1).interned();
+            List<Match> copy = new ArrayList<>(current.matches());
+            copy.add(added);
+            publication = publish(current, copy, List.of(new MatchChange(null, added)));
+        } finally {
+            writeLock.unlock();
+        }
+        await(publication);
+        return added;
+    }
+
+    // Adds all matches as one new snapshot, e.g. for an import: readers see either none or all of
+    // them and listeners update their indexes once for the batch. Ids are assigned consecutively
+    // in list order, starting at the next free id; the ids of the given matches are ignored.
+    public List<Match> addMatches(List<Match> matches) {
+        return addMatches(current -> matches);
+    }
+
+    // Like addMatches(List), with the matches chosen by select from the current snapshot under
+    // the writer lock, so checks against the existing data (e.g. for duplicates) cannot race
+    // with another writer adding the same rows
+    public List<Match> addMatches(Function<MatchSnapshot, List<Match>> select) {
+        List<Match> added;
+        Publication publication;
+        writeLock.lock();
+        try {
+            MatchSnapshot current = head();
+            List<Match> matches = select.apply(current);
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+            added = new ArrayList<>(matches.size());
+            List<Match> copy = new ArrayList<>(current.matches().size() + matches.size());
+            copy.addAll(current.matches());
+            List<MatchChange> changes = new ArrayList<>(matches.size());
+            int id = current.maxId();
+            for (Match match : matches) {
+                Match withId = match.withId(++id).interned();
+                copy.add(withId);
+                added.add(withId);
+                changes.add(new MatchChange(null, withId));
+            }
+            publication = publish(current, copy, changes);
+        } finally {
+            writeLock.unlock();
+        }
+        await(publication);
+        return added;
+    }
+
+    public boolean updateMatch(Match match) {
+        Publication publication = null;
+        writeLock.lock();
+        try {
+            MatchSnapshot current = head();
+            List<Match> copy = new ArrayList<>(current.matches());
+            for (int i = 0; i < copy.size(); i++) {
+                if (copy.get(i).id() == match.id()) {
+                    Match after = match.interned();
+                    Match before = copy.set(i, after);
+                    publication = publish(current, copy, List.of(new MatchChange(before, after)));
+                    break;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (publication == null) {
+            return false;
+        }
+        await(publication);
+        return true;
     }
 
-    public List<String> getUniqueLeagues() {
-        return matchData.stream()
-                .map(match -> String.valueOf(match.get("league")))
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
+    public boolean deleteMatch(int matchId) {
+        Publication publication = null;
+        writeLock.lock();
+        try {
+            MatchSnapshot current = head();
+            List<Match> copy = new ArrayList<>(current.matches());
+            for (int i = 0; i < copy.size(); i++) {
+                if (copy.get(i).id() == matchId) {
+                    Match before = copy.remove(i);
+                    publication = publish(current, copy, List.of(new MatchChange(before, null)));
+                    break;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (publication == null) {
+            return false;
+        }
+        await(publication);
+        return true;
+    }
+
+    // Applies a batch of changes keyed by match id (e.g. a reload diff) as one new snapshot.
+    // before must be null for an added match and after null for a removed one. An edit or removal
+    // is skipped unless its target is still exactly before, so a change made since (e.g. in the UI)
+    // is never overwritten; an added match whose id is taken is given the next free id, unless the
+    // match under that id is already exactly the added one, in which case it is skipped. The journal
+    // records each applied change individually and listeners receive them together, in order.
+    // Returns one entry per requested change: the change as applied, or null if it was skipped.
+    public List<MatchChange> applyChanges(List<MatchChange> changes) {
+        List<MatchChange> results = new ArrayList<>(Collections.nCopies(changes.size(), null));
+        if (changes.isEmpty()) {
+            return results;
+        }
+        List<MatchChange> applied = new ArrayList<>(changes.size());
+        Publication publication = null;
+        writeLock.lock();
+        try {
+            MatchSnapshot current = head();
+            List<Match> copy = new ArrayList<>(current.matches());
+            Map<Integer, Integer> rowById = new HashMap<>(copy.size() * 2);
+            for (int row = 0; row < copy.size(); row++) {
+                rowById.put(copy.get(row).id(), row);
+            }
+            int nextId = current.maxId();
+            boolean removed = false;
+            for (int i = 0; i < changes.size(); i++) {
+                MatchChange change = changes.get(i);
+                MatchChange result;
+                if (change.before() == null) {
+                    Match added = change.after().interned();
+                    Integer row = rowById.get(added.id());
+                    if (row != null && added.equals(copy.get(row))) {
+                        continue;
+                    }
+                    if (row != null) {
+                        added = added.withId(nextId + 1);
+                    }
+                    nextId = Math.max(nextId, added.id());
+                    rowById.put(added.id(), copy.size());
+                    copy.add(added);
+                    result = new MatchChange(null, added);
+                } else {
+                    Integer row = rowById.get(change.before().id());
+                    if (row == null || !change.before().equals(copy.get(row))) {
+                        continue;
+                    }
+                    Match after = change.after() == null ? null : change.after().interned();
+                    copy.set(row, after);
+                    removed |= after == null;
+                    result = new MatchChange(change.before(), after);
+                }
+                applied.add(result);
+                results.set(i, result);
+            }
+            if (removed) {
+                copy.removeIf(Objects::isNull);
+            }
+            if (!applied.isEmpty()) {
+                publication = publish(current, copy, applied);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        if (publication != null) {
+            await(publication);
+        }
+        return results;
+    }
+
+    // Every match entering the dataset shares the dictionary instances of its names
+    private static List<Match> interned(List<Match> matches) {
+        List<Match> interned = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            interned.add(match.interned());
+        }
+        return interned;
+    }
+
+    // An accepted change: the snapshot it leads to, and its journal write
+    private record Publication(MatchSnapshot next, List<MatchChange> changes, CompletableFuture<Void> durable,
+                               CompletableFuture<Void> published) {
+    }
+
+    // The snapshot writers build on, called with the writer lock held. Normally the last accepted
+    // one; after a failed journal write, everything accepted before is settled first and writers
+    // restart from the published snapshot, dropping the changes built on the lost ones.
+    private MatchSnapshot head() {
+        if (journal != null && (dropped || journal.isHalted())) {
+            settle();
+            head = snapshot.get();
+            dropped = false;
+            journal.resume();
+        }
+        return head;
+    }
+
+    // Waits until every accepted change has been written or has failed, and publishes the written ones
+    private void settle() {
+        List<Publication> accepted;
+        publishLock.lock();
+        try {
+            accepted = List.copyOf(unpublished);
+        } finally {
+            publishLock.unlock();
+        }
+        accepted.forEach(publication -> publication.durable().exceptionally(e -> null).join());
+        publishDurable();
+    }
+
+    // Copy-on-write publish, first half, called with the writer lock held: the changes are appended
+    // to the journal as one unit and queued for publication in version order. The writer then
+    // releases the lock and calls await, so its fsync can be shared with the writers after it.
+    private Publication publish(MatchSnapshot current, List<Match> matches, List<MatchChange> changes) {
+        MatchSnapshot next = new MatchSnapshot(current.version() + 1, matches);
+        CompletableFuture<Void> durable = journal != null ? journal.append(changes) : CompletableFuture.completedFuture(null);
+        Publication publication = new Publication(next, changes, durable, new CompletableFuture<>());
+        publishLock.lock();
+        try {
+            unpublished.add(publication);
+        } finally {
+            publishLock.unlock();
+        }
+        head = next;
+        return publication;
+    }
+
+    // Second half, without the writer lock: waits until the changes are on disk and published. If
+    // the journal write failed, nothing is published: the caller gets an IllegalStateException and
+    // readers, listeners and the journal all keep the previous state.
+    private void await(Publication publication) {
+        publication.durable().exceptionally(e -> null).join();
+        publishDurable();
+        try {
+            publication.published().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Match change could not be written to the journal", e.getCause());
+        }
+    }
+
+    // Publishes, in version order, the accepted changes whose journal write has finished: readers
+    // switch to the new snapshot (one volatile write) and listeners update their derived state.
+    // A change that was not written, or that follows one that was not, is dropped. Writes finish
+    // in the order they were appended, so a writer whose own write finished publishes its change.
+    private void publishDurable() {
+        publishLock.lock();
+        try {
+            Publication publication;
+            while ((publication = unpublished.peek()) != null && publication.durable().isDone()) {
+                unpublished.poll();
+                MatchSnapshot current = snapshot.get();
+                if (publication.durable().isCompletedExceptionally()) {
+                    dropped = true;
+                    publication.published().completeExceptionally(publication.durable().exceptionNow());
+                } else if (publication.next().version() != current.version() + 1) {
+                    dropped = true;
+                    publication.published().completeExceptionally(
+                            new IOException("Built on a change that could not be written"));
+                } else {
+                    snapshot.set(publication.next());
+                    notifyListeners(publication.next(), publication.changes());
+                    publication.published().complete(null);
+                }
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private void notifyListeners(MatchSnapshot next, List<MatchChange> changes) {
+        for (MatchChangeListener listener : listeners) {
+            try {
+                listener.onChanges(next, changes);
+            } catch (RuntimeException e) {
+                logger.error("Match change listener {} failed", listener, e);
+            }
+        }
     }
 }
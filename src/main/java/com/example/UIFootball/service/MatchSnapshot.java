@@ -0,0 +1,67 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Immutable view of the whole dataset at one version. Never modified after construction,
+// so it can be shared freely between sessions and threads.
+public final class MatchSnapshot {
+
+    private final long version;
+    private final List<Match> matches;
+    private final List<String> seasons;
+    private final List<String> leagues;
+    private final List<String> teams;
+    private final int maxId;
+    private volatile MatchFilterIndex filterIndex;
+
+    MatchSnapshot(long version, List<Match> matches) {
+        this.version = version;
+        this.matches = Collections.unmodifiableList(new ArrayList<>(matches));
+        this.seasons = this.matches.stream()
+                .map(match -> String.valueOf(match.season()))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+        this.leagues = this.matches.stream()
+                .map(Match::league)
+                .filter(league -> league != null)
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+        this.teams = this.matches.stream()
+                .flatMap(match -> Stream.of(match.homeTitle(), match.awayTitle()))
+                .filter(team -> !team.equals("N/A"))
+                .distinct()
+                .sorted()
+                .collect(Collectors.toUnmodifiableList());
+        this.maxId = this.matches.stream().mapToInt(Match::id).max().orElse(0);
+    }
+
+    public long version() { return version; }
+
+    public List<Match> matches() { return matches; }
+
+    public List<String> seasons() { return seasons; }
+
+    public List<String> leagues() { return leagues; }
+
+    public List<String> teams() { return teams; }
+
+    public int maxId() { return maxId; }
+
+    // Built on first use; a racing second build produces an identical index, so no locking is needed
+    public MatchFilterIndex filterIndex() {
+        MatchFilterIndex index = filterIndex;
+        if (index == null) {
+            index = new MatchFilterIndex(matches);
+            filterIndex = index;
+        }
+        return index;
+    }
+}
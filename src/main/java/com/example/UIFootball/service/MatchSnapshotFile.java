@@ -0,0 +1,218 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.TeamRef;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+// Binary, column-oriented copy of all_matches.json. The JSON stays the source of truth: the file
+// header records the CRC32 and length of the JSON it was built from, and open() refuses a file
+// whose header does not match, so a changed dataset is simply re-parsed and re-written. The
+// header also holds a CRC32 of the rest of the file, so a torn copy is reported, not mapped.
+//
+// Layout (big-endian):
+//   header   magic, format version, source crc32, source length, payload crc32,
+//            match count, string count, team count
+//   strings  string count x (int length, UTF-8 bytes)          - team ids, titles, short titles, leagues
+//   teams    team count x 3 ints (id, title, short title codes) - dictionary of distinct team refs
+//   columns  one fixed-width array per field, match count entries each
+public final class MatchSnapshotFile {
+
+    static final int MAGIC = 0x55494D53; // "UIMS"
+    static final int FORMAT_VERSION = 2;
+    // The payload crc covers everything from the match count on
+    static final int PAYLOAD_OFFSET = 28;
+    static final int HEADER_SIZE = 40;
+    static final int NONE = -1;
+
+    static final int FLAG_RESULT = 1;
+    static final int FLAG_GOALS = 2;
+    static final int FLAG_XG = 4;
+    static final int FLAG_FORECAST = 8;
+    static final int FLAG_DATETIME = 16;
+
+    private MatchSnapshotFile() {
+    }
+
+    public static void write(Path file, List<Match> matches, long sourceChecksum, long sourceLength) throws IOException {
+        Map<String, Integer> stringCodes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Map<List<Integer>, Integer> teamCodes = new HashMap<>();
+        List<int[]> teams = new ArrayList<>();
+
+        int count = matches.size();
+        int[] homeTeams = new int[count];
+        int[] awayTeams = new int[count];
+        int[] leagues = new int[count];
+        for (int i = 0; i < count; i++) {
+            Match match = matches.get(i);
+            homeTeams[i] = teamCode(match.home(), stringCodes, strings, teamCodes, teams);
+            awayTeams[i] = teamCode(match.away(), stringCodes, strings, teamCodes, teams);
+            leagues[i] = stringCode(match.league(), stringCodes, strings);
+        }
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.position(PAYLOAD_OFFSET);
+            CheckedOutputStream checked = new CheckedOutputStream(Channels.newOutputStream(channel), new CRC32());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(checked, 1 << 16));
+            out.writeInt(count);
+            out.writeInt(strings.size());
+            out.writeInt(teams.size());
+
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            for (int[] team : teams) {
+                out.writeInt(team[0]);
+                out.writeInt(team[1]);
+                out.writeInt(team[2]);
+            }
+
+            for (Match match : matches) out.writeInt(match.id());
+            for (Match match : matches) out.writeByte(flags(match));
+            for (Match match : matches) out.writeShort(match.season());
+            for (int league : leagues) out.writeInt(league);
+            for (int team : homeTeams) out.writeInt(team);
+            for (int team : awayTeams) out.writeInt(team);
+            for (Match match : matches) out.writeShort(match.goals() != null ? match.goals().home() : 0);
+            for (Match match : matches) out.writeShort(match.goals() != null ? match.goals().away() : 0);
+            for (Match match : matches) out.writeDouble(match.xG() != null ? match.xG().home() : 0);
+            for (Match match : matches) out.writeDouble(match.xG() != null ? match.xG().away() : 0);
+            for (Match match : matches) out.writeDouble(match.forecast() != null ? match.forecast().win() : 0);
+            for (Match match : matches) out.writeDouble(match.forecast() != null ? match.forecast().draw() : 0);
+            for (Match match : matches) out.writeDouble(match.forecast() != null ? match.forecast().loss() : 0);
+            for (Match match : matches) {
+                out.writeLong(match.datetime() != null ? match.datetime().toEpochSecond(ZoneOffset.UTC) : 0);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(PAYLOAD_OFFSET)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(sourceChecksum)
+                    .putLong(sourceLength)
+                    .putInt((int) checked.getChecksum().getValue())
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        replace(temp, file);
+    }
+
+    // Moves a complete, already forced temp file over the target and syncs the directory, so that
+    // once this returns the target survives a power loss with either its old or its new content
+    static void replace(Path temp, Path file) throws IOException {
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Directories cannot be opened or synced on Windows, where the move itself is durable
+            if (!System.getProperty("os.name", "").startsWith("Windows")) {
+                throw e;
+            }
+        }
+    }
+
+    // Maps the file read-only. Returns null if it is missing, from another format version,
+    // or was built from a different JSON source (checksum or length mismatch); throws if it
+    // is from this source but its content does not match its checksum.
+    public static MappedMatchColumns open(Path file, long sourceChecksum, long sourceLength) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION
+                || buffer.getLong(8) != sourceChecksum || buffer.getLong(16) != sourceLength) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(PAYLOAD_OFFSET, buffer.limit() - PAYLOAD_OFFSET));
+        if ((int) crc.getValue() != buffer.getInt(24)) {
+            throw new IOException("Checksum mismatch in " + file + ", the file is damaged");
+        }
+        return new MappedMatchColumns(buffer);
+    }
+
+    private static int flags(Match match) {
+        int flags = 0;
+        if (match.result()) flags |= FLAG_RESULT;
+        if (match.goals() != null) flags |= FLAG_GOALS;
+        if (match.xG() != null) flags |= FLAG_XG;
+        if (match.forecast() != null) flags |= FLAG_FORECAST;
+        if (match.datetime() != null) flags |= FLAG_DATETIME;
+        return flags;
+    }
+
+    private static int teamCode(TeamRef team, Map<String, Integer> stringCodes,
+                                List<String> strings, Map<List<Integer>, Integer> teamCodes, List<int[]> teams) {
+        if (team == null) {
+            return NONE;
+        }
+        int[] codes = {
+                stringCode(team.id(), stringCodes, strings),
+                stringCode(team.title(), stringCodes, strings),
+                stringCode(team.shortTitle(), stringCodes, strings)
+        };
+        return teamCodes.computeIfAbsent(List.of(codes[0], codes[1], codes[2]), key -> {
+            teams.add(codes);
+            return teams.size() - 1;
+        });
+    }
+
+    private static int stringCode(String value, Map<String, Integer> stringCodes, List<String> strings) {
+        if (value == null) {
+            return NONE;
+        }
+        return stringCodes.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    static String readString(ByteBuffer buffer, int position, int length) {
+        Objects.checkFromIndexSize(position, length, buffer.limit());
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
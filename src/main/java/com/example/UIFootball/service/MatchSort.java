@@ -0,0 +1,47 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// Server-side sort order for paged match queries
+public record MatchSort(Field field, boolean descending) {
+
+    public static final MatchSort NATURAL = new MatchSort(null, false);
+
+    public enum Field {
+        ID("id", Comparator.comparingInt(Match::id)),
+        SEASON("season", Comparator.comparingInt(Match::season)),
+        LEAGUE("league", Comparator.comparing(Match::league, Comparator.nullsFirst(Comparator.naturalOrder()))),
+        DATETIME("datetime", Comparator.comparing(Match::datetime, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))),
+        HOME_TEAM("home", Comparator.comparing(Match::homeTitle)),
+        AWAY_TEAM("away", Comparator.comparing(Match::awayTitle));
+
+        private final String property;
+        private final Comparator<Match> comparator;
+
+        Field(String property, Comparator<Match> comparator) {
+            this.property = property;
+            this.comparator = comparator;
+        }
+
+        public String property() { return property; }
+
+        Comparator<Match> comparator() { return comparator; }
+
+        public static Field fromProperty(String property) {
+            for (Field field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    public static MatchSort by(String property, boolean descending) {
+        Field field = Field.fromProperty(property);
+        return field == null ? NATURAL : new MatchSort(field, descending);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.UIFootball.service;
+
+// Reads the flat Python dict reprs embedded in all_matches.json, e.g.
+// {'id': '228', 'title': 'Fulham', 'short_title': 'FLH'} or {'h': None, 'a': None},
+// without converting them to JSON first. Values are kept as strings; None becomes null.
+final class PythonDictReader {
+
+    private static final int MAX_ENTRIES = 8;
+
+    private final String[] keys = new String[MAX_ENTRIES];
+    private final String[] values = new String[MAX_ENTRIES];
+    private int size;
+
+    // Returns false when the text is not a dict this reader understands
+    boolean read(String text) {
+        size = 0;
+        if (text == null) {
+            return false;
+        }
+        int pos = skipWhitespace(text, 0);
+        if (pos >= text.length() || text.charAt(pos) != '{') {
+            return false;
+        }
+        pos = skipWhitespace(text, pos + 1);
+        while (pos < text.length() && text.charAt(pos) != '}') {
+            int keyEnd = quotedEnd(text, pos);
+            if (keyEnd < 0) {
+                return false;
+            }
+            String key = unquote(text, pos, keyEnd);
+            pos = skipWhitespace(text, keyEnd + 1);
+            if (pos >= text.length() || text.charAt(pos) != ':') {
+                return false;
+            }
+            pos = skipWhitespace(text, pos + 1);
+
+            String value;
+            int valueEnd;
+            if (text.startsWith("None", pos)) {
+                value = null;
+                valueEnd = pos + 4;
+            } else if (pos < text.length() && (text.charAt(pos) == '\'' || text.charAt(pos) == '"')) {
+                int end = quotedEnd(text, pos);
+                if (end < 0) {
+                    return false;
+                }
+                value = unquote(text, pos, end);
+                valueEnd = end + 1;
+            } else {
+                // Bare literal such as a number or True/False
+                int end = pos;
+                while (end < text.length() && text.charAt(end) != ',' && text.charAt(end) != '}') {
+                    end++;
+                }
+                value = text.substring(pos, end).trim();
+                valueEnd = end;
+            }
+            if (size < MAX_ENTRIES) {
+                keys[size] = key;
+                values[size] = value;
+                size++;
+            }
+            pos = skipWhitespace(text, valueEnd);
+            if (pos < text.length() && text.charAt(pos) == ',') {
+                pos = skipWhitespace(text, pos + 1);
+            }
+        }
+        return pos < text.length();
+    }
+
+    String get(String key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    private static int skipWhitespace(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    // Index of the closing quote matching the quote at start, or -1
+    private static int quotedEnd(String text, int start) {
+        char quote = text.charAt(start);
+        if (quote != '\'' && quote != '"') {
+            return -1;
+        }
+        for (int i = start + 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unquote(String text, int start, int end) {
+        String inner = text.substring(start + 1, end);
+        return inner.indexOf('\\') < 0 ? inner : inner.replaceAll("\\\\(.)", "$1");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.UIFootball.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Runs view queries off the UI request threads. Each task gets its own virtual thread, so
+// many sessions filtering at once do not compete for a small pool; a single scheduler
+// thread only handles the debounce delays.
+@Component
+public class QueryExecutor {
+
+    public interface Cancellable {
+        void cancel();
+    }
+
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "query-debounce");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Starts the task on a virtual thread right away
+    public void execute(Runnable task) {
+        virtualThreads.execute(task);
+    }
+
+    // Starts the task on a virtual thread once the delay has passed. Cancelling before then
+    // drops it; cancelling while it runs interrupts it.
+    public Cancellable schedule(Runnable task, Duration delay) {
+        FutureTask<Void> work = new FutureTask<>(task, null);
+        ScheduledFuture<?> timer = scheduler.schedule(() -> virtualThreads.execute(work),
+                delay.toMillis(), TimeUnit.MILLISECONDS);
+        return () -> {
+            timer.cancel(false);
+            work.cancel(true);
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+}
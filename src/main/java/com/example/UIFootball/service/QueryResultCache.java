@@ -0,0 +1,108 @@
+package com.example.UIFootball.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+// Shared LRU cache of query results, bounded by entry count and by total weight (the caller's
+// measure of how big a result is, e.g. its row count). Every entry remembers the dataset
+// version it was computed from and is only served for that version; invalidateAll() drops
+// everything when the data changes. Loads run outside the lock, so a slow query never blocks
+// other lookups; two sessions missing on the same key at once may both compute it. A load that
+// overlaps invalidateAll() is returned but not cached: the snapshot version moves before the
+// listeners apply a change, so such a result may predate the change under the new version.
+public class QueryResultCache {
+
+    private record Entry(long version, Object value, long weight) {
+    }
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    // Bumped by invalidateAll(), so loads started before it are not cached
+    private long generation;
+
+    public QueryResultCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    // The cached value for the key at this version, else the loaded one (cached if it fits)
+    @SuppressWarnings("unchecked")
+    public <V> V get(long version, Object key, Supplier<V> loader, ToLongFunction<V> weigher) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version() == version) {
+                hits++;
+                return (V) entry.value();
+            }
+            misses++;
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        V value = loader.get();
+        long valueWeight = Math.max(1, weigher.applyAsLong(value));
+        if (valueWeight > maxWeight) {
+            return value;
+        }
+        lock.lock();
+        try {
+            if (generation != loadGeneration) {
+                return value;
+            }
+            Entry previous = entries.put(key, new Entry(version, value, valueWeight));
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += valueWeight;
+            evict();
+        } finally {
+            lock.unlock();
+        }
+        return value;
+    }
+
+    // Least recently used entries go first until both bounds hold again
+    private void evict() {
+        Iterator<Map.Entry<Object, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation++;
+            invalidations += entries.size();
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(hits, misses, evictions, invalidations, entries.size(), weight);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
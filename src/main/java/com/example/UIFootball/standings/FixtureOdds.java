@@ -0,0 +1,72 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.Match;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Estimated probabilities for fixtures that carry no forecast of their own (the unplayed
+// fixtures in the dataset have none). A fixture's home win chance is the mean of the home
+// team's forecast home win chance in its played home matches of the season and the
+// forecast home win chance its opponent faced in its played away matches; the away win
+// chance is built the same way. Teams without such matches fall back to the league season's
+// observed home win, draw and away win rates.
+final class FixtureOdds {
+
+    private final Map<String, double[]> homeForecasts = new HashMap<>();
+    private final Map<String, double[]> awayForecasts = new HashMap<>();
+    private final Forecast baseline;
+
+    private FixtureOdds(Forecast baseline) {
+        this.baseline = baseline;
+    }
+
+    static FixtureOdds of(List<Match> matches, String league, int season) {
+        int[] outcomes = new int[3];
+        Map<String, double[]> homeSums = new HashMap<>();
+        Map<String, double[]> awaySums = new HashMap<>();
+        for (Match match : matches) {
+            if (match.goals() == null || match.home() == null || match.away() == null
+                    || !league.equals(match.league()) || match.season() != season) {
+                continue;
+            }
+            outcomes[1 - match.goals().outcome()]++;
+            if (match.forecast() != null) {
+                accumulate(homeSums, match.homeTitle(), match.forecast());
+                accumulate(awaySums, match.awayTitle(), match.forecast());
+            }
+        }
+        int played = outcomes[0] + outcomes[1] + outcomes[2];
+        FixtureOdds odds = new FixtureOdds(played == 0
+                ? new Forecast(1 / 3.0, 1 / 3.0, 1 / 3.0)
+                : new Forecast((double) outcomes[0] / played, (double) outcomes[1] / played, (double) outcomes[2] / played));
+        homeSums.forEach((team, sums) -> odds.homeForecasts.put(team, mean(sums)));
+        awaySums.forEach((team, sums) -> odds.awayForecasts.put(team, mean(sums)));
+        return odds;
+    }
+
+    Forecast estimate(Match fixture) {
+        double[] home = homeForecasts.get(fixture.homeTitle());
+        double[] away = awayForecasts.get(fixture.awayTitle());
+        if (home == null || away == null) {
+            return baseline;
+        }
+        double win = (home[0] + away[0]) / 2;
+        double loss = (home[2] + away[2]) / 2;
+        return new Forecast(win, Math.max(0, 1 - win - loss), loss);
+    }
+
+    private static void accumulate(Map<String, double[]> sums, String team, Forecast forecast) {
+        double[] sum = sums.computeIfAbsent(team, key -> new double[4]);
+        sum[0] += forecast.win();
+        sum[1] += forecast.draw();
+        sum[2] += forecast.loss();
+        sum[3]++;
+    }
+
+    private static double[] mean(double[] sums) {
+        return new double[] {sums[0] / sums[3], sums[1] / sums[3], sums[2] / sums[3]};
+    }
+}
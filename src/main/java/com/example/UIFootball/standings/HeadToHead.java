@@ -0,0 +1,14 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+
+import java.util.List;
+
+// Every meeting of two teams across all leagues and seasons, seen from team's side: record
+// counts played matches only, xG totals the matches that have xG. matches includes fixtures
+// that are not played yet and is ordered by kick-off.
+public record HeadToHead(String team, String opponent, List<Match> matches, Tally record,
+                         double xgFor, double xgAgainst) {
+
+    public double xgDifference() { return xgFor - xgAgainst; }
+}
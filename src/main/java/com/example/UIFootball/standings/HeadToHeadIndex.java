@@ -0,0 +1,124 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Matches grouped by the unordered pair of teams, keyed by both NameDictionary team codes packed
+// into one long (smaller code first). A head-to-head lookup reads one list and folds only the
+// meetings of the pair. Lists are immutable and replaced on each add, edit or delete, once per
+// pair for a batch of changes.
+@Component
+public class HeadToHeadIndex implements MatchChangeListener {
+
+    private final Map<Long, List<Match>> meetings = new ConcurrentHashMap<>();
+
+    public HeadToHeadIndex(MatchService matchService) {
+        matchService.addChangeListener(this);
+    }
+
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        Map<Long, List<Match>> rebuilt = new HashMap<>();
+        for (Match match : snapshot.matches()) {
+            if (indexed(match)) {
+                rebuilt.computeIfAbsent(pairKey(match), key -> new ArrayList<>()).add(match);
+            }
+        }
+        meetings.keySet().retainAll(rebuilt.keySet());
+        rebuilt.forEach((key, matches) -> {
+            matches.sort(Match.KICK_OFF);
+            meetings.put(key, List.copyOf(matches));
+        });
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        onChanges(snapshot, List.of(change));
+    }
+
+    // Changes are grouped by pair first, so each affected list is copied and replaced once per
+    // batch rather than once per change
+    @Override
+    public void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+        Map<Long, List<MatchChange>> byPair = new HashMap<>();
+        for (MatchChange change : changes) {
+            if (change.before() != null && indexed(change.before())) {
+                byPair.computeIfAbsent(pairKey(change.before()), key -> new ArrayList<>()).add(change);
+            }
+            if (change.after() != null && indexed(change.after())
+                    && (change.before() == null || !indexed(change.before()) || pairKey(change.before()) != pairKey(change.after()))) {
+                byPair.computeIfAbsent(pairKey(change.after()), key -> new ArrayList<>()).add(change);
+            }
+        }
+        byPair.forEach((pair, pairChanges) -> meetings.compute(pair, (key, current) -> {
+            List<Match> next = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            for (MatchChange change : pairChanges) {
+                Match removed = change.before();
+                if (removed != null && indexed(removed) && pairKey(removed) == key) {
+                    next.removeIf(match -> match.id() == removed.id());
+                }
+                Match added = change.after();
+                if (added != null && indexed(added) && pairKey(added) == key) {
+                    int position = Collections.binarySearch(next, added, Match.KICK_OFF);
+                    next.add(position < 0 ? -position - 1 : position, added);
+                }
+            }
+            return next.isEmpty() ? null : List.copyOf(next);
+        }));
+    }
+
+    // Meetings of the two teams in kick-off order; empty if they never met or a name is unknown
+    public List<Match> matches(String team, String opponent) {
+        int teamCode = NameDictionary.TEAMS.find(team);
+        int opponentCode = NameDictionary.TEAMS.find(opponent);
+        if (teamCode == NameDictionary.NONE || opponentCode == NameDictionary.NONE || teamCode == opponentCode) {
+            return List.of();
+        }
+        return meetings.getOrDefault(pairKey(teamCode, opponentCode), List.of());
+    }
+
+    public HeadToHead headToHead(String team, String opponent) {
+        List<Match> matches = matches(team, opponent);
+        Tally record = Tally.EMPTY;
+        double xgFor = 0;
+        double xgAgainst = 0;
+        for (Match match : matches) {
+            boolean home = team.equals(match.homeTitle());
+            if (match.goals() != null) {
+                record = home
+                        ? record.plus(Tally.of(match.goals().home(), match.goals().away()))
+                        : record.plus(Tally.of(match.goals().away(), match.goals().home()));
+            }
+            if (match.xG() != null) {
+                xgFor += home ? match.xG().home() : match.xG().away();
+                xgAgainst += home ? match.xG().away() : match.xG().home();
+            }
+        }
+        return new HeadToHead(team, opponent, matches, record, xgFor, xgAgainst);
+    }
+
+    // Both teams must be known and different; a team never meets itself
+    private static boolean indexed(Match match) {
+        return match.home() != null && match.away() != null && !match.homeTitle().equals(match.awayTitle());
+    }
+
+    private static long pairKey(Match match) {
+        return pairKey(NameDictionary.TEAMS.code(match.homeTitle()), NameDictionary.TEAMS.code(match.awayTitle()));
+    }
+
+    private static long pairKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.UIFootball.standings;
+
+import java.util.List;
+
+// Result of one simulator run; teams are in current table order
+public record SeasonProjection(String league, int season, int runs, long seed, int fixtures,
+                               long elapsedNanos, List<TeamProjection> teams) {
+
+    public double simulationsPerSecond() {
+        return elapsedNanos == 0 ? 0 : runs * 1_000_000_000.0 / elapsedNanos;
+    }
+}
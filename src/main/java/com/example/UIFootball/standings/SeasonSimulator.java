@@ -0,0 +1,214 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Forecast;
+import com.example.UIFootball.model.LeagueSeason;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import com.example.UIFootball.service.QueryExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+// Plays out the remaining fixtures of a league season many times from the current table.
+// The table, the fixtures and the estimated odds all come from the league season's matches in
+// one snapshot, so a run never mixes versions and never scans the whole dataset.
+// Runs are split into a fixed number of chunks, each with its own SplittableRandom split from
+// the seed in chunk order, so a seed gives the same result on any number of cores. The inner
+// loop only touches primitive arrays allocated once per chunk. Goals are not simulated: ties
+// on points keep the current table order. Projections with the default runs and seed are
+// kept per league season until the dataset changes, so every session viewing the same season
+// shares one simulation; it runs on a QueryExecutor thread, never on the caller's.
+@Component
+public class SeasonSimulator {
+
+    public static final int DEFAULT_RUNS = 100_000;
+    public static final long DEFAULT_SEED = 42L;
+    public static final int TOP_PLACES = 4;
+    public static final int RELEGATION_PLACES = 3;
+    private static final int CHUNKS = 64;
+
+    private final MatchService matchService;
+    private final StandingsAggregator aggregator;
+    private final QueryExecutor queryExecutor;
+    private final Map<LeagueSeason, Projection> projections = new ConcurrentHashMap<>();
+
+    private record Projection(long version, CompletableFuture<SeasonProjection> projection) {
+    }
+
+    public SeasonSimulator(MatchService matchService, StandingsAggregator aggregator, QueryExecutor queryExecutor) {
+        this.matchService = matchService;
+        this.aggregator = aggregator;
+        this.queryExecutor = queryExecutor;
+    }
+
+    // Unplayed fixtures with both teams in the league season
+    public List<Match> remainingFixtures(String league, int season) {
+        return remainingFixtures(seasonMatches(matchService.getSnapshot(), league, season));
+    }
+
+    // The league season's matches, read from the snapshot's season and league indexes
+    private static List<Match> seasonMatches(MatchSnapshot snapshot, String league, int season) {
+        return snapshot.filterIndex().filter(new MatchFilter(String.valueOf(season), league, null, null)).stream()
+                .filter(match -> league.equals(match.league()))
+                .toList();
+    }
+
+    private static List<Match> remainingFixtures(List<Match> seasonMatches) {
+        return seasonMatches.stream()
+                .filter(match -> match.goals() == null && match.home() != null && match.away() != null)
+                .toList();
+    }
+
+    // Concurrent callers for the same season share one simulation instead of each running it.
+    // Only the future is put in the map; the simulation runs and completes it outside, so the map
+    // is never locked for its duration. A failed run is dropped, so the next call retries.
+    public CompletableFuture<SeasonProjection> simulate(String league, int season) {
+        LeagueSeason key = new LeagueSeason(league, season);
+        MatchSnapshot snapshot = matchService.getSnapshot();
+        Projection started = new Projection(snapshot.version(), new CompletableFuture<>());
+        Projection current = projections.merge(key, started,
+                (cached, next) -> cached.version() >= next.version() ? cached : next);
+        if (current == started) {
+            queryExecutor.execute(() -> {
+                try {
+                    started.projection().complete(simulate(snapshot, league, season, DEFAULT_RUNS, DEFAULT_SEED));
+                } catch (RuntimeException e) {
+                    projections.remove(key, started);
+                    started.projection().completeExceptionally(e);
+                }
+            });
+        }
+        return current.projection();
+    }
+
+    public SeasonProjection simulate(String league, int season, int runs, long seed) {
+        return simulate(matchService.getSnapshot(), league, season, runs, seed);
+    }
+
+    private SeasonProjection simulate(MatchSnapshot snapshot, String league, int season, int runs, long seed) {
+        List<Match> seasonMatches = seasonMatches(snapshot, league, season);
+        List<TeamStanding> table = aggregator.aggregateSequential(seasonMatches, match -> match.goals() != null
+                && match.home() != null && match.away() != null);
+        List<Match> fixtures = remainingFixtures(seasonMatches);
+        int teams = table.size();
+        Map<String, Integer> positions = new HashMap<>();
+        int[] startPoints = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            positions.put(table.get(i).team(), i);
+            startPoints[i] = table.get(i).points();
+        }
+
+        // Fixtures as parallel arrays; a fixture involving a team without a table row is skipped
+        FixtureOdds odds = FixtureOdds.of(seasonMatches, league, season);
+        int[] home = new int[fixtures.size()];
+        int[] away = new int[fixtures.size()];
+        double[] homeWin = new double[fixtures.size()];
+        double[] homeWinOrDraw = new double[fixtures.size()];
+        int count = 0;
+        for (Match fixture : fixtures) {
+            Integer homePosition = positions.get(fixture.homeTitle());
+            Integer awayPosition = positions.get(fixture.awayTitle());
+            if (homePosition == null || awayPosition == null) {
+                continue;
+            }
+            Forecast forecast = fixture.forecast() != null ? fixture.forecast() : odds.estimate(fixture);
+            double total = forecast.win() + forecast.draw() + forecast.loss();
+            home[count] = homePosition;
+            away[count] = awayPosition;
+            homeWin[count] = forecast.win() / total;
+            homeWinOrDraw[count] = (forecast.win() + forecast.draw()) / total;
+            count++;
+        }
+        int fixtureCount = count;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[CHUNKS];
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            randoms[chunk] = root.split();
+        }
+
+        long start = System.nanoTime();
+        long[] totals = IntStream.range(0, CHUNKS).parallel()
+                .mapToObj(chunk -> {
+                    int chunkRuns = runs / CHUNKS + (chunk < runs % CHUNKS ? 1 : 0);
+                    return simulateChunk(randoms[chunk], chunkRuns, startPoints, fixtureCount, home, away,
+                            homeWin, homeWinOrDraw);
+                })
+                .reduce(new long[teams * 4], SeasonSimulator::add);
+        long elapsed = System.nanoTime() - start;
+
+        List<TeamProjection> projections = new ArrayList<>(teams);
+        for (int i = 0; i < teams; i++) {
+            double share = runs == 0 ? 0 : 1.0 / runs;
+            projections.add(new TeamProjection(table.get(i).team(), startPoints[i],
+                    runs == 0 ? startPoints[i] : totals[i * 4] * share,
+                    totals[i * 4 + 1] * share, totals[i * 4 + 2] * share, totals[i * 4 + 3] * share));
+        }
+        return new SeasonProjection(league, season, runs, seed, fixtureCount, elapsed, List.copyOf(projections));
+    }
+
+    // Per team: total final points, titles, top-four finishes, relegations (4 longs per team)
+    private static long[] simulateChunk(SplittableRandom random, int runs, int[] startPoints, int fixtures,
+                                        int[] home, int[] away, double[] homeWin, double[] homeWinOrDraw) {
+        int teams = startPoints.length;
+        int[] points = new int[teams];
+        int[] order = new int[teams];
+        long[] totals = new long[teams * 4];
+        for (int run = 0; run < runs; run++) {
+            System.arraycopy(startPoints, 0, points, 0, teams);
+            for (int f = 0; f < fixtures; f++) {
+                double draw = random.nextDouble();
+                if (draw < homeWin[f]) {
+                    points[home[f]] += 3;
+                } else if (draw < homeWinOrDraw[f]) {
+                    points[home[f]] += 1;
+                    points[away[f]] += 1;
+                } else {
+                    points[away[f]] += 3;
+                }
+            }
+
+            // Insertion sort by points; the current position (the array index) breaks ties
+            for (int i = 0; i < teams; i++) {
+                int team = i;
+                int j = i - 1;
+                while (j >= 0 && points[order[j]] < points[team]) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = team;
+            }
+
+            for (int i = 0; i < teams; i++) {
+                totals[i * 4] += points[i];
+            }
+            if (teams > 0) {
+                totals[order[0] * 4 + 1]++;
+            }
+            for (int place = 0; place < Math.min(TOP_PLACES, teams); place++) {
+                totals[order[place] * 4 + 2]++;
+            }
+            for (int place = Math.max(0, teams - RELEGATION_PLACES); place < teams; place++) {
+                totals[order[place] * 4 + 3]++;
+            }
+        }
+        return totals;
+    }
+
+    private static long[] add(long[] left, long[] right) {
+        long[] sum = new long[left.length];
+        for (int i = 0; i < sum.length; i++) {
+            sum[i] = left[i] + right[i];
+        }
+        return sum;
+    }
+}
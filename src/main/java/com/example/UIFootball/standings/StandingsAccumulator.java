@@ -0,0 +1,128 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Mutable partial standings keyed by team. merge() is associative and commutative, so partial
+// results over any split of the matches (by league-season partition or otherwise) combine into
+// the same table in any order. Not thread-safe; each fork-join leaf fills its own instance.
+//
+// Teams are grouped by their NameDictionary code: the tallies live in one flat int array with a
+// fixed stride per team and the league and season of each team in parallel int arrays, so a
+// match costs two array updates and no hashing of team names.
+public final class StandingsAccumulator {
+
+    // Per team: home played, wins, draws, losses, goals for, goals against, then the same for away
+    private static final int FIELDS = 12;
+    private static final int MIXED = -3;
+
+    private int[] counts = new int[0];
+    private int[] leagues = new int[0];
+    private int[] seasons = new int[0];
+    private boolean[] present = new boolean[0];
+
+    public StandingsAccumulator add(Match match) {
+        if (match.goals() == null || match.home() == null || match.away() == null) {
+            return this;
+        }
+        int homeGoals = match.goals().home();
+        int awayGoals = match.goals().away();
+        int league = NameDictionary.LEAGUES.code(match.league());
+        record(NameDictionary.TEAMS.code(match.homeTitle()), league, match.season(), 0, homeGoals, awayGoals);
+        record(NameDictionary.TEAMS.code(match.awayTitle()), league, match.season(), 6, awayGoals, homeGoals);
+        return this;
+    }
+
+    public StandingsAccumulator add(TeamStanding standing) {
+        int row = row(NameDictionary.TEAMS.code(standing.team()), NameDictionary.LEAGUES.code(standing.league()),
+                standing.season() == null ? NameDictionary.NONE : standing.season());
+        addTally(row, standing.home());
+        addTally(row + 6, standing.away());
+        return this;
+    }
+
+    public StandingsAccumulator merge(StandingsAccumulator other) {
+        for (int team = 0; team < other.present.length; team++) {
+            if (other.present[team]) {
+                int row = row(team, other.leagues[team], other.seasons[team]);
+                int otherRow = team * FIELDS;
+                for (int i = 0; i < FIELDS; i++) {
+                    counts[row + i] += other.counts[otherRow + i];
+                }
+            }
+        }
+        return this;
+    }
+
+    // League or season is null on rows that combine more than one
+    public List<TeamStanding> result() {
+        List<TeamStanding> rows = new ArrayList<>();
+        for (int team = 0; team < present.length; team++) {
+            if (present[team]) {
+                int league = leagues[team];
+                int season = seasons[team];
+                rows.add(new TeamStanding(league == MIXED ? null : NameDictionary.LEAGUES.name(league),
+                        season == MIXED || season == NameDictionary.NONE ? null : season,
+                        NameDictionary.TEAMS.name(team), tally(team * FIELDS), tally(team * FIELDS + 6)));
+            }
+        }
+        rows.sort(TeamStanding.TABLE_ORDER);
+        return rows;
+    }
+
+    private void record(int team, int league, int season, int offset, int goalsFor, int goalsAgainst) {
+        int row = row(team, league, season) + offset;
+        int outcome = Integer.compare(goalsFor, goalsAgainst);
+        counts[row]++;
+        counts[row + 1] += outcome > 0 ? 1 : 0;
+        counts[row + 2] += outcome == 0 ? 1 : 0;
+        counts[row + 3] += outcome < 0 ? 1 : 0;
+        counts[row + 4] += goalsFor;
+        counts[row + 5] += goalsAgainst;
+    }
+
+    // Start of the team's tallies in counts; league and season collapse to MIXED once they differ
+    private int row(int team, int league, int season) {
+        if (team >= present.length) {
+            grow(team);
+        }
+        if (!present[team]) {
+            present[team] = true;
+            leagues[team] = league;
+            seasons[team] = season;
+        } else {
+            if (leagues[team] != league) {
+                leagues[team] = MIXED;
+            }
+            if (seasons[team] != season) {
+                seasons[team] = MIXED;
+            }
+        }
+        return team * FIELDS;
+    }
+
+    private void grow(int team) {
+        int capacity = Math.max(team + 1, Math.max(NameDictionary.TEAMS.size(), present.length * 2));
+        counts = Arrays.copyOf(counts, capacity * FIELDS);
+        leagues = Arrays.copyOf(leagues, capacity);
+        seasons = Arrays.copyOf(seasons, capacity);
+        present = Arrays.copyOf(present, capacity);
+    }
+
+    private void addTally(int row, Tally tally) {
+        counts[row] += tally.played();
+        counts[row + 1] += tally.wins();
+        counts[row + 2] += tally.draws();
+        counts[row + 3] += tally.losses();
+        counts[row + 4] += tally.goalsFor();
+        counts[row + 5] += tally.goalsAgainst();
+    }
+
+    private Tally tally(int row) {
+        return new Tally(counts[row], counts[row + 1], counts[row + 2], counts[row + 3], counts[row + 4], counts[row + 5]);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.LeagueSeason;
+import com.example.UIFootball.model.Match;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+
+// Computes standings from raw matches by splitting them into (league, season) partitions and
+// reducing partial StandingsAccumulators on a fork-join pool. The StandingsEngine uses it for
+// full rebuilds; aggregate() also answers multi-season or multi-league tables over any match set.
+@Component
+public class StandingsAggregator {
+
+    private final ForkJoinPool pool;
+
+    public StandingsAggregator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public StandingsAggregator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<TeamStanding> aggregate(List<Match> matches, Predicate<Match> filter) {
+        List<List<Match>> partitions = partition(matches, filter);
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        return pool.invoke(new PartitionTask(partitions, 0, partitions.size())).result();
+    }
+
+    // Same result on the calling thread, for comparison and small inputs
+    public List<TeamStanding> aggregateSequential(List<Match> matches, Predicate<Match> filter) {
+        StandingsAccumulator accumulator = new StandingsAccumulator();
+        for (Match match : matches) {
+            if (filter.test(match)) {
+                accumulator.add(match);
+            }
+        }
+        return accumulator.result();
+    }
+
+    // One separate table per (league, season), each partition reduced in parallel
+    public Map<LeagueSeason, List<TeamStanding>> aggregateByPartition(List<Match> matches) {
+        Map<LeagueSeason, List<Match>> byLeagueSeason = groupByLeagueSeason(matches, match -> true);
+        List<LeagueSeason> keys = new ArrayList<>(byLeagueSeason.keySet());
+        List<PartitionTask> tasks = new ArrayList<>(keys.size());
+        for (LeagueSeason key : keys) {
+            tasks.add(new PartitionTask(List.of(byLeagueSeason.get(key)), 0, 1));
+        }
+        Map<LeagueSeason, List<TeamStanding>> tables = new LinkedHashMap<>();
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        for (int i = 0; i < keys.size(); i++) {
+            tables.put(keys.get(i), tasks.get(i).join().result());
+        }
+        return tables;
+    }
+
+    private static List<List<Match>> partition(List<Match> matches, Predicate<Match> filter) {
+        return new ArrayList<>(groupByLeagueSeason(matches, filter).values());
+    }
+
+    private static Map<LeagueSeason, List<Match>> groupByLeagueSeason(List<Match> matches, Predicate<Match> filter) {
+        Map<LeagueSeason, List<Match>> byLeagueSeason = new LinkedHashMap<>();
+        for (Match match : matches) {
+            if (filter.test(match)) {
+                byLeagueSeason.computeIfAbsent(LeagueSeason.of(match), key -> new ArrayList<>()).add(match);
+            }
+        }
+        return byLeagueSeason;
+    }
+
+    // Halves the partition range until a single partition is left, then merges on the way up
+    private static final class PartitionTask extends RecursiveTask<StandingsAccumulator> {
+
+        private final List<List<Match>> partitions;
+        private final int from;
+        private final int to;
+
+        PartitionTask(List<List<Match>> partitions, int from, int to) {
+            this.partitions = partitions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected StandingsAccumulator compute() {
+            if (to - from == 1) {
+                StandingsAccumulator accumulator = new StandingsAccumulator();
+                for (Match match : partitions.get(from)) {
+                    accumulator.add(match);
+                }
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(partitions, from, middle);
+            left.fork();
+            StandingsAccumulator right = new PartitionTask(partitions, middle, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
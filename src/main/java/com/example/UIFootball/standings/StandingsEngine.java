@@ -0,0 +1,152 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.LeagueSeason;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// League tables kept per (league, season), one TeamStanding per team. The tables are built
+// once from the loaded snapshot and then adjusted by each added, edited or deleted match, so
+// reading a table costs O(teams) and never rescans matches. Each table is an array indexed by
+// NameDictionary team code that is copied and replaced as a whole, so readers always see a
+// table with a whole match applied.
+@Component
+public class StandingsEngine implements MatchChangeListener {
+
+    private final Map<LeagueSeason, TeamStanding[]> tables = new ConcurrentHashMap<>();
+    private final StandingsAggregator aggregator;
+    // Version of the snapshot whose changes are fully applied; it moves after the tables do
+    private volatile long version;
+
+    public StandingsEngine(MatchService matchService, StandingsAggregator aggregator) {
+        this.aggregator = aggregator;
+        matchService.addChangeListener(this);
+    }
+
+    // Full rebuild: every (league, season) table is reduced in parallel
+    @Override
+    public void onReset(MatchSnapshot snapshot) {
+        List<Match> counted = snapshot.matches().stream().filter(StandingsEngine::counts).toList();
+        Map<LeagueSeason, List<TeamStanding>> rebuilt = aggregator.aggregateByPartition(counted);
+        tables.keySet().retainAll(rebuilt.keySet());
+        rebuilt.forEach((key, rows) -> {
+            TeamStanding[] table = new TeamStanding[NameDictionary.TEAMS.size()];
+            rows.forEach(row -> table[NameDictionary.TEAMS.code(row.team())] = row);
+            tables.put(key, table);
+        });
+        version = snapshot.version();
+    }
+
+    @Override
+    public void onChange(MatchSnapshot snapshot, MatchChange change) {
+        apply(change);
+        version = snapshot.version();
+    }
+
+    @Override
+    public void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+        changes.forEach(this::apply);
+        version = snapshot.version();
+    }
+
+    private void apply(MatchChange change) {
+        if (change.before() != null && counts(change.before())) {
+            update(change.before(), -1);
+        }
+        if (change.after() != null && counts(change.after())) {
+            update(change.after(), 1);
+        }
+    }
+
+    public long version() { return version; }
+
+    // Rows of every table matching the filters; null means all leagues, seasons or teams
+    public List<TeamStanding> standings(String league, Integer season, String team) {
+        List<TeamStanding> rows = new ArrayList<>();
+        int teamCode = team == null ? NameDictionary.NONE : NameDictionary.TEAMS.find(team);
+        if (team != null && teamCode == NameDictionary.NONE) {
+            return rows;
+        }
+        tables.forEach((key, table) -> {
+            if ((league == null || league.equals(key.league())) && (season == null || season == key.season())) {
+                if (team == null) {
+                    for (TeamStanding row : table) {
+                        if (row != null) {
+                            rows.add(row);
+                        }
+                    }
+                } else if (teamCode < table.length && table[teamCode] != null) {
+                    rows.add(table[teamCode]);
+                }
+            }
+        });
+        rows.sort(TeamStanding.TABLE_ORDER);
+        return rows;
+    }
+
+    public List<TeamStanding> table(String league, int season) {
+        return standings(league, season, null);
+    }
+
+    // One row per team over every matching table, e.g. an all-time table (season null) or a
+    // table across all leagues (league null). Merges the maintained tables, never the matches.
+    public List<TeamStanding> combined(String league, Integer season, String team) {
+        StandingsAccumulator accumulator = new StandingsAccumulator();
+        tables.forEach((key, table) -> {
+            if ((league == null || league.equals(key.league())) && (season == null || season == key.season())) {
+                for (TeamStanding row : table) {
+                    if (row != null && (team == null || team.equals(row.team()))) {
+                        accumulator.add(row);
+                    }
+                }
+            }
+        });
+        return accumulator.result();
+    }
+
+    private void update(Match match, int sign) {
+        tables.compute(LeagueSeason.of(match), (key, current) -> {
+            int size = Math.max(NameDictionary.TEAMS.size(), current == null ? 0 : current.length);
+            TeamStanding[] table = current == null ? new TeamStanding[size] : Arrays.copyOf(current, size);
+            apply(table, match, sign);
+            return table;
+        });
+    }
+
+    // Adds (sign 1) or removes (sign -1) one match from both teams' rows
+    private static void apply(TeamStanding[] table, Match match, int sign) {
+        int homeGoals = match.goals().home();
+        int awayGoals = match.goals().away();
+        int home = NameDictionary.TEAMS.code(match.homeTitle());
+        int away = NameDictionary.TEAMS.code(match.awayTitle());
+
+        TeamStanding homeRow = table[home] != null ? table[home] : empty(match, match.homeTitle());
+        Tally homeTally = Tally.of(homeGoals, awayGoals);
+        homeRow = homeRow.withHome(sign > 0 ? homeRow.home().plus(homeTally) : homeRow.home().minus(homeTally));
+        table[home] = homeRow.played() == 0 ? null : homeRow;
+
+        TeamStanding awayRow = table[away] != null ? table[away] : empty(match, match.awayTitle());
+        Tally awayTally = Tally.of(awayGoals, homeGoals);
+        awayRow = awayRow.withAway(sign > 0 ? awayRow.away().plus(awayTally) : awayRow.away().minus(awayTally));
+        table[away] = awayRow.played() == 0 ? null : awayRow;
+    }
+
+    private static TeamStanding empty(Match match, String team) {
+        return new TeamStanding(match.league(), match.season(), team, Tally.EMPTY, Tally.EMPTY);
+    }
+
+    // Only played matches with a known score and both teams count towards a table
+    private static boolean counts(Match match) {
+        return match.goals() != null && match.home() != null && match.away() != null && match.league() != null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.UIFootball.standings;
+
+// Results of one team over a set of matches (e.g. its home games in a season)
+public record Tally(int played, int wins, int draws, int losses, int goalsFor, int goalsAgainst) {
+
+    public static final Tally EMPTY = new Tally(0, 0, 0, 0, 0, 0);
+
+    public static Tally of(int goalsFor, int goalsAgainst) {
+        int outcome = Integer.compare(goalsFor, goalsAgainst);
+        return new Tally(1, outcome > 0 ? 1 : 0, outcome == 0 ? 1 : 0, outcome < 0 ? 1 : 0, goalsFor, goalsAgainst);
+    }
+
+    public Tally plus(Tally other) {
+        return new Tally(played + other.played, wins + other.wins, draws + other.draws, losses + other.losses,
+                goalsFor + other.goalsFor, goalsAgainst + other.goalsAgainst);
+    }
+
+    public Tally minus(Tally other) {
+        return new Tally(played - other.played, wins - other.wins, draws - other.draws, losses - other.losses,
+                goalsFor - other.goalsFor, goalsAgainst - other.goalsAgainst);
+    }
+
+    public int points() {
+        return wins * 3 + draws;
+    }
+
+    public int goalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+
+    @Override
+    public String toString() {
+        return wins + "-" + draws + "-" + losses;
+    }
+}
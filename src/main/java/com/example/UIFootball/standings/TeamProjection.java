@@ -0,0 +1,7 @@
+package com.example.UIFootball.standings;
+
+// Where a team finished across the simulated seasons: its current points, the mean final points
+// and the share of runs in which it won the league, finished in the top four or went down
+public record TeamProjection(String team, int points, double expectedPoints,
+                             double title, double topFour, double relegation) {
+}
@@ -0,0 +1,41 @@
+package com.example.UIFootball.standings;
+
+import java.util.Comparator;
+
+// A team's row in a table, with home and away results kept apart. league or season is null
+// on rows that combine several leagues or seasons.
+public record TeamStanding(String league, Integer season, String team, Tally home, Tally away) {
+
+    // Points, then goal difference, then goals scored, then name
+    public static final Comparator<TeamStanding> TABLE_ORDER = Comparator
+            .comparingInt(TeamStanding::points).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStanding::goalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(TeamStanding::goalsFor).reversed())
+            .thenComparing(TeamStanding::team);
+
+    public Tally total() { return home.plus(away); }
+
+    public int played() { return home.played() + away.played(); }
+
+    public int wins() { return home.wins() + away.wins(); }
+
+    public int draws() { return home.draws() + away.draws(); }
+
+    public int losses() { return home.losses() + away.losses(); }
+
+    public int goalsFor() { return home.goalsFor() + away.goalsFor(); }
+
+    public int goalsAgainst() { return home.goalsAgainst() + away.goalsAgainst(); }
+
+    public int goalDifference() { return goalsFor() - goalsAgainst(); }
+
+    public int points() { return home.points() + away.points(); }
+
+    TeamStanding withHome(Tally home) {
+        return new TeamStanding(league, season, team, home, away);
+    }
+
+    TeamStanding withAway(Tally away) {
+        return new TeamStanding(league, season, team, home, away);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.UIFootball.views;
+
+import com.example.UIFootball.service.QueryExecutor;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Per-view helper that evaluates a query in the background and pushes the result to the UI.
+// Every submit supersedes the previous one: a pending query is dropped during the debounce
+// delay, a running one is interrupted, and a result that is no longer the latest is discarded
+// both before and inside UI.access, so stale results can never overwrite newer ones.
+class DebouncedQueryRunner {
+
+    private final QueryExecutor queryExecutor;
+    private final Duration debounce;
+    private long generation;
+    private QueryExecutor.Cancellable pending;
+
+    DebouncedQueryRunner(QueryExecutor queryExecutor, Duration debounce) {
+        this.queryExecutor = queryExecutor;
+        this.debounce = debounce;
+    }
+
+    <T> void submit(Supplier<T> query, Consumer<T> onResult) {
+        UI ui = UI.getCurrent();
+        if (ui == null) {
+            // Not attached yet, e.g. during construction: nothing to push to
+            onResult.accept(query.get());
+            return;
+        }
+        long ticket;
+        synchronized (this) {
+            cancelPending();
+            ticket = ++generation;
+            pending = queryExecutor.schedule(() -> {
+                if (!isCurrent(ticket)) {
+                    return;
+                }
+                T result = query.get();
+                if (!isCurrent(ticket) || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                try {
+                    ui.access(() -> {
+                        if (isCurrent(ticket)) {
+                            onResult.accept(result);
+                        }
+                    });
+                } catch (UIDetachedException e) {
+                    // The user navigated away; nothing left to update
+                }
+            }, debounce);
+        }
+    }
+
+    // Drops any pending or running query, e.g. before a synchronous refresh or on detach
+    synchronized void cancel() {
+        cancelPending();
+        generation++;
+    }
+
+    private synchronized boolean isCurrent(long ticket) {
+        return generation == ticket;
+    }
+
+    private void cancelPending() {
+        if (pending != null) {
+            pending.cancel();
+            pending = null;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.UIFootball.views;
+
+import com.example.UIFootball.api.MatchExporter;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchSort;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.server.StreamResource;
+
+import java.util.List;
+
+// Download links for exactly what a match grid shows: its current result set in its current sort
+// order. Both are read under the session lock when the download starts; the rows are then
+// streamed by MatchExporter without holding the lock, so a large export never blocks the UI.
+class ExportLinks extends HorizontalLayout {
+
+    private final MatchExporter exporter;
+    private final Grid<Match> grid;
+    private final MatchDataProvider dataProvider;
+    private final Anchor csvLink = new Anchor();
+    private final Anchor jsonLinesLink = new Anchor();
+    private final Checkbox gzipCheckbox = new Checkbox("Gzip");
+
+    ExportLinks(MatchExporter exporter, Grid<Match> grid, MatchDataProvider dataProvider) {
+        this.exporter = exporter;
+        this.grid = grid;
+        this.dataProvider = dataProvider;
+
+        csvLink.setText("Export CSV");
+        jsonLinesLink.setText("Export JSON Lines");
+        for (Anchor link : List.of(csvLink, jsonLinesLink)) {
+            link.getElement().setAttribute("download", true);
+            link.getStyle()
+                .set("color", "#4caf50")
+                .set("font-weight", "bold")
+                .set("margin", "0 10px");
+        }
+        gzipCheckbox.addValueChangeListener(e -> updateLinks());
+        updateLinks();
+
+        add(csvLink, jsonLinesLink, gzipCheckbox);
+        setAlignItems(FlexComponent.Alignment.BASELINE);
+        setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+    }
+
+    private void updateLinks() {
+        boolean gzip = gzipCheckbox.getValue();
+        csvLink.setHref(resource(MatchExporter.Format.CSV, gzip));
+        jsonLinesLink.setHref(resource(MatchExporter.Format.JSON_LINES, gzip));
+    }
+
+    private StreamResource resource(MatchExporter.Format format, boolean gzip) {
+        StreamResource resource = new StreamResource(exporter.fileName(format, gzip), (out, session) -> {
+            MatchResults results;
+            MatchSort sort;
+            session.lock();
+            try {
+                results = dataProvider.getResults();
+                sort = MatchDataProvider.sortOf(grid.getSortOrder().stream()
+                        .flatMap(order -> order.getSorted().getSortOrder(order.getDirection()))
+                        .toList());
+            } finally {
+                session.unlock();
+            }
+            exporter.write(results, sort, format, gzip, out);
+        });
+        resource.setContentType(exporter.contentType(format, gzip));
+        return resource;
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.UIFootball.views;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.*;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.Route;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.standings.HeadToHead;
+import com.example.UIFootball.standings.HeadToHeadIndex;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+
+@Route("head-to-head")
+public class HeadToHeadPage extends VerticalLayout {
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Grid<Match> grid = new Grid<>();
+    private ComboBox<String> teamComboBox;
+    private ComboBox<String> opponentComboBox;
+    private final Paragraph summary = new Paragraph();
+    private final MatchRepository matchRepository;
+    private final HeadToHeadIndex headToHeadIndex;
+
+    public HeadToHeadPage(MatchRepository matchRepository, HeadToHeadIndex headToHeadIndex) {
+        this.matchRepository = matchRepository;
+        this.headToHeadIndex = headToHeadIndex;
+
+        // Create header
+        HorizontalLayout header = createHeader();
+
+        // Page subtitle
+        Paragraph subtitle = new Paragraph("Compare two teams across all their meetings.");
+        subtitle.getStyle()
+                .set("color", "#666666") // Medium gray text color
+                .set("text-align", "center")
+                .set("margin", "10px 0");
+
+        // Create team filters and configure grid
+        createFilters();
+        configureGrid();
+        summary.getStyle()
+               .set("color", "#333333")
+               .set("font-weight", "bold")
+               .set("margin", "10px 0");
+
+        // Navigation back to HomeView
+        Button homeButton = new Button("Back to Home");
+        homeButton.addClickListener(e -> homeButton.getUI().ifPresent(ui -> ui.navigate("")));
+        styleButton(homeButton);
+
+        // Create footer
+        HorizontalLayout footer = createFooter();
+
+        // Add components to layout
+        add(header, subtitle, createFiltersLayout(), summary, grid, homeButton, footer);
+        setAlignItems(Alignment.CENTER);
+        setSpacing(true);
+        setPadding(true);
+        getStyle()
+            .set("background-color", "#f4f4f4") // Light gray background
+            .set("padding", "20px");
+    }
+
+    private HorizontalLayout createHeader() {
+        // Logo
+        Image logo = new Image("https://logodix.com/logo/1943855.png", "Football Logo");
+        logo.setWidth("50px");
+        logo.setHeight("50px");
+
+        // Title
+        H1 title = new H1("Head to Head");
+        title.getStyle()
+             .set("color", "#ffffff")
+             .set("font-size", "36px") // Larger font size
+             .set("font-weight", "bold") // Bold font
+             .set("margin", "0")
+             .set("text-align", "center")
+             .set("flex-grow", "1");
+
+        // Header layout
+        HorizontalLayout header = new HorizontalLayout(logo, title);
+        header.setAlignItems(FlexComponent.Alignment.CENTER);
+        header.setWidthFull();
+        header.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 20px")
+              .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+
+        return header;
+    }
+
+    private HorizontalLayout createFooter() {
+        Paragraph footerText = new Paragraph("© 2025 Football Analysis Website. All rights reserved.");
+        footerText.getStyle()
+                  .set("color", "#ffffff")
+                  .set("font-size", "14px")
+                  .set("margin", "0");
+
+        HorizontalLayout footer = new HorizontalLayout(footerText);
+        footer.setWidthFull();
+        footer.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+        footer.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 0")
+              .set("margin-top", "20px");
+
+        return footer;
+    }
+
+    private HorizontalLayout createFiltersLayout() {
+        HorizontalLayout filters = new HorizontalLayout(teamComboBox, opponentComboBox);
+        filters.setAlignItems(FlexComponent.Alignment.BASELINE);
+        filters.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+        filters.setWidthFull();
+        filters.setSpacing(true);
+        filters.getStyle()
+               .set("background-color", "#ffffff")
+               .set("padding", "10px")
+               .set("border-radius", "5px")
+               .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+        return filters;
+    }
+
+    private void createFilters() {
+        List<String> teams = matchRepository.teams();
+
+        teamComboBox = new ComboBox<>("Team");
+        teamComboBox.setItems(teams);
+        teamComboBox.setPlaceholder("Choose a team...");
+        teamComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(teamComboBox);
+
+        opponentComboBox = new ComboBox<>("Opponent");
+        opponentComboBox.setItems(teams);
+        opponentComboBox.setPlaceholder("Choose an opponent...");
+        opponentComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(opponentComboBox);
+    }
+
+    private void updateGrid() {
+        String team = teamComboBox.getValue();
+        String opponent = opponentComboBox.getValue();
+        if (team == null || opponent == null) {
+            summary.setText("");
+            grid.setItems(List.of());
+            return;
+        }
+
+        // One index lookup; only the meetings of the pair are read
+        HeadToHead headToHead = headToHeadIndex.headToHead(team, opponent);
+        grid.setItems(headToHead.matches());
+        if (headToHead.matches().isEmpty()) {
+            summary.setText(team + " and " + opponent + " have not met.");
+            return;
+        }
+        summary.setText(String.format(Locale.ROOT,
+                "%s: %d played, %d won, %d drawn, %d lost, goals %d-%d, xG %.2f-%.2f (%+.2f)",
+                team, headToHead.record().played(), headToHead.record().wins(), headToHead.record().draws(),
+                headToHead.record().losses(), headToHead.record().goalsFor(), headToHead.record().goalsAgainst(),
+                headToHead.xgFor(), headToHead.xgAgainst(), headToHead.xgDifference()));
+    }
+
+    private void configureGrid() {
+        grid.addColumn(match -> match.datetime() != null ? DATETIME_FORMAT.format(match.datetime()) : "")
+            .setHeader("Date & Time").setAutoWidth(true);
+        grid.addColumn(Match::league).setHeader("League").setAutoWidth(true);
+        grid.addColumn(Match::season).setHeader("Season").setAutoWidth(true);
+        grid.addColumn(Match::homeTitle).setHeader("Home Team").setAutoWidth(true);
+        grid.addColumn(Match::scoreText).setHeader("Score").setAutoWidth(true);
+        grid.addColumn(Match::awayTitle).setHeader("Away Team").setAutoWidth(true);
+        grid.addColumn(match -> match.xG() != null
+                ? String.format(Locale.ROOT, "%.2f - %.2f", match.xG().home(), match.xG().away()) : "N/A")
+            .setHeader("xG").setAutoWidth(true);
+
+        grid.setWidthFull();
+        grid.setHeight("400px");
+        grid.getStyle()
+            .set("background-color", "#ffffff")
+            .set("color", "#333333")
+            .set("border-radius", "10px")
+            .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void styleDropdown(ComboBox<?> dropdown) {
+        dropdown.getStyle()
+                .set("--lumo-primary-text-color", "#333333")
+                .set("--lumo-primary-color", "#ffffff")
+                .set("width", "250px")
+                .set("border-radius", "5px")
+                .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void styleButton(Button button) {
+        button.getStyle()
+              .set("background-color", "#4caf50")
+              .set("color", "white")
+              .set("border-radius", "5px")
+              .set("padding", "10px 20px")
+              .set("margin-top", "20px");
+    }
+}
@@ -9,30 +9,52 @@ import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.textfield.TextField;
 import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.router.Route;
+import com.example.UIFootball.api.MatchExporter;
+import com.example.UIFootball.api.MatchImporter;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchFilter;
 import com.example.UIFootball.service.MatchService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.UIFootball.service.QueryExecutor;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.time.Duration;
 
 @Route("")
 public class HomeView extends VerticalLayout {
 
-    private final Grid<Map<String, Object>> grid = new Grid<>();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private List<Map<String, Object>> matchData;
+    private static final Logger logger = LoggerFactory.getLogger(HomeView.class);
+    private static final Duration FILTER_DEBOUNCE = Duration.ofMillis(150);
+
+    private final Grid<Match> grid = new Grid<>();
+    private final MatchService matchService;
+    private final MatchRepository matchRepository;
+    private final MatchDataProvider dataProvider;
+    private final DebouncedQueryRunner queryRunner;
+    private final MatchImporter importer;
+    private final QueryExecutor queryExecutor;
 
     private ComboBox<String> yearCombo;
     private ComboBox<String> leagueCombo;
     private TextField teamField;
     private TextField matchIdField;
 
-    public HomeView() {
+    public HomeView(MatchService matchService, MatchRepository matchRepository, QueryExecutor queryExecutor,
+                    MatchExporter exporter, MatchImporter importer) {
+        this.matchService = matchService;
+        this.importer = importer;
+        this.queryExecutor = queryExecutor;
+        this.matchRepository = matchRepository;
+        this.dataProvider = new MatchDataProvider(matchRepository);
+        this.queryRunner = new DebouncedQueryRunner(queryExecutor, FILTER_DEBOUNCE);
+        addDetachListener(e -> queryRunner.cancel());
+
         // Apply background color
         getStyle()
             .set("background-color", "#f4f4f4")
@@ -44,22 +66,22 @@ public class HomeView extends VerticalLayout {
         // Create navigation bar
         HorizontalLayout navigationBar = createNavigationBar();
 
-        // Fetch match data
-        MatchService matchService = new MatchService();
-        matchData = matchService.getMatchData();
-
         // Create filters and grid
-        createFilterComponents(matchService);
+        createFilterComponents();
         configureGrid();
 
         // Add CRUD operations section
         HorizontalLayout crudOperations = createCrudOperations();
 
+        // Downloads of the filtered matches in the grid's sort order
+        ExportLinks exportLinks = new ExportLinks(exporter, grid, dataProvider);
+        exportLinks.setWidthFull();
+
         // Create footer
         HorizontalLayout footer = createFooter();
 
         // Add components to the layout
-        add(header, navigationBar, createFiltersLayout(), grid, crudOperations, footer);
+        add(header, navigationBar, createFiltersLayout(), grid, crudOperations, exportLinks, footer);
     }
 
     private HorizontalLayout createHeader() {
@@ -100,11 +122,22 @@ public class HomeView extends VerticalLayout {
         Button leagueOverviewButton = new Button("League Overview");
         leagueOverviewButton.addClickListener(e -> leagueOverviewButton.getUI().ifPresent(ui -> ui.navigate("league-overview")));
 
+        Button headToHeadButton = new Button("Head to Head");
+        headToHeadButton.addClickListener(e -> headToHeadButton.getUI().ifPresent(ui -> ui.navigate("head-to-head")));
+        Button xgTableButton = new Button("xG Table");
+        xgTableButton.addClickListener(e -> xgTableButton.getUI().ifPresent(ui -> ui.navigate("xg-table")));
+        Button ratingsButton = new Button("Ratings");
+        ratingsButton.addClickListener(e -> ratingsButton.getUI().ifPresent(ui -> ui.navigate("ratings")));
+
         styleNavButton(homeButton);
         styleNavButton(seasonSummaryButton);
         styleNavButton(leagueOverviewButton);
+        styleNavButton(headToHeadButton);
+        styleNavButton(xgTableButton);
+        styleNavButton(ratingsButton);
 
-        HorizontalLayout navigationBar = new HorizontalLayout(homeButton, seasonSummaryButton, leagueOverviewButton);
+        HorizontalLayout navigationBar = new HorizontalLayout(homeButton, seasonSummaryButton, leagueOverviewButton,
+                headToHeadButton, xgTableButton, ratingsButton);
         navigationBar.setWidthFull();
         //navigationBar.setJustifyContentMode(JustifyContentMode.CENTER);
         navigationBar.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
@@ -120,10 +153,12 @@ public class HomeView extends VerticalLayout {
         Button addButton = new Button("Add Match");
         Button editButton = new Button("Edit Match");
         Button deleteButton = new Button("Delete Match");
+        Button importButton = new Button("Import Matches");
     
         styleButton(addButton);
         styleButton(editButton);
         styleButton(deleteButton);
+        styleButton(importButton);
     
         // Add Match Dialog
         addButton.addClickListener(e -> {
@@ -150,20 +185,36 @@ public class HomeView extends VerticalLayout {
             awayTeamField.setPlaceholder("Enter away team");
         
             TextField goalsField = new TextField("Goals");
-            goalsField.setPlaceholder("Enter goals (e.g., 2-1)");
+            goalsField.setPlaceholder("Enter goals (e.g., 2-1), or leave empty");
         
             Button saveButton = new Button("Save", saveEvent -> {
-                Map<String, Object> newMatch = new HashMap<>();
-                newMatch.put("id", matchData.size() + 1); // Auto-generate ID
-                newMatch.put("season", seasonField.getValue());
-                newMatch.put("league", leagueField.getValue());
-                newMatch.put("h", "{'title':'" + homeTeamField.getValue() + "'}");
-                newMatch.put("a", "{'title':'" + awayTeamField.getValue() + "'}");
-                newMatch.put("goals", "{'h':'" + goalsField.getValue().split("-")[0] + "','a':'" + goalsField.getValue().split("-")[1] + "'}");
-                matchData.add(newMatch);
-                grid.setItems(matchData); // Refresh grid
+                Match newMatch;
+                try {
+                    int season = parseSeason(seasonField.getValue());
+                    String league = required("League", leagueField.getValue());
+                    String home = required("Home Team", homeTeamField.getValue());
+                    String away = required("Away Team", awayTeamField.getValue());
+                    checkDistinct(home, away);
+                    Score score = parseGoals(goalsField.getValue());
+                    newMatch = new Match(
+                            0, // ID is assigned by the service
+                            score != null,
+                            TeamRef.ofTitle(home),
+                            TeamRef.ofTitle(away),
+                            score,
+                            null,
+                            null,
+                            null,
+                            league,
+                            season);
+                } catch (IllegalArgumentException invalid) {
+                    Notification.show(invalid.getMessage());
+                    return;
+                }
+                Match addedMatch = matchService.addMatch(newMatch);
+                refreshGrid(); // Refresh grid
                 addDialog.close();
-                System.out.println("Match added: " + newMatch);
+                logger.info("Match added: {}", addedMatch);
             });
         
             Button cancelButton = new Button("Cancel", cancelEvent -> addDialog.close());
@@ -179,27 +230,41 @@ public class HomeView extends VerticalLayout {
     
         // Edit Match Dialog
         editButton.addClickListener(e -> {
-            Map<String, Object> selectedMatch = grid.asSingleSelect().getValue();
+            Match selectedMatch = grid.asSingleSelect().getValue();
             if (selectedMatch != null) {
                 Dialog editDialog = new Dialog();
                 VerticalLayout dialogLayout = new VerticalLayout();
     
                 TextField homeTeamField = new TextField("Home Team");
-                homeTeamField.setValue(parseNestedField(selectedMatch.get("h"), "title"));
+                homeTeamField.setValue(selectedMatch.homeTitle());
     
                 TextField awayTeamField = new TextField("Away Team");
-                awayTeamField.setValue(parseNestedField(selectedMatch.get("a"), "title"));
+                awayTeamField.setValue(selectedMatch.awayTitle());
     
                 TextField goalsField = new TextField("Goals");
-                goalsField.setValue(parseNestedField(selectedMatch.get("goals"), "h") + "-" + parseNestedField(selectedMatch.get("goals"), "a"));
+                Score currentScore = selectedMatch.goals();
+                goalsField.setValue(currentScore != null ? currentScore.home() + "-" + currentScore.away() : "");
     
                 Button saveButton = new Button("Save", saveEvent -> {
-                    selectedMatch.put("h", "{'title':'" + homeTeamField.getValue() + "'}");
-                    selectedMatch.put("a", "{'title':'" + awayTeamField.getValue() + "'}");
-                    selectedMatch.put("goals", "{'h':'" + goalsField.getValue().split("-")[0] + "','a':'" + goalsField.getValue().split("-")[1] + "'}");
-                    grid.getDataProvider().refreshItem(selectedMatch); // Refresh grid
+                    String home;
+                    String away;
+                    Score score;
+                    try {
+                        home = required("Home Team", homeTeamField.getValue());
+                        away = required("Away Team", awayTeamField.getValue());
+                        checkDistinct(home, away);
+                        score = parseGoals(goalsField.getValue());
+                    } catch (IllegalArgumentException invalid) {
+                        Notification.show(invalid.getMessage());
+                        return;
+                    }
+                    TeamRef homeTeam = home.equals(selectedMatch.homeTitle()) ? selectedMatch.home() : TeamRef.ofTitle(home);
+                    TeamRef awayTeam = away.equals(selectedMatch.awayTitle()) ? selectedMatch.away() : TeamRef.ofTitle(away);
+                    Match editedMatch = selectedMatch.withTeamsAndScore(homeTeam, awayTeam, score);
+                    matchService.updateMatch(editedMatch);
+                    refreshGrid(); // Refresh grid
                     editDialog.close();
-                    System.out.println("Match edited: " + selectedMatch);
+                    logger.info("Match edited: {}", editedMatch);
                 });
     
                 Button cancelButton = new Button("Cancel", cancelEvent -> editDialog.close());
@@ -214,17 +279,17 @@ public class HomeView extends VerticalLayout {
     
         // Delete Match Dialog
         deleteButton.addClickListener(e -> {
-            Map<String, Object> selectedMatch = grid.asSingleSelect().getValue();
+            Match selectedMatch = grid.asSingleSelect().getValue();
             if (selectedMatch != null) {
                 Dialog deleteDialog = new Dialog();
                 VerticalLayout dialogLayout = new VerticalLayout();
     
                 Label confirmationLabel = new Label("Are you sure you want to delete this match?");
                 Button confirmButton = new Button("Delete", confirmEvent -> {
-                    matchData.remove(selectedMatch);
-                    grid.setItems(matchData); // Refresh grid
+                    matchService.deleteMatch(selectedMatch.id());
+                    refreshGrid(); // Refresh grid
                     deleteDialog.close();
-                    System.out.println("Match deleted: " + selectedMatch);
+                    logger.info("Match deleted: {}", selectedMatch);
                 });
     
                 Button cancelButton = new Button("Cancel", cancelEvent -> deleteDialog.close());
@@ -237,7 +302,10 @@ public class HomeView extends VerticalLayout {
             }
         });
     
-        HorizontalLayout crudOperations = new HorizontalLayout(addButton, editButton, deleteButton);
+        // Bulk import of a CSV or JSON file, committed as one change
+        importButton.addClickListener(e -> new ImportDialog(importer, queryExecutor, this::refreshGrid).open());
+    
+        HorizontalLayout crudOperations = new HorizontalLayout(addButton, editButton, deleteButton, importButton);
         crudOperations.setWidthFull();
         crudOperations.setJustifyContentMode(JustifyContentMode.CENTER);
         crudOperations.setSpacing(true);
@@ -247,6 +315,57 @@ public class HomeView extends VerticalLayout {
         return crudOperations;
     }
 
+    // The add and edit dialogs check their fields with the rules of MatchImporter; a problem is
+    // reported as an IllegalArgumentException whose message is shown to the user
+    private static String required(String label, String text) {
+        String value = text.trim();
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(label + " is required");
+        }
+        return value;
+    }
+
+    private static void checkDistinct(String home, String away) {
+        if (home.equals(away)) {
+            throw new IllegalArgumentException("Home Team and Away Team are both '" + home + "'");
+        }
+    }
+
+    private static int parseSeason(String text) {
+        String value = required("Season", text);
+        try {
+            int season = Integer.parseInt(value);
+            if (season >= MatchImporter.MIN_SEASON && season <= MatchImporter.MAX_SEASON) {
+                return season;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException(String.format("Season must be a year between %d and %d, got '%s'",
+                MatchImporter.MIN_SEASON, MatchImporter.MAX_SEASON, value));
+    }
+
+    // Blank for a fixture that has not been played yet, else home-away such as 2-1
+    private static Score parseGoals(String text) {
+        String value = text.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] goals = value.split("-", -1);
+        if (goals.length == 2) {
+            try {
+                int home = Integer.parseInt(goals[0].trim());
+                int away = Integer.parseInt(goals[1].trim());
+                if (home >= 0 && away >= 0) {
+                    return new Score(home, away);
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+        }
+        throw new IllegalArgumentException("Goals must be two whole numbers as home-away, e.g. 2-1, got '" + value + "'");
+    }
+
         
 
     private HorizontalLayout createFooter() {
@@ -303,14 +422,13 @@ public class HomeView extends VerticalLayout {
     }
 
     private void configureGrid() {
-        grid.setItems(matchData);
+        grid.setItems(dataProvider);
 
-        grid.addColumn(match -> match.get("id")).setHeader("Match ID").setAutoWidth(true);
-        grid.addColumn(match -> parseNestedField(match.get("h"), "title")).setHeader("Home Team").setAutoWidth(true);
-        grid.addColumn(match -> parseNestedField(match.get("a"), "title")).setHeader("Away Team").setAutoWidth(true);
-        grid.addColumn(match -> parseNestedField(match.get("goals"), "h") + " - " +
-                              parseNestedField(match.get("goals"), "a")).setHeader("Score").setAutoWidth(true);
-        grid.addColumn(match -> String.valueOf(match.get("season"))).setHeader("Season").setAutoWidth(true);
+        grid.addColumn(Match::id).setHeader("Match ID").setAutoWidth(true).setSortProperty("id");
+        grid.addColumn(Match::homeTitle).setHeader("Home Team").setAutoWidth(true).setSortProperty("home");
+        grid.addColumn(Match::awayTitle).setHeader("Away Team").setAutoWidth(true).setSortProperty("away");
+        grid.addColumn(Match::scoreText).setHeader("Score").setAutoWidth(true);
+        grid.addColumn(Match::season).setHeader("Season").setAutoWidth(true).setSortProperty("season");
 
         grid.setWidthFull();
         grid.getStyle()
@@ -318,27 +436,14 @@ public class HomeView extends VerticalLayout {
             .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
     }
 
-    private String parseNestedField(Object field, String key) {
-        try {
-            if (field instanceof String) {
-                String validJson = ((String) field).replace("'", "\"");
-                Map<String, String> nestedMap = objectMapper.readValue(validJson, Map.class);
-                return nestedMap.getOrDefault(key, "N/A");
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return "N/A";
-    }
-
-    private void createFilterComponents(MatchService matchService) {
+    private void createFilterComponents() {
         yearCombo = new ComboBox<>("Season");
-        yearCombo.setItems(matchService.getUniqueSeasons());
+        yearCombo.setItems(matchRepository.seasons());
         yearCombo.setPlaceholder("All Years");
         styleDropdown(yearCombo);
 
         leagueCombo = new ComboBox<>("League");
-        leagueCombo.setItems(matchService.getUniqueLeagues());
+        leagueCombo.setItems(matchRepository.leagues());
         leagueCombo.setPlaceholder("All Leagues");
         styleDropdown(leagueCombo);
 
@@ -376,26 +481,23 @@ public class HomeView extends VerticalLayout {
         return filters;
     }
 
+    // Runs on a virtual thread after the debounce delay; the result is pushed back to the grid
     private void updateFilters() {
-        String selectedYear = yearCombo.getValue();
-        String selectedLeague = leagueCombo.getValue();
-        String teamSearch = teamField.getValue();
-        String matchIdSearch = matchIdField.getValue();
-
-        List<Map<String, Object>> filteredData = matchData.stream()
-            .filter(match -> {
-                boolean matchesYear = (selectedYear == null || String.valueOf(match.get("season")).equals(selectedYear));
-                boolean matchesLeague = (selectedLeague == null || String.valueOf(match.get("league")).equalsIgnoreCase(selectedLeague));
-                boolean matchesTeam = (teamSearch == null || teamSearch.isEmpty() ||
-                    parseNestedField(match.get("h"), "title").toLowerCase().contains(teamSearch.toLowerCase()) ||
-                    parseNestedField(match.get("a"), "title").toLowerCase().contains(teamSearch.toLowerCase()));
-                boolean matchesMatchId = (matchIdSearch == null || matchIdSearch.isEmpty() ||
-                    String.valueOf(match.get("id")).contains(matchIdSearch));
-
-                return matchesYear && matchesLeague && matchesTeam && matchesMatchId;
-            })
-            .collect(Collectors.toList());
-
-        grid.setItems(filteredData);
+        MatchFilter filter = currentFilter();
+        queryRunner.submit(() -> matchRepository.query(filter), dataProvider::setResults);
+    }
+
+    // Synchronous refresh after a CRUD change, so the grid shows the new snapshot right away
+    private void refreshGrid() {
+        queryRunner.cancel();
+        dataProvider.setFilter(currentFilter());
+    }
+
+    private MatchFilter currentFilter() {
+        return new MatchFilter(
+            yearCombo.getValue(),
+            leagueCombo.getValue(),
+            teamField.getValue(),
+            matchIdField.getValue());
     }
-}
\ No newline at end of file
+}
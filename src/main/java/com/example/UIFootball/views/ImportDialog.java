@@ -0,0 +1,121 @@
+package com.example.UIFootball.views;
+
+import com.example.UIFootball.api.ImportResult;
+import com.example.UIFootball.api.MatchImporter;
+import com.example.UIFootball.service.QueryExecutor;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.checkbox.Checkbox;
+import com.vaadin.flow.component.dialog.Dialog;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Paragraph;
+import com.vaadin.flow.component.notification.Notification;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.upload.Upload;
+import com.vaadin.flow.component.upload.receivers.FileBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+// Bulk import of a CSV or JSON file of matches. The upload is buffered in a temp file, up to the
+// importer's size limit, and handed to MatchImporter on a QueryExecutor thread, off the request
+// and the session lock; it commits all valid rows as one change. The summary and the rejected
+// rows are pushed back to the dialog, and onImported runs once anything was added.
+class ImportDialog extends Dialog {
+
+    private final MatchImporter importer;
+    private final QueryExecutor queryExecutor;
+    private final Runnable onImported;
+    private final FileBuffer buffer = new FileBuffer();
+    private final Checkbox strictCheckbox = new Checkbox("Reject the whole file if any row is invalid");
+    private final Paragraph summary = new Paragraph();
+    private final Grid<ImportResult.RowError> errorGrid = new Grid<>();
+
+    ImportDialog(MatchImporter importer, QueryExecutor queryExecutor, Runnable onImported) {
+        this.importer = importer;
+        this.queryExecutor = queryExecutor;
+        this.onImported = onImported;
+
+        Paragraph formats = new Paragraph("CSV with the columns of the export, or JSON Lines or a JSON array of "
+                + "API match objects; gzipped files are accepted too. Match ids in the file are ignored.");
+        formats.getStyle().set("color", "#666666").set("font-size", "14px");
+
+        Upload upload = new Upload(buffer);
+        upload.setMaxFiles(1);
+        upload.setMaxFileSize((int) Math.min(importer.maxBytes(), Integer.MAX_VALUE));
+        upload.setAcceptedFileTypes(".csv", ".json", ".jsonl", ".ndjson", ".gz");
+        upload.addSucceededListener(e -> importFile(e.getFileName()));
+        upload.addFileRejectedListener(e -> Notification.show(e.getErrorMessage()));
+
+        errorGrid.addColumn(ImportResult.RowError::line).setHeader("Line").setAutoWidth(true).setFlexGrow(0);
+        errorGrid.addColumn(ImportResult.RowError::message).setHeader("Problem").setAutoWidth(true);
+        errorGrid.setHeight("250px");
+        errorGrid.setVisible(false);
+        summary.setVisible(false);
+
+        Button closeButton = new Button("Close", e -> close());
+
+        VerticalLayout layout = new VerticalLayout(new H3("Import Matches"), formats, strictCheckbox, upload, summary,
+                errorGrid, closeButton);
+        layout.setPadding(false);
+        add(layout);
+        setWidth("700px");
+    }
+
+    private void importFile(String fileName) {
+        File file = buffer.getFileData().getFile();
+        boolean strict = strictCheckbox.getValue();
+        UI ui = UI.getCurrent();
+        summary.setText("Importing " + fileName + "…");
+        summary.setVisible(true);
+        errorGrid.setVisible(false);
+        queryExecutor.execute(() -> {
+            ImportResult result = null;
+            String failure = null;
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                result = importer.importMatches(in, strict);
+            } catch (IOException | RuntimeException e) {
+                failure = e.getMessage();
+            } finally {
+                deleteQuietly(file);
+            }
+            ImportResult imported = result;
+            String error = failure;
+            try {
+                ui.access(() -> showResult(fileName, imported, error));
+            } catch (UIDetachedException e) {
+                // The dialog was closed with its view; the import itself is done
+            }
+        });
+    }
+
+    private void showResult(String fileName, ImportResult result, String failure) {
+        if (result == null) {
+            summary.setText("Could not read " + fileName + ": " + failure);
+            summary.setVisible(true);
+            errorGrid.setVisible(false);
+            return;
+        }
+        summary.setText(String.format("%s: %,d of %,d rows imported, %,d rejected in %.0f ms.%s", fileName,
+                result.imported(), result.rows(), result.rejected(), result.elapsedNanos() / 1_000_000.0,
+                result.rejected() > result.errors().size() ? " The first " + result.errors().size() + " are listed." : ""));
+        summary.setVisible(true);
+        errorGrid.setItems(result.errors());
+        errorGrid.setVisible(!result.errors().isEmpty());
+        if (result.imported() > 0) {
+            onImported.run();
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.UIFootball.views;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.grid.Grid;
@@ -8,21 +7,32 @@ import com.vaadin.flow.component.html.*;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.Route;
-import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.api.MatchExporter;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.repository.MatchRepository;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.time.format.DateTimeFormatter;
 
 @Route("league-overview")
 public class LeagueOverviewPage extends VerticalLayout {
 
-    private final Grid<Map<String, Object>> grid = new Grid<>();
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Grid<Match> grid = new Grid<>();
     private ComboBox<String> leagueComboBox;
-    private List<Map<String, Object>> matchData;
+    private final MatchRepository matchRepository;
+    private final MatchDataProvider dataProvider;
+    private final ExportLinks exportLinks;
+
+    public LeagueOverviewPage(MatchRepository matchRepository, MatchExporter exporter) {
+        this.matchRepository = matchRepository;
+        this.dataProvider = new MatchDataProvider(matchRepository);
+        // Nothing to export until a league is chosen and the grid shows matches
+        this.exportLinks = new ExportLinks(exporter, grid, dataProvider);
+        exportLinks.setEnabled(false);
 
-    public LeagueOverviewPage() {
         // Create header
         HorizontalLayout header = createHeader();
 
@@ -33,12 +43,8 @@ public class LeagueOverviewPage extends VerticalLayout {
                 .set("text-align", "center")
                 .set("margin", "10px 0");
 
-        // Fetch match data
-        MatchService matchService = new MatchService();
-        matchData = matchService.getMatchData();
-
         // Create league filter and configure grid
-        createLeagueFilter(matchService);
+        createLeagueFilter();
         configureGrid();
 
         // Navigation back to HomeView
@@ -50,7 +56,7 @@ public class LeagueOverviewPage extends VerticalLayout {
         HorizontalLayout footer = createFooter();
 
         // Add components to layout
-        add(header, subtitle, leagueComboBox, grid, homeButton, footer);
+        add(header, subtitle, leagueComboBox, grid, exportLinks, homeButton, footer);
         setAlignItems(Alignment.CENTER);
         setSpacing(true);
         setPadding(true);
@@ -105,9 +111,9 @@ public class LeagueOverviewPage extends VerticalLayout {
         return footer;
     }
 
-    private void createLeagueFilter(MatchService matchService) {
+    private void createLeagueFilter() {
         leagueComboBox = new ComboBox<>("Select League");
-        leagueComboBox.setItems(matchService.getUniqueLeagues());
+        leagueComboBox.setItems(matchRepository.leagues());
         leagueComboBox.setPlaceholder("Choose a league...");
         leagueComboBox.addValueChangeListener(e -> updateGrid(e.getValue()));
 
@@ -122,27 +128,23 @@ public class LeagueOverviewPage extends VerticalLayout {
     }
 
     private void updateGrid(String selectedLeague) {
-        if (selectedLeague == null || selectedLeague.isEmpty()) {
-            grid.setItems(matchData); // Show all data if no league is selected
-        } else {
-            List<Map<String, Object>> filteredData = matchData.stream()
-                .filter(match -> selectedLeague.equals(match.get("league")))
-                .collect(Collectors.toList());
-            grid.setItems(filteredData); // Show only matches for the selected league
-        }
+        // An empty league shows all data, otherwise only matches for the selected league
+        dataProvider.setFilter(MatchFilter.ofLeague(selectedLeague));
+        grid.setItems(dataProvider);
+        exportLinks.setEnabled(true);
     }
 
     private void configureGrid() {
-        grid.addColumn(match -> match.get("id")).setHeader("Match ID").setAutoWidth(true);
-        grid.addColumn(match -> match.get("league")).setHeader("League").setAutoWidth(true);
-        grid.addColumn(match -> match.get("season")).setHeader("Season").setAutoWidth(true);
-        grid.addColumn(match -> match.get("datetime")).setHeader("Date & Time").setAutoWidth(true);
+        grid.addColumn(Match::id).setHeader("Match ID").setAutoWidth(true).setSortProperty("id");
+        grid.addColumn(Match::league).setHeader("League").setAutoWidth(true).setSortProperty("league");
+        grid.addColumn(Match::season).setHeader("Season").setAutoWidth(true).setSortProperty("season");
+        grid.addColumn(match -> match.datetime() != null ? DATETIME_FORMAT.format(match.datetime()) : "")
+            .setHeader("Date & Time").setAutoWidth(true).setSortProperty("datetime");
 
-        grid.addColumn(match -> parseNestedField(match.get("h"), "title")).setHeader("Home Team").setAutoWidth(true);
-        grid.addColumn(match -> parseNestedField(match.get("a"), "title")).setHeader("Away Team").setAutoWidth(true);
+        grid.addColumn(Match::homeTitle).setHeader("Home Team").setAutoWidth(true).setSortProperty("home");
+        grid.addColumn(Match::awayTitle).setHeader("Away Team").setAutoWidth(true).setSortProperty("away");
 
-        grid.addColumn(match -> parseNestedField(match.get("goals"), "h") + " - " +
-                             parseNestedField(match.get("goals"), "a")).setHeader("Score").setAutoWidth(true);
+        grid.addColumn(Match::scoreText).setHeader("Score").setAutoWidth(true);
 
         grid.setWidthFull();
         grid.setHeight("400px");
@@ -153,19 +155,6 @@ public class LeagueOverviewPage extends VerticalLayout {
             .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
     }
 
-    private String parseNestedField(Object field, String key) {
-        try {
-            if (field instanceof String) {
-                String validJson = ((String) field).replace("\'", "\"");
-                Map<String, String> nestedMap = new ObjectMapper().readValue(validJson, Map.class);
-                return nestedMap.getOrDefault(key, "N/A");
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return "N/A";
-    }
-
     private void styleButton(Button button) {
         button.getStyle()
               .set("background-color", "#4caf50")
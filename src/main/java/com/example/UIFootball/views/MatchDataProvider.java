@@ -0,0 +1,71 @@
+package com.example.UIFootball.views;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchSort;
+import com.vaadin.flow.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Lazy grid data source: the grid asks for one window of rows at a time, and count, filtering
+// and sorting run in the MatchRepository backend (shared in-memory snapshot or SQL). The session
+// only keeps the current result handle and the rows the grid has on screen.
+class MatchDataProvider extends AbstractBackEndDataProvider<Match, Void> {
+
+    private final MatchRepository matchRepository;
+    private MatchResults results;
+
+    MatchDataProvider(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+        this.results = matchRepository.query(MatchFilter.NONE);
+    }
+
+    MatchFilter getFilter() {
+        return results.filter();
+    }
+
+    MatchResults getResults() {
+        return results;
+    }
+
+    // Evaluates the filter on the calling thread
+    void setFilter(MatchFilter filter) {
+        setResults(matchRepository.query(filter));
+    }
+
+    // Shows a result that was already evaluated elsewhere, e.g. on a background thread
+    void setResults(MatchResults results) {
+        this.results = results;
+        refreshAll();
+    }
+
+    @Override
+    protected Stream<Match> fetchFromBackEnd(Query<Match, Void> query) {
+        return results.page(sortOf(query.getSortOrders()), query.getOffset(), query.getLimit()).stream();
+    }
+
+    @Override
+    protected int sizeInBackEnd(Query<Match, Void> query) {
+        return results.size();
+    }
+
+    // Matches are immutable records, so an edited match is identified by its id rather than equals()
+    @Override
+    public Object getId(Match match) {
+        return match.id();
+    }
+
+    static MatchSort sortOf(List<QuerySortOrder> sortOrders) {
+        if (sortOrders == null || sortOrders.isEmpty()) {
+            return MatchSort.NATURAL;
+        }
+        QuerySortOrder order = sortOrders.get(0);
+        return MatchSort.by(order.getSorted(), order.getDirection() == SortDirection.DESCENDING);
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.UIFootball.views;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.datepicker.DatePicker;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.*;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.Route;
+import com.example.UIFootball.analytics.EloRatings;
+import com.example.UIFootball.analytics.TeamRating;
+import com.example.UIFootball.repository.MatchRepository;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Route("ratings")
+public class RatingsPage extends VerticalLayout {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final Grid<TeamRating> grid = new Grid<>();
+    private ComboBox<String> leagueComboBox;
+    private DatePicker asOfDatePicker;
+    private final MatchRepository matchRepository;
+    private final EloRatings eloRatings;
+
+    public RatingsPage(MatchRepository matchRepository, EloRatings eloRatings) {
+        this.matchRepository = matchRepository;
+        this.eloRatings = eloRatings;
+
+        // Create header
+        HorizontalLayout header = createHeader();
+
+        // Page subtitle
+        Paragraph subtitle = new Paragraph("Elo ratings of every team, now or on any past date.");
+        subtitle.getStyle()
+                .set("color", "#666666") // Medium gray text color
+                .set("text-align", "center")
+                .set("margin", "10px 0");
+
+        // Create filters and configure grid
+        createFilters();
+        configureGrid();
+        updateGrid();
+
+        // Navigation back to HomeView
+        Button homeButton = new Button("Back to Home");
+        homeButton.addClickListener(e -> homeButton.getUI().ifPresent(ui -> ui.navigate("")));
+        styleButton(homeButton);
+
+        // Create footer
+        HorizontalLayout footer = createFooter();
+
+        // Add components to layout
+        add(header, subtitle, createFiltersLayout(), grid, homeButton, footer);
+        setAlignItems(Alignment.CENTER);
+        setSpacing(true);
+        setPadding(true);
+        getStyle()
+            .set("background-color", "#f4f4f4") // Light gray background
+            .set("padding", "20px");
+    }
+
+    private HorizontalLayout createHeader() {
+        // Logo
+        Image logo = new Image("https://logodix.com/logo/1943855.png", "Football Logo");
+        logo.setWidth("50px");
+        logo.setHeight("50px");
+
+        // Title
+        H1 title = new H1("Team Ratings");
+        title.getStyle()
+             .set("color", "#ffffff")
+             .set("font-size", "36px") // Larger font size
+             .set("font-weight", "bold") // Bold font
+             .set("margin", "0")
+             .set("text-align", "center")
+             .set("flex-grow", "1");
+
+        // Header layout
+        HorizontalLayout header = new HorizontalLayout(logo, title);
+        header.setAlignItems(FlexComponent.Alignment.CENTER);
+        header.setWidthFull();
+        header.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 20px")
+              .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+
+        return header;
+    }
+
+    private HorizontalLayout createFooter() {
+        Paragraph footerText = new Paragraph("© 2025 Football Analysis Website. All rights reserved.");
+        footerText.getStyle()
+                  .set("color", "#ffffff")
+                  .set("font-size", "14px")
+                  .set("margin", "0");
+
+        HorizontalLayout footer = new HorizontalLayout(footerText);
+        footer.setWidthFull();
+        footer.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+        footer.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 0")
+              .set("margin-top", "20px");
+
+        return footer;
+    }
+
+    private HorizontalLayout createFiltersLayout() {
+        HorizontalLayout filters = new HorizontalLayout(leagueComboBox, asOfDatePicker);
+        filters.setAlignItems(FlexComponent.Alignment.BASELINE);
+        filters.setWidthFull();
+        filters.setSpacing(true);
+        filters.getStyle()
+               .set("background-color", "#ffffff")
+               .set("padding", "10px")
+               .set("border-radius", "5px")
+               .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+        return filters;
+    }
+
+    private void createFilters() {
+        // League filter
+        leagueComboBox = new ComboBox<>("Select League");
+        leagueComboBox.setItems(matchRepository.leagues());
+        leagueComboBox.setPlaceholder("All Leagues");
+        leagueComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(leagueComboBox);
+
+        // Ratings as they stood at the end of the chosen day; empty means the latest ratings
+        asOfDatePicker = new DatePicker("As Of");
+        asOfDatePicker.setPlaceholder("Latest");
+        asOfDatePicker.setClearButtonVisible(true);
+        asOfDatePicker.addValueChangeListener(e -> updateGrid());
+        asOfDatePicker.getStyle()
+                      .set("width", "250px")
+                      .set("border-radius", "5px")
+                      .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void updateGrid() {
+        LocalDate asOf = asOfDatePicker.getValue();
+        List<TeamRating> ranking = eloRatings.ranking(leagueComboBox.getValue(),
+                asOf == null ? null : asOf.atTime(LocalTime.MAX));
+        grid.setItems(ranking);
+    }
+
+    private void configureGrid() {
+        // Configure grid columns
+        grid.addColumn(TeamRating::team).setHeader("Team").setAutoWidth(true).setSortable(true);
+        grid.addColumn(TeamRating::league).setHeader("League").setAutoWidth(true).setSortable(true);
+        grid.addColumn(rating -> String.format("%.0f", rating.rating())).setHeader("Rating").setAutoWidth(true)
+            .setComparator(TeamRating::rating);
+        grid.addColumn(TeamRating::matches).setHeader("Matches").setAutoWidth(true).setSortable(true);
+        grid.addColumn(rating -> rating.lastMatch() != null ? DATE_FORMAT.format(rating.lastMatch()) : "")
+            .setHeader("Last Match").setAutoWidth(true);
+
+        grid.setWidthFull();
+        grid.setHeight("400px");
+        grid.getStyle()
+            .set("background-color", "#ffffff")
+            .set("color", "#333333")
+            .set("border-radius", "10px")
+            .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void styleDropdown(ComboBox<?> dropdown) {
+        dropdown.getStyle()
+                .set("--lumo-primary-text-color", "#333333")
+                .set("--lumo-primary-color", "#ffffff")
+                .set("width", "250px")
+                .set("border-radius", "5px")
+                .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void styleButton(Button button) {
+        button.getStyle()
+              .set("background-color", "#4caf50")
+              .set("color", "white")
+              .set("border-radius", "5px")
+              .set("padding", "10px 20px")
+              .set("margin-top", "20px");
+    }
+}
\ No newline at end of file
@@ -1,29 +1,48 @@
 package com.example.UIFootball.views;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.checkbox.Checkbox;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.grid.Grid;
 import com.vaadin.flow.component.html.*;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.router.Route;
-import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.QueryExecutor;
+import com.example.UIFootball.standings.SeasonProjection;
+import com.example.UIFootball.standings.SeasonSimulator;
+import com.example.UIFootball.standings.TeamProjection;
+import com.example.UIFootball.standings.TeamStanding;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.List;
 
 @Route("season-summary")
 public class SeasonSummaryPage extends VerticalLayout {
 
-    private final Grid<Map<String, Object>> grid = new Grid<>();
+    private final Grid<TeamStanding> grid = new Grid<>();
+    // Built the first time a projection is shown; most selections never need it
+    private Grid<TeamProjection> projectionGrid;
+    private final H3 projectionTitle = new H3("Projected Finish");
+    private final Paragraph projectionDetails = new Paragraph();
     private ComboBox<String> leagueComboBox;
+    private ComboBox<String> seasonComboBox;
     private ComboBox<String> teamComboBox;
-    private List<Map<String, Object>> matchData;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Checkbox combineCheckbox;
+    private final MatchRepository matchRepository;
+    private final SeasonSimulator seasonSimulator;
+    // The simulation can take a while, so it is awaited off the request thread and pushed
+    private final DebouncedQueryRunner projectionRunner;
+
+    public SeasonSummaryPage(MatchRepository matchRepository, SeasonSimulator seasonSimulator,
+                             QueryExecutor queryExecutor) {
+        this.matchRepository = matchRepository;
+        this.seasonSimulator = seasonSimulator;
+        this.projectionRunner = new DebouncedQueryRunner(queryExecutor, Duration.ZERO);
+        addDetachListener(e -> projectionRunner.cancel());
 
-    public SeasonSummaryPage() {
         // Create header
         HorizontalLayout header = createHeader();
 
@@ -34,13 +53,10 @@ public class SeasonSummaryPage extends VerticalLayout {
                 .set("text-align", "center")
                 .set("margin", "10px 0");
 
-        // Fetch match data
-        MatchService matchService = new MatchService();
-        matchData = matchService.getMatchData();
-
         // Create filters and configure grid
-        createFilters(matchService);
+        createFilters();
         configureGrid();
+        configureProjection();
 
         // Navigation back to HomeView
         Button homeButton = new Button("Back to Home");
@@ -51,7 +67,7 @@ public class SeasonSummaryPage extends VerticalLayout {
         HorizontalLayout footer = createFooter();
 
         // Add components to layout
-        add(header, subtitle, createFiltersLayout(), grid, homeButton, footer);
+        add(header, subtitle, createFiltersLayout(), grid, projectionTitle, projectionDetails, homeButton, footer);
         setAlignItems(Alignment.CENTER);
         setSpacing(true);
         setPadding(true);
@@ -60,79 +76,6 @@ public class SeasonSummaryPage extends VerticalLayout {
             .set("padding", "20px");
     }
 
-    private List<Map<String, Object>> generateSeasonSummary(String selectedLeague, String selectedTeam) {
-        List<Map<String, Object>> summaryData = new ArrayList<>();
-    
-        // Filter matches based on the selected league and team
-        List<Map<String, Object>> filteredMatches = matchData.stream()
-            .filter(match -> (selectedLeague == null || selectedLeague.equals(match.get("league"))) &&
-                             (selectedTeam == null || selectedTeam.equals(parseNestedField(match.get("h"), "title")) ||
-                              selectedTeam.equals(parseNestedField(match.get("a"), "title"))))
-            .collect(Collectors.toList());
-    
-        // Group matches by team
-        Map<String, List<Map<String, Object>>> matchesByTeam = new HashMap<>();
-        for (Map<String, Object> match : filteredMatches) {
-            String homeTeam = parseNestedField(match.get("h"), "title");
-            String awayTeam = parseNestedField(match.get("a"), "title");
-    
-            matchesByTeam.putIfAbsent(homeTeam, new ArrayList<>());
-            matchesByTeam.putIfAbsent(awayTeam, new ArrayList<>());
-    
-            matchesByTeam.get(homeTeam).add(match);
-            matchesByTeam.get(awayTeam).add(match);
-        }
-    
-        // Calculate summary for each team
-        for (Map.Entry<String, List<Map<String, Object>>> entry : matchesByTeam.entrySet()) {
-            String team = entry.getKey();
-            List<Map<String, Object>> teamMatches = entry.getValue();
-    
-            int played = teamMatches.size();
-            int wins = 0, draws = 0, losses = 0, goalsFor = 0, goalsAgainst = 0;
-    
-            for (Map<String, Object> match : teamMatches) {
-                String homeTeam = parseNestedField(match.get("h"), "title");
-                String awayTeam = parseNestedField(match.get("a"), "title");
-    
-                int homeGoals = Integer.parseInt(parseNestedField(match.get("goals"), "h"));
-                int awayGoals = Integer.parseInt(parseNestedField(match.get("goals"), "a"));
-    
-                if (team.equals(homeTeam)) {
-                    goalsFor += homeGoals;
-                    goalsAgainst += awayGoals;
-                    if (homeGoals > awayGoals) wins++;
-                    else if (homeGoals == awayGoals) draws++;
-                    else losses++;
-                } else if (team.equals(awayTeam)) {
-                    goalsFor += awayGoals;
-                    goalsAgainst += homeGoals;
-                    if (awayGoals > homeGoals) wins++;
-                    else if (awayGoals == homeGoals) draws++;
-                    else losses++;
-                }
-            }
-    
-            int points = (wins * 3) + draws;
-    
-            // Add summary data for the team
-            Map<String, Object> teamSummary = new HashMap<>();
-            teamSummary.put("team", team);
-            teamSummary.put("season", "2025"); // Example season
-            teamSummary.put("played", played);
-            teamSummary.put("wins", wins);
-            teamSummary.put("draws", draws);
-            teamSummary.put("losses", losses);
-            teamSummary.put("goalsFor", goalsFor);
-            teamSummary.put("goalsAgainst", goalsAgainst);
-            teamSummary.put("points", points);
-    
-            summaryData.add(teamSummary);
-        }
-    
-        return summaryData;
-    }
-
     private HorizontalLayout createHeader() {
         // Logo
         Image logo = new Image("https://logodix.com/logo/1943855.png", "Football Logo");
@@ -180,7 +123,8 @@ public class SeasonSummaryPage extends VerticalLayout {
     }
 
     private HorizontalLayout createFiltersLayout() {
-        HorizontalLayout filters = new HorizontalLayout(leagueComboBox, teamComboBox);
+        HorizontalLayout filters = new HorizontalLayout(leagueComboBox, seasonComboBox, teamComboBox, combineCheckbox);
+        filters.setAlignItems(FlexComponent.Alignment.BASELINE);
         filters.setWidthFull();
         filters.setSpacing(true);
         filters.getStyle()
@@ -191,48 +135,92 @@ public class SeasonSummaryPage extends VerticalLayout {
         return filters;
     }
 
-    private void createFilters(MatchService matchService) {
+    private void createFilters() {
         // League filter
         leagueComboBox = new ComboBox<>("Select League");
-        leagueComboBox.setItems(matchService.getUniqueLeagues());
+        leagueComboBox.setItems(matchRepository.leagues());
         leagueComboBox.setPlaceholder("All Leagues");
         leagueComboBox.addValueChangeListener(e -> updateFilters());
         styleDropdown(leagueComboBox);
 
-        // Team filter
-        Set<String> allTeams = new HashSet<>();
-        matchData.forEach(match -> {
-            allTeams.add(parseNestedField(match.get("h"), "title"));
-            allTeams.add(parseNestedField(match.get("a"), "title"));
-        });
+        // Season filter
+        seasonComboBox = new ComboBox<>("Select Season");
+        seasonComboBox.setItems(matchRepository.seasons());
+        seasonComboBox.setPlaceholder("All Seasons");
+        seasonComboBox.addValueChangeListener(e -> updateFilters());
+        styleDropdown(seasonComboBox);
 
+        // Team filter
         teamComboBox = new ComboBox<>("Select Team");
-        teamComboBox.setItems(allTeams.stream().filter(team -> !team.equals("N/A")).sorted().collect(Collectors.toList()));
+        teamComboBox.setItems(matchRepository.teams());
         teamComboBox.setPlaceholder("All Teams");
         teamComboBox.addValueChangeListener(e -> updateFilters());
         styleDropdown(teamComboBox);
+
+        // One row per team over all selected seasons and leagues (e.g. an all-time table)
+        combineCheckbox = new Checkbox("Combine seasons and leagues");
+        combineCheckbox.addValueChangeListener(e -> updateFilters());
     }
 
     private void updateFilters() {
         String selectedLeague = leagueComboBox.getValue();
+        String selectedSeason = seasonComboBox.getValue();
         String selectedTeam = teamComboBox.getValue();
 
-        // Generate and update season summary based on filters
-        List<Map<String, Object>> summaryData = generateSeasonSummary(selectedLeague, selectedTeam);
+        // Maintained tables in memory, a GROUP BY query with H2; no match list is scanned here
+        Integer season = selectedSeason == null ? null : Integer.valueOf(selectedSeason);
+        List<TeamStanding> summaryData = combineCheckbox.getValue()
+                ? matchRepository.combinedStandings(selectedLeague, season, selectedTeam)
+                : matchRepository.standings(selectedLeague, season, selectedTeam);
         grid.setItems(summaryData);
+        updateProjection(selectedLeague, season, selectedTeam);
+    }
+
+    // Simulated final positions, only for a single league season that still has fixtures to play
+    private void updateProjection(String league, Integer season, String team) {
+        boolean show = league != null && season != null && !combineCheckbox.getValue()
+                && !seasonSimulator.remainingFixtures(league, season).isEmpty();
+        projectionTitle.setVisible(show);
+        projectionDetails.setVisible(show);
+        if (projectionGrid != null) {
+            projectionGrid.setVisible(show);
+        }
+        if (!show) {
+            projectionRunner.cancel();
+            return;
+        }
+        if (projectionGrid == null) {
+            projectionGrid = createProjectionGrid();
+            addComponentAtIndex(indexOf(projectionDetails), projectionGrid);
+        }
+        projectionGrid.setItems(List.of());
+        projectionDetails.setText("Simulating the remaining fixtures…");
+        projectionRunner.submit(() -> seasonSimulator.simulate(league, season).join(),
+                projection -> showProjection(projection, team));
+    }
+
+    private void showProjection(SeasonProjection projection, String team) {
+        projectionGrid.setItems(team == null ? projection.teams()
+                : projection.teams().stream().filter(row -> row.team().equals(team)).toList());
+        projectionDetails.setText(String.format("%,d simulations of %d remaining fixtures (seed %d) in %.0f ms, %,.0f simulations/s",
+                projection.runs(), projection.fixtures(), projection.seed(), projection.elapsedNanos() / 1_000_000.0,
+                projection.simulationsPerSecond()));
     }
 
     private void configureGrid() {
         // Configure grid columns
-        grid.addColumn(data -> data.get("team")).setHeader("Team").setAutoWidth(true);
-        grid.addColumn(data -> data.get("season")).setHeader("Season").setAutoWidth(true);
-        grid.addColumn(data -> data.get("played")).setHeader("Played").setAutoWidth(true);
-        grid.addColumn(data -> data.get("wins")).setHeader("Wins").setAutoWidth(true);
-        grid.addColumn(data -> data.get("draws")).setHeader("Draws").setAutoWidth(true);
-        grid.addColumn(data -> data.get("losses")).setHeader("Losses").setAutoWidth(true);
-        grid.addColumn(data -> data.get("goalsFor")).setHeader("Goals For").setAutoWidth(true);
-        grid.addColumn(data -> data.get("goalsAgainst")).setHeader("Goals Against").setAutoWidth(true);
-        grid.addColumn(data -> data.get("points")).setHeader("Points").setAutoWidth(true);
+        grid.addColumn(TeamStanding::team).setHeader("Team").setAutoWidth(true);
+        grid.addColumn(standing -> standing.league() != null ? standing.league() : "All").setHeader("League").setAutoWidth(true);
+        grid.addColumn(standing -> standing.season() != null ? standing.season().toString() : "All").setHeader("Season").setAutoWidth(true);
+        grid.addColumn(TeamStanding::played).setHeader("Played").setAutoWidth(true);
+        grid.addColumn(TeamStanding::wins).setHeader("Wins").setAutoWidth(true);
+        grid.addColumn(TeamStanding::draws).setHeader("Draws").setAutoWidth(true);
+        grid.addColumn(TeamStanding::losses).setHeader("Losses").setAutoWidth(true);
+        grid.addColumn(TeamStanding::goalsFor).setHeader("Goals For").setAutoWidth(true);
+        grid.addColumn(TeamStanding::goalsAgainst).setHeader("Goals Against").setAutoWidth(true);
+        grid.addColumn(TeamStanding::points).setHeader("Points").setAutoWidth(true);
+        grid.addColumn(standing -> standing.home().toString()).setHeader("Home W-D-L").setAutoWidth(true);
+        grid.addColumn(standing -> standing.away().toString()).setHeader("Away W-D-L").setAutoWidth(true);
 
         grid.setWidthFull();
         grid.setHeight("400px");
@@ -243,17 +231,34 @@ public class SeasonSummaryPage extends VerticalLayout {
             .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
     }
 
-    private String parseNestedField(Object field, String key) {
-        try {
-            if (field instanceof String) {
-                String validJson = ((String) field).replace("\'", "\"");
-                Map<String, String> nestedMap = objectMapper.readValue(validJson, Map.class);
-                return nestedMap.getOrDefault(key, "N/A");
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return "N/A";
+    private Grid<TeamProjection> createProjectionGrid() {
+        Grid<TeamProjection> projectionGrid = new Grid<>();
+        projectionGrid.addColumn(TeamProjection::team).setHeader("Team").setAutoWidth(true);
+        projectionGrid.addColumn(TeamProjection::points).setHeader("Points").setAutoWidth(true);
+        projectionGrid.addColumn(row -> String.format("%.1f", row.expectedPoints())).setHeader("Expected Points").setAutoWidth(true);
+        projectionGrid.addColumn(row -> percent(row.title())).setHeader("Title").setAutoWidth(true);
+        projectionGrid.addColumn(row -> percent(row.topFour())).setHeader("Top 4").setAutoWidth(true);
+        projectionGrid.addColumn(row -> percent(row.relegation())).setHeader("Relegation").setAutoWidth(true);
+
+        projectionGrid.setWidthFull();
+        projectionGrid.setHeight("400px");
+        projectionGrid.getStyle()
+            .set("background-color", "#ffffff")
+            .set("color", "#333333")
+            .set("border-radius", "10px")
+            .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+        return projectionGrid;
+    }
+
+    private void configureProjection() {
+        projectionTitle.getStyle().set("color", "#333333").set("margin", "10px 0 0 0");
+        projectionDetails.getStyle().set("color", "#666666").set("font-size", "12px").set("margin", "0");
+        projectionTitle.setVisible(false);
+        projectionDetails.setVisible(false);
+    }
+
+    private static String percent(double share) {
+        return String.format("%.1f%%", share * 100);
     }
 
     private void styleDropdown(ComboBox<?> dropdown) {
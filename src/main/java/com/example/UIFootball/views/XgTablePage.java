@@ -0,0 +1,217 @@
+package com.example.UIFootball.views;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.*;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.Route;
+import com.example.UIFootball.analytics.TeamXg;
+import com.example.UIFootball.analytics.XgAnalytics;
+import com.example.UIFootball.repository.MatchRepository;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+
+import java.util.List;
+
+@Route("xg-table")
+public class XgTablePage extends VerticalLayout {
+
+    private final Grid<TeamXg> grid = new Grid<>();
+    private ComboBox<String> leagueComboBox;
+    private ComboBox<String> seasonComboBox;
+    private ComboBox<Integer> windowComboBox;
+    private final Paragraph details = new Paragraph();
+    private final MatchRepository matchRepository;
+    private final XgAnalytics xgAnalytics;
+
+    public XgTablePage(MatchRepository matchRepository, XgAnalytics xgAnalytics) {
+        this.matchRepository = matchRepository;
+        this.xgAnalytics = xgAnalytics;
+
+        // Create header
+        HorizontalLayout header = createHeader();
+
+        // Page subtitle
+        Paragraph subtitle = new Paragraph("Compare chances created and conceded with the goals behind them.");
+        subtitle.getStyle()
+                .set("color", "#666666") // Medium gray text color
+                .set("text-align", "center")
+                .set("margin", "10px 0");
+        details.getStyle()
+               .set("color", "#666666")
+               .set("font-size", "12px")
+               .set("margin", "0");
+
+        // Create filters and configure grid
+        createFilters();
+        configureGrid();
+        updateGrid();
+
+        // Navigation back to HomeView
+        Button homeButton = new Button("Back to Home");
+        homeButton.addClickListener(e -> homeButton.getUI().ifPresent(ui -> ui.navigate("")));
+        styleButton(homeButton);
+
+        // Create footer
+        HorizontalLayout footer = createFooter();
+
+        // Add components to layout
+        add(header, subtitle, createFiltersLayout(), grid, details, homeButton, footer);
+        setAlignItems(Alignment.CENTER);
+        setSpacing(true);
+        setPadding(true);
+        getStyle()
+            .set("background-color", "#f4f4f4") // Light gray background
+            .set("padding", "20px");
+    }
+
+    private HorizontalLayout createHeader() {
+        // Logo
+        Image logo = new Image("https://logodix.com/logo/1943855.png", "Football Logo");
+        logo.setWidth("50px");
+        logo.setHeight("50px");
+
+        // Title
+        H1 title = new H1("xG Table");
+        title.getStyle()
+             .set("color", "#ffffff")
+             .set("font-size", "36px") // Larger font size
+             .set("font-weight", "bold") // Bold font
+             .set("margin", "0")
+             .set("text-align", "center")
+             .set("flex-grow", "1");
+
+        // Header layout
+        HorizontalLayout header = new HorizontalLayout(logo, title);
+        header.setAlignItems(FlexComponent.Alignment.CENTER);
+        header.setWidthFull();
+        header.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 20px")
+              .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+
+        return header;
+    }
+
+    private HorizontalLayout createFooter() {
+        Paragraph footerText = new Paragraph("© 2025 Football Analysis Website. All rights reserved.");
+        footerText.getStyle()
+                  .set("color", "#ffffff")
+                  .set("font-size", "14px")
+                  .set("margin", "0");
+
+        HorizontalLayout footer = new HorizontalLayout(footerText);
+        footer.setWidthFull();
+        footer.setJustifyContentMode(FlexComponent.JustifyContentMode.CENTER);
+        footer.getStyle()
+              .set("background-color", "#4caf50")
+              .set("padding", "10px 0")
+              .set("margin-top", "20px");
+
+        return footer;
+    }
+
+    private HorizontalLayout createFiltersLayout() {
+        HorizontalLayout filters = new HorizontalLayout(leagueComboBox, seasonComboBox, windowComboBox);
+        filters.setAlignItems(FlexComponent.Alignment.BASELINE);
+        filters.setWidthFull();
+        filters.setSpacing(true);
+        filters.getStyle()
+               .set("background-color", "#ffffff")
+               .set("padding", "10px")
+               .set("border-radius", "5px")
+               .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+        return filters;
+    }
+
+    private void createFilters() {
+        // League filter
+        leagueComboBox = new ComboBox<>("Select League");
+        leagueComboBox.setItems(matchRepository.leagues());
+        leagueComboBox.setPlaceholder("All Leagues");
+        leagueComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(leagueComboBox);
+
+        // Season filter
+        seasonComboBox = new ComboBox<>("Select Season");
+        seasonComboBox.setItems(matchRepository.seasons());
+        seasonComboBox.setPlaceholder("All Seasons");
+        seasonComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(seasonComboBox);
+
+        // Number of most recent matches behind the form columns
+        windowComboBox = new ComboBox<>("Form Window");
+        windowComboBox.setItems(3, 5, 10);
+        windowComboBox.setValue(XgAnalytics.DEFAULT_FORM_WINDOW);
+        windowComboBox.addValueChangeListener(e -> updateGrid());
+        styleDropdown(windowComboBox);
+    }
+
+    private void updateGrid() {
+        String selectedSeason = seasonComboBox.getValue();
+        Integer season = selectedSeason == null ? null : Integer.valueOf(selectedSeason);
+        Integer window = windowComboBox.getValue();
+
+        // Range sums over the cached xG columns; the columns are rebuilt only after a data change
+        List<TeamXg> table = xgAnalytics.teams(leagueComboBox.getValue(), season,
+                window != null ? window : XgAnalytics.DEFAULT_FORM_WINDOW);
+        grid.setItems(table);
+        details.setText(String.format("%d teams, %s kernels, last rebuild %.2f ms", table.size(),
+                xgAnalytics.kernelName(), xgAnalytics.lastBuildNanos() / 1_000_000.0));
+    }
+
+    private void configureGrid() {
+        // Configure grid columns
+        grid.addColumn(TeamXg::team).setHeader("Team").setAutoWidth(true).setSortable(true);
+        grid.addColumn(row -> row.league() != null ? row.league() : "All").setHeader("League").setAutoWidth(true);
+        grid.addColumn(row -> row.season() != null ? row.season().toString() : "All").setHeader("Season").setAutoWidth(true);
+        grid.addColumn(TeamXg::played).setHeader("Played").setAutoWidth(true).setSortable(true);
+        grid.addColumn(row -> format(row.xgFor())).setHeader("xG For").setAutoWidth(true)
+            .setComparator(TeamXg::xgFor);
+        grid.addColumn(row -> format(row.xgAgainst())).setHeader("xG Against").setAutoWidth(true)
+            .setComparator(TeamXg::xgAgainst);
+        grid.addColumn(row -> format(row.xgDifference())).setHeader("xG Diff").setAutoWidth(true)
+            .setComparator(TeamXg::xgDifference);
+        grid.addColumn(TeamXg::goalsFor).setHeader("Goals For").setAutoWidth(true).setSortable(true);
+        grid.addColumn(TeamXg::goalsAgainst).setHeader("Goals Against").setAutoWidth(true).setSortable(true);
+        grid.addColumn(row -> format(row.finishing())).setHeader("Finishing").setAutoWidth(true)
+            .setComparator(TeamXg::finishing);
+        grid.addColumn(row -> format(row.prevention())).setHeader("Prevention").setAutoWidth(true)
+            .setComparator(TeamXg::prevention);
+        grid.addColumn(row -> format(row.formXgFor())).setHeader("Form xG For").setAutoWidth(true)
+            .setComparator(TeamXg::formXgFor);
+        grid.addColumn(row -> format(row.formXgAgainst())).setHeader("Form xG Against").setAutoWidth(true)
+            .setComparator(TeamXg::formXgAgainst);
+
+        grid.setWidthFull();
+        grid.setHeight("400px");
+        grid.getStyle()
+            .set("background-color", "#ffffff")
+            .set("color", "#333333")
+            .set("border-radius", "10px")
+            .set("box-shadow", "0 4px 8px rgba(0, 0, 0, 0.1)");
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    private void styleDropdown(ComboBox<?> dropdown) {
+        dropdown.getStyle()
+                .set("--lumo-primary-text-color", "#333333")
+                .set("--lumo-primary-color", "#ffffff")
+                .set("width", "250px")
+                .set("border-radius", "5px")
+                .set("box-shadow", "0 2px 4px rgba(0, 0, 0, 0.1)");
+    }
+
+    private void styleButton(Button button) {
+        button.getStyle()
+              .set("background-color", "#4caf50")
+              .set("color", "white")
+              .set("border-radius", "5px")
+              .set("padding", "10px 20px")
+              .set("margin-top", "20px");
+    }
+}
\ No newline at end of file
@@ -1,11 +1,24 @@
 package com.example.UIFootball;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
 
 @SpringBootTest
 class UiFootballApplicationTests {
 
+	@TempDir
+	static Path journalDir;
+
+	@DynamicPropertySource
+	static void journal(DynamicPropertyRegistry registry) {
+		registry.add("match.journal.dir", journalDir::toString);
+	}
+
 	@Test
 	void contextLoads() {
 	}
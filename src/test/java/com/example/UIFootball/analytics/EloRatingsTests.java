@@ -0,0 +1,62 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class EloRatingsTests {
+
+	private final MatchService matchService = new MatchService();
+	private final EloRatings ratings = new EloRatings(matchService);
+
+	@Test
+	void ratingsAreZeroSumAndLookupsFollowHistory() {
+		List<TeamRating> ranking = ratings.ranking(null);
+		double mean = ranking.stream().mapToDouble(TeamRating::rating).average().orElseThrow();
+		assertThat(mean).isCloseTo(EloRatings.INITIAL_RATING, within(1e-6));
+		assertThat(ranking.get(0).rating()).isGreaterThanOrEqualTo(ranking.get(ranking.size() - 1).rating());
+
+		List<RatingPoint> history = ratings.history("Arsenal");
+		RatingPoint point = history.get(history.size() / 2);
+		assertThat(ratings.ratingOn("Arsenal", point.datetime()).getAsDouble()).isEqualTo(point.rating());
+		assertThat(ratings.ratingOn("Arsenal", point.datetime().minusSeconds(1)).getAsDouble())
+				.isEqualTo(history.get(history.size() / 2 - 1).rating());
+		assertThat(ratings.ratingOn("Arsenal", LocalDateTime.of(1900, 1, 1, 0, 0)).getAsDouble())
+				.isEqualTo(EloRatings.INITIAL_RATING);
+		assertThat(ratings.ratingOn("No Such Team", LocalDateTime.now())).isEmpty();
+		assertThat(ratings.ranking("EPL", point.datetime())).extracting(TeamRating::team).contains("Arsenal");
+	}
+
+	@Test
+	void editsReplayOnlyFromTheirKickOff() {
+		List<RatingPoint> history = ratings.history("Arsenal");
+		RatingPoint recent = history.get(history.size() - 3);
+		Match match = matchService.getMatches().stream().filter(candidate -> candidate.id() == recent.matchId())
+				.findFirst().orElseThrow();
+		boolean home = match.homeTitle().equals("Arsenal");
+		Score heavyDefeat = home ? new Score(0, 7) : new Score(7, 0);
+		matchService.updateMatch(match.withTeamsAndScore(match.home(), match.away(), heavyDefeat));
+
+		assertThat(ratings.lastReplayed()).isPositive().isLessThan(matchService.getMatches().size() / 10);
+		assertThat(ratings.history("Arsenal").subList(0, history.size() - 3)).isEqualTo(history.subList(0, history.size() - 3));
+		assertThat(ratings.history("Arsenal").get(history.size() - 3).rating()).isLessThanOrEqualTo(recent.rating());
+		assertIncrementalMatchesRebuild();
+
+		matchService.deleteMatch(match.id());
+		assertThat(ratings.history("Arsenal")).hasSize(history.size() - 1);
+		assertIncrementalMatchesRebuild();
+	}
+
+	private void assertIncrementalMatchesRebuild() {
+		EloRatings rebuilt = new EloRatings(matchService);
+		assertThat(ratings.ranking(null)).isEqualTo(rebuilt.ranking(null));
+		assertThat(ratings.history("Chelsea")).isEqualTo(rebuilt.history("Chelsea"));
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ForecastEvaluatorTests {
+
+	private final MatchService matchService = new MatchService();
+	private final ForecastEvaluator evaluator = new ForecastEvaluator(matchService);
+
+	@Test
+	void agreesWithFullScan() {
+		List<Match> scored = matchService.getMatches().stream()
+				.filter(ForecastEvaluator::counts)
+				.filter(match -> "EPL".equals(match.league()) && match.involves("Arsenal"))
+				.toList();
+		double brier = 0;
+		double logLoss = 0;
+		for (Match match : scored) {
+			double[] probabilities = {match.forecast().win(), match.forecast().draw(), match.forecast().loss()};
+			int outcome = 1 - match.goals().outcome();
+			for (int i = 0; i < 3; i++) {
+				double error = probabilities[i] - (i == outcome ? 1 : 0);
+				brier += error * error;
+			}
+			logLoss -= Math.log(Math.max(1e-15, probabilities[outcome]));
+		}
+
+		ForecastScore score = evaluator.score("EPL", null, "Arsenal");
+		assertThat(score.matches()).isEqualTo(scored.size()).isPositive();
+		assertThat(score.brier()).isCloseTo(brier / scored.size(), within(1e-9));
+		assertThat(score.logLoss()).isCloseTo(logLoss / scored.size(), within(1e-9));
+		assertThat(score.calibration()).hasSize(ForecastEvaluator.BINS);
+		assertThat(score.calibration().stream().mapToInt(CalibrationBin::predictions).sum()).isEqualTo(3 * scored.size());
+
+		// Every match is counted once per league, twice over the teams of the league
+		int leagueMatches = evaluator.score("EPL", null, null).matches();
+		assertThat(evaluator.bySeason("EPL").stream().mapToInt(ForecastScore::matches).sum()).isEqualTo(leagueMatches);
+		assertThat(evaluator.byTeam("EPL", null).stream().mapToInt(ForecastScore::matches).sum()).isEqualTo(2 * leagueMatches);
+		assertThat(evaluator.byLeague(null)).extracting(ForecastScore::league).contains("EPL");
+	}
+
+	@Test
+	void editsRefreshCachedSlices() {
+		ForecastScore before = evaluator.score("EPL", 2020, null);
+		Match match = matchService.getMatches().stream()
+				.filter(ForecastEvaluator::counts)
+				.filter(candidate -> "EPL".equals(candidate.league()) && candidate.season() == 2020)
+				.findFirst().orElseThrow();
+		Score flipped = new Score(match.goals().away(), match.goals().home() + 1);
+		matchService.updateMatch(match.withTeamsAndScore(match.home(), match.away(), flipped));
+
+		ForecastScore after = evaluator.score("EPL", 2020, null);
+		ForecastScore rebuilt = new ForecastEvaluator(matchService).score("EPL", 2020, null);
+		assertThat(after.matches()).isEqualTo(before.matches());
+		assertThat(after.brier()).isNotEqualTo(before.brier()).isCloseTo(rebuilt.brier(), within(1e-9));
+		assertThat(after.logLoss()).isCloseTo(rebuilt.logLoss(), within(1e-9));
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.UIFootball.analytics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class XgAnalyticsTests {
+
+	private final MatchService matchService = new MatchService();
+	private final XgAnalytics analytics = new XgAnalytics(matchService);
+
+	@Test
+	void kernelsAgreeWithScalarLoop() {
+		Random random = new Random(42);
+		double[][] columns = new double[4][1003];
+		for (double[] column : columns) {
+			for (int i = 0; i < column.length; i++) {
+				column[i] = random.nextDouble() * 3;
+			}
+		}
+		double[] scalar = new double[4];
+		double[] best = new double[4];
+		new ScalarXgKernels().sums(columns[0], columns[1], columns[2], columns[3], 7, 998, scalar);
+		XgKernels.best().sums(columns[0], columns[1], columns[2], columns[3], 7, 998, best);
+		for (int i = 0; i < 4; i++) {
+			double expected = 0;
+			for (int row = 7; row < 998; row++) {
+				expected += columns[i][row];
+			}
+			assertThat(scalar[i]).isCloseTo(expected, within(1e-9));
+			assertThat(best[i]).isCloseTo(expected, within(1e-9));
+		}
+
+		double[] means = new double[1003 - 10 + 1];
+		XgKernels.best().rollingMean(columns[0], 0, 1003, 10, new double[1004], means);
+		double window = 0;
+		for (int row = 500; row < 510; row++) {
+			window += columns[0][row];
+		}
+		assertThat(means[500]).isCloseTo(window / 10, within(1e-9));
+	}
+
+	@Test
+	void teamRowsAgreeWithFullScan() {
+		TeamXg arsenal = row(analytics.teams("EPL", 2020, 5), "Arsenal");
+		List<Match> played = matchService.getMatches().stream()
+				.filter(XgColumns::counts)
+				.filter(match -> "EPL".equals(match.league()) && match.season() == 2020 && match.involves("Arsenal"))
+				.sorted(Match.KICK_OFF)
+				.toList();
+		double xgFor = 0;
+		int goalsAgainst = 0;
+		for (Match match : played) {
+			boolean home = "Arsenal".equals(match.homeTitle());
+			xgFor += home ? match.xG().home() : match.xG().away();
+			goalsAgainst += home ? match.goals().away() : match.goals().home();
+		}
+		double formXgFor = played.subList(played.size() - 5, played.size()).stream()
+				.mapToDouble(match -> "Arsenal".equals(match.homeTitle()) ? match.xG().home() : match.xG().away())
+				.average().orElseThrow();
+
+		assertThat(arsenal.played()).isEqualTo(played.size());
+		assertThat(arsenal.xgFor()).isCloseTo(xgFor, within(1e-6));
+		assertThat(arsenal.goalsAgainst()).isEqualTo(goalsAgainst);
+		assertThat(arsenal.formXgFor()).isCloseTo(formXgFor, within(1e-6));
+		assertThat(arsenal.league()).isEqualTo("EPL");
+
+		// Over all leagues and seasons a team still appears once
+		assertThat(analytics.teams(null, null, 5)).extracting(TeamXg::team).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void leagueTotalsBalanceAndFollowEdits() {
+		LeagueXg before = analytics.leagues(2020).stream().filter(league -> league.league().equals("EPL")).findFirst().orElseThrow();
+		double xgFor = analytics.teams("EPL", 2020, 5).stream().mapToDouble(TeamXg::xgFor).sum();
+		double xgAgainst = analytics.teams("EPL", 2020, 5).stream().mapToDouble(TeamXg::xgAgainst).sum();
+		assertThat(xgFor).isCloseTo(xgAgainst, within(1e-6)).isCloseTo(before.xg(), within(1e-6));
+
+		Match match = matchService.getMatches().stream()
+				.filter(XgColumns::counts)
+				.filter(candidate -> "EPL".equals(candidate.league()) && candidate.season() == 2020)
+				.findFirst().orElseThrow();
+		matchService.updateMatch(match.withTeamsAndScore(match.home(), match.away(),
+				new Score(match.goals().home() + 3, match.goals().away())));
+		LeagueXg after = analytics.leagues(2020).stream().filter(league -> league.league().equals("EPL")).findFirst().orElseThrow();
+		assertThat(after.goals()).isEqualTo(before.goals() + 3);
+		assertThat(analytics.lastBuildNanos()).isPositive();
+	}
+
+	@Test
+	void rollingSeriesHasOneMeanPerFullWindow() {
+		XgSeries series = analytics.rolling("Arsenal", "EPL", 2020, 5);
+		int played = row(analytics.teams("EPL", 2020, 5), "Arsenal").played();
+		assertThat(series.length()).isEqualTo(played - 4);
+		assertThat(series.xgFor()[series.length() - 1])
+				.isCloseTo(row(analytics.teams("EPL", 2020, 5), "Arsenal").formXgFor(), within(1e-9));
+		assertThat(analytics.rolling("No Such Team", null, null, 5).length()).isZero();
+	}
+
+	private static TeamXg row(List<TeamXg> rows, String team) {
+		return rows.stream().filter(row -> row.team().equals(team)).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,52 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.analytics.ForecastEvaluator;
+import com.example.UIFootball.analytics.ForecastScore;
+import com.example.UIFootball.metrics.ForecastMetrics;
+import com.example.UIFootball.service.MatchService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ForecastApiControllerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MatchService matchService = new MatchService();
+	private final ForecastEvaluator evaluator = new ForecastEvaluator(matchService);
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new ForecastApiController(evaluator)).build();
+
+	@Test
+	void scoresASliceAndItsBreakdown() throws Exception {
+		JsonNode body = objectMapper.readTree(mvc.perform(get("/api/forecasts?league=EPL&by=season"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray());
+
+		ForecastScore epl = evaluator.score("EPL", null, null);
+		assertThat(body.at("/score/matches").asInt()).isEqualTo(epl.matches()).isPositive();
+		assertThat(body.at("/score/brier").asDouble()).isCloseTo(epl.brier(), within(1e-12));
+		assertThat(body.at("/score/calibration")).hasSize(ForecastEvaluator.BINS);
+		assertThat(body.get("breakdown")).hasSize(evaluator.bySeason("EPL").size());
+		assertThat(body.at("/breakdown/0/league").asText()).isEqualTo("EPL");
+
+		mvc.perform(get("/api/forecasts?by=week")).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void gaugesScoreEveryForecast() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new ForecastMetrics(evaluator, registry);
+		ForecastScore all = evaluator.score(null, null, null);
+
+		assertThat(registry.get("match.forecast.matches").gauge().value()).isEqualTo(all.matches()).isPositive();
+		assertThat(registry.get("match.forecast.brier").gauge().value()).isEqualTo(all.brier());
+		assertThat(registry.get("match.forecast.logloss").gauge().value()).isEqualTo(all.logLoss());
+	}
+}
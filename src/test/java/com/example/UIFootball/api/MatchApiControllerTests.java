@@ -0,0 +1,107 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.repository.InMemoryMatchRepository;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchChangeListener;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSnapshot;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MatchApiControllerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MatchService matchService = new MatchService();
+	private final MatchApiController controller = new MatchApiController(matchService,
+			new InMemoryMatchRepository(matchService, new StandingsEngine(matchService, new StandingsAggregator())),
+			objectMapper);
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+	@Test
+	void streamsFilteredMatchesAcrossPages() throws Exception {
+		JsonNode body = getJson("/api/matches?league=EPL&season=2020&sort=datetime&offset=10&limit=1500");
+		int total = matchService.query(new MatchFilter("2020", "EPL", null, null)).size();
+
+		assertThat(body.get("version").asLong()).isEqualTo(matchService.getSnapshot().version());
+		assertThat(body.get("total").asInt()).isEqualTo(total);
+		assertThat(body.get("matches")).hasSize(Math.min(1500, total - 10));
+		assertThat(body.get("matches").get(0).get("league").asText()).isEqualTo("EPL");
+
+		JsonNode all = getJson("/api/matches");
+		assertThat(all.get("matches")).hasSize(matchService.getMatches().size());
+		assertThat(getJson("/api/standings?league=EPL&season=2020").get("standings")).hasSize(20);
+		assertThat(getJson("/api/leagues").get("leagues")).hasSize(matchService.getUniqueLeagues().size());
+	}
+
+	@Test
+	void matchingETagIsAnsweredWithNotModifiedUntilTheDataChanges() throws Exception {
+		String etag = mvc.perform(get("/api/teams")).andReturn().getResponse().getHeader("ETag");
+		assertThat(etag).isEqualTo(controller.etag(matchService.getSnapshot().version()));
+
+		mvc.perform(get("/api/teams").header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+		mvc.perform(get("/api/standings?league=EPL").header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+
+		matchService.deleteMatch(matchService.getMatches().get(0).id());
+		MvcResult changed = mvc.perform(get("/api/teams").header("If-None-Match", etag)).andReturn();
+		mvc.perform(asyncDispatch(changed))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", controller.etag(matchService.getSnapshot().version())));
+	}
+
+	@Test
+	void standingsReadWhileAChangeIsAppliedKeepTheOldETag() throws Exception {
+		MatchService service = new MatchService();
+		List<String> tagsDuringPublish = new ArrayList<>();
+		List<MockMvc> api = new ArrayList<>();
+		// Registered before the StandingsEngine, so it runs while the tables still trail the snapshot
+		service.addChangeListener(new MatchChangeListener() {
+			@Override
+			public void onReset(MatchSnapshot snapshot) {
+			}
+
+			@Override
+			public void onChange(MatchSnapshot snapshot, MatchChange change) {
+				try {
+					tagsDuringPublish.add(api.get(0).perform(get("/api/standings?league=EPL"))
+							.andReturn().getResponse().getHeader("ETag"));
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		});
+		MatchApiController lagging = new MatchApiController(service,
+				new InMemoryMatchRepository(service, new StandingsEngine(service, new StandingsAggregator())), objectMapper);
+		api.add(MockMvcBuilders.standaloneSetup(lagging).build());
+		long before = service.getSnapshot().version();
+
+		service.deleteMatch(service.getMatches().get(0).id());
+
+		assertThat(tagsDuringPublish).containsExactly(lagging.etag(before));
+		assertThat(api.get(0).perform(get("/api/standings?league=EPL")).andReturn().getResponse().getHeader("ETag"))
+				.isEqualTo(lagging.etag(service.getSnapshot().version()));
+	}
+
+	private JsonNode getJson(String url) throws Exception {
+		MvcResult started = mvc.perform(get(url)).andReturn();
+		MvcResult result = mvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+		return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.repository.InMemoryMatchRepository;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MatchExportControllerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MatchService matchService = new MatchService();
+	private final MatchExportController controller = new MatchExportController(
+			new InMemoryMatchRepository(matchService, new StandingsEngine(matchService, new StandingsAggregator())),
+			new MatchExporter(objectMapper));
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+	@Test
+	void csvHasOneRowPerMatchInTheRequestedOrder() throws Exception {
+		List<String> lines = lines(download("/api/export/matches?league=EPL&season=2020&sort=datetime&descending=true"));
+		MatchResults results = matchService.query(new MatchFilter("2020", "EPL", null, null));
+		List<Match> expected = results.page(MatchSort.by("datetime", true), 0, results.size());
+
+		assertThat(lines.get(0)).isEqualTo(MatchExporter.CSV_HEADER);
+		assertThat(lines).hasSize(expected.size() + 1);
+		assertThat(lines.subList(1, lines.size())).extracting(line -> Integer.parseInt(line.substring(0, line.indexOf(','))))
+				.containsExactlyElementsOf(expected.stream().map(Match::id).toList());
+		assertThat(lines.get(1).split(",", -1)).hasSize(MatchExporter.CSV_HEADER.split(",").length);
+	}
+
+	@Test
+	void gzippedJsonLinesMatchTheApiFormat() throws Exception {
+		byte[] body = mvc.perform(asyncDispatch(mvc.perform(get("/api/export/matches?league=La_Liga&format=jsonl&gzip=true"))
+						.andReturn()))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "application/gzip"))
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"matches.jsonl.gz\""))
+				.andReturn().getResponse().getContentAsByteArray();
+		List<String> lines;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+		}
+
+		assertThat(lines).hasSize(matchService.query(new MatchFilter(null, "La_Liga", null, null)).size());
+		assertThat(lines).allSatisfy(line -> assertThat(objectMapper.readTree(line).get("league").asText()).isEqualTo("La_Liga"));
+	}
+
+	@Test
+	void gzippedExportIsCompleteAndLeavesTheStreamOpen() throws Exception {
+		MatchResults results = matchService.query(new MatchFilter("2020", "EPL", null, null));
+		boolean[] closed = new boolean[1];
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+
+		new MatchExporter(objectMapper).write(results, MatchSort.by(null, false), MatchExporter.Format.CSV, true, out);
+		out.write('!');
+
+		assertThat(closed[0]).isFalse();
+		byte[] body = out.toByteArray();
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body, 0, body.length - 1))) {
+			assertThat(lines(in.readAllBytes())).hasSize(results.size() + 1);
+		}
+	}
+
+	@Test
+	void csvQuotesValuesWithSeparators() throws Exception {
+		Match added = matchService.addMatch(new Match(0, true, TeamRef.ofTitle("Brighton, \"Seagulls\""),
+				TeamRef.ofTitle("Fulham"), new Score(1, 1), null, null, null, "EPL", 2030));
+
+		List<String> lines = lines(download("/api/export/matches?season=2030"));
+
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(1)).startsWith(added.id() + ",true,")
+				.contains(",\"Brighton, \"\"Seagulls\"\"\",")
+				.endsWith(",EPL,2030");
+	}
+
+	@Test
+	void unknownFormatIsRejected() throws Exception {
+		mvc.perform(get("/api/export/matches?format=xml")).andExpect(status().isBadRequest());
+	}
+
+	private byte[] download(String url) throws Exception {
+		MvcResult started = mvc.perform(get(url)).andReturn();
+		return mvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "text/csv"))
+				.andReturn().getResponse().getContentAsByteArray();
+	}
+
+	private static List<String> lines(byte[] body) throws IOException {
+		return new String(body, StandardCharsets.UTF_8).lines().toList();
+	}
+}
@@ -0,0 +1,214 @@
+package com.example.UIFootball.api;
+
+import com.example.UIFootball.analytics.EloRatings;
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.HeadToHeadIndex;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class MatchImportControllerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MatchService matchService = new MatchService();
+	private final StandingsAggregator aggregator = new StandingsAggregator();
+	private final StandingsEngine standingsEngine = new StandingsEngine(matchService, aggregator);
+	private final EloRatings ratings = new EloRatings(matchService);
+	private final HeadToHeadIndex headToHead = new HeadToHeadIndex(matchService);
+	private final MatchExporter exporter = new MatchExporter(objectMapper);
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(
+			new MatchImportController(new MatchImporter(matchService, objectMapper))).build();
+
+	@Test
+	void exportedCsvImportsBackAsOneSnapshot() throws Exception {
+		MatchFilter filter = new MatchFilter("2020", "EPL", null, null);
+		List<Match> season = matchService.findMatches(filter);
+		byte[] csv = export(filter, MatchExporter.Format.CSV, false);
+		remove(season);
+		long version = matchService.getSnapshot().version();
+
+		ImportResult result = upload(csv, "", status().isOk());
+
+		assertThat(result.rows()).isEqualTo(season.size());
+		assertThat(result.imported()).isEqualTo(season.size());
+		assertThat(result.rejected()).isZero();
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + 1);
+		assertThat(matchService.findMatches(filter)).extracting(match -> match.withId(0))
+				.containsExactlyElementsOf(season.stream().map(match -> match.withId(0)).toList());
+	}
+
+	@Test
+	void gzippedJsonLinesUploadLeavesDerivedStateAsAFullRebuild() throws Exception {
+		MatchFilter filter = new MatchFilter(null, "La_Liga", null, null);
+		List<Match> league = matchService.findMatches(filter);
+		byte[] jsonLines = export(filter, MatchExporter.Format.JSON_LINES, true);
+		remove(league);
+
+		byte[] body = mvc.perform(multipart("/api/import/matches")
+						.file(new MockMultipartFile("file", "matches.jsonl.gz", "application/gzip", jsonLines)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsByteArray();
+		ImportResult result = objectMapper.readValue(body, ImportResult.class);
+
+		assertThat(league.size()).isGreaterThan(MatchImporter.BATCH_SIZE);
+		assertThat(result.imported()).isEqualTo(league.size());
+		assertThat(standingsEngine.standings(null, null, null))
+				.containsExactlyInAnyOrderElementsOf(new StandingsEngine(matchService, aggregator).standings(null, null, null));
+		assertThat(ratings.ranking(null)).isEqualTo(new EloRatings(matchService).ranking(null));
+		assertThat(headToHead.matches("Barcelona", "Real Madrid"))
+				.isEqualTo(new HeadToHeadIndex(matchService).matches("Barcelona", "Real Madrid"))
+				.hasSizeGreaterThan(5);
+	}
+
+	@Test
+	void invalidRowsAreReportedByLineAndTheRestImported() throws Exception {
+		Match existing = matchService.getMatches().get(0);
+		String csv = String.join("\n",
+				"league,season,homeTitle,awayTitle,homeGoals,awayGoals,datetime",
+				"EPL,2031,Brentford,Ipswich,2,1,2031-08-16 15:00:00",
+				"EPL,2031,Brentford,,0,0,",
+				"EPL,2031,Ipswich,Brentford,2,,",
+				"EPL,2031,Luton,Brentford,,,16/08/2031",
+				"EPL,2031,Brentford,Ipswich,1,1,",
+				"EPL,20x1,Luton,Ipswich,,,",
+				String.join(",", existing.league(), String.valueOf(existing.season()), existing.homeTitle(),
+						existing.awayTitle(), "1", "1", ""),
+				"EPL,2031,Luton,Ipswich,,,");
+		long version = matchService.getSnapshot().version();
+
+		ImportResult result = upload(csv.getBytes(StandardCharsets.UTF_8), "", status().isOk());
+
+		assertThat(result.rows()).isEqualTo(8);
+		assertThat(result.imported()).isEqualTo(2);
+		assertThat(result.rejected()).isEqualTo(6);
+		assertThat(result.errors()).extracting(ImportResult.RowError::line).containsExactly(3, 4, 5, 6, 7, 8);
+		assertThat(result.errors()).extracting(ImportResult.RowError::message).containsExactly(
+				"awayTitle is required",
+				"homeGoals, awayGoals must be given together",
+				"datetime must be yyyy-MM-dd HH:mm:ss, got '16/08/2031'",
+				"Brentford v Ipswich in EPL 2031 is already on line 2",
+				"season must be a whole number of at least 0, got '20x1'",
+				existing.homeTitle() + " v " + existing.awayTitle() + " in " + existing.league() + " "
+						+ existing.season() + " is already in the dataset");
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + 1);
+		assertThat(matchService.findMatches(new MatchFilter("2031", null, null, null)))
+				.extracting(Match::homeTitle, Match::result)
+				.containsExactly(tuple("Brentford", true), tuple("Luton", false));
+	}
+
+	@Test
+	void strictImportRejectsTheWholeFile() throws Exception {
+		String json = """
+				[{"home": {"title": "Brentford"}, "away": {"title": "Ipswich"}, "league": "EPL", "season": 2031},
+				 {"home": {"title": "Ipswich"}, "away": {"title": "Brentford"}, "league": "EPL", "season": 2031,
+				  "forecast": {"win": 0.5, "draw": 0.3, "loss": 1.2}}]
+				""";
+		long version = matchService.getSnapshot().version();
+
+		ImportResult result = upload(json.getBytes(StandardCharsets.UTF_8), "?strict=true", status().isUnprocessableEntity());
+
+		assertThat(result.imported()).isZero();
+		assertThat(result.errors()).containsExactly(
+				new ImportResult.RowError(2, "forecastLoss must be between 0 and 1, got '1.2'"));
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version);
+	}
+
+	@Test
+	void concurrentImportsOfTheSameFileAddItOnce() throws Exception {
+		MatchFilter filter = new MatchFilter("2021", null, null, null);
+		List<Match> season = matchService.findMatches(filter);
+		byte[] csv = export(filter, MatchExporter.Format.CSV, false);
+		remove(season);
+		MatchImporter importer = new MatchImporter(matchService, objectMapper);
+
+		List<CompletableFuture<ImportResult>> imports = IntStream.range(0, 4)
+				.mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+					try {
+						return importer.importMatches(new ByteArrayInputStream(csv), false);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}))
+				.toList();
+
+		assertThat(imports).extracting(result -> result.join().imported()).containsOnly(0, season.size())
+				.containsOnlyOnce(season.size());
+		assertThat(matchService.findMatches(filter)).hasSameSizeAs(season);
+	}
+
+	@Test
+	void filesOverTheLimitsAreRejectedWithPayloadTooLarge() throws Exception {
+		MockMvc limited = MockMvcBuilders.standaloneSetup(new MatchImportController(
+				new MatchImporter(matchService, objectMapper, DataSize.ofKilobytes(4), 3))).build();
+		String header = "league,season,homeTitle,awayTitle\n";
+		ByteArrayOutputStream bomb = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(bomb)) {
+			gzip.write(header.getBytes(StandardCharsets.UTF_8));
+			gzip.write(new byte[1024 * 1024]);
+		}
+		long version = matchService.getSnapshot().version();
+
+		assertThat(bomb.size()).isLessThan(4096);
+		limited.perform(post("/api/import/matches").content(bomb.toByteArray()))
+				.andExpect(status().isPayloadTooLarge());
+		limited.perform(post("/api/import/matches").content(header + "x".repeat(5000)))
+				.andExpect(status().isPayloadTooLarge());
+		limited.perform(post("/api/import/matches").content(header
+						+ "EPL,2031,A,B\nEPL,2031,C,D\nEPL,2031,E,F\nEPL,2031,G,H\n"))
+				.andExpect(status().isPayloadTooLarge());
+		limited.perform(post("/api/import/matches").content(header + "EPL,2031,A,B\nEPL,2031,C,D\nEPL,2031,E,F\n"))
+				.andExpect(status().isOk());
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + 1);
+	}
+
+	@Test
+	void unreadableFilesAreRejected() throws Exception {
+		mvc.perform(post("/api/import/matches").content("homeTitle,awayTitle,season\nA,B,2031"))
+				.andExpect(status().isBadRequest());
+		mvc.perform(post("/api/import/matches").content("[{\"league\": \"EPL\"},"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private byte[] export(MatchFilter filter, MatchExporter.Format format, boolean gzip) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exporter.write(matchService.query(filter), MatchSort.by(null, false), format, gzip, out);
+		return out.toByteArray();
+	}
+
+	private void remove(List<Match> matches) {
+		matchService.applyChanges(matches.stream().map(match -> new MatchChange(match, null)).toList());
+	}
+
+	private ImportResult upload(byte[] file, String query, ResultMatcher expectedStatus) throws Exception {
+		byte[] body = mvc.perform(post("/api/import/matches" + query).content(file))
+				.andExpect(expectedStatus)
+				.andReturn().getResponse().getContentAsByteArray();
+		return objectMapper.readValue(body, ImportResult.class);
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.UIFootball.benchmark;
+
+import com.example.UIFootball.repository.H2MatchRepository;
+import com.example.UIFootball.repository.InMemoryMatchRepository;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+
+import java.util.Arrays;
+import java.util.List;
+
+// The same view workload (count + first sorted page for a mix of filters, then a league table)
+// against the in-memory backend and against H2 with SQL pushdown.
+// Run with: java -cp <test classpath> ...benchmark.RepositoryBenchmark [iterations] [h2 url]
+public class RepositoryBenchmark {
+
+    private static final List<MatchFilter> FILTERS = List.of(
+            MatchFilter.NONE,
+            new MatchFilter("2019", null, null, null),
+            new MatchFilter(null, "EPL", null, null),
+            new MatchFilter("2020", "La_liga", null, null),
+            new MatchFilter(null, null, "united", null),
+            new MatchFilter(null, null, null, "123"));
+    private static final MatchSort SORT = MatchSort.by("datetime", true);
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        String url = args.length > 1 ? args[1] : "jdbc:h2:mem:benchmark";
+
+        MatchService matchService = new MatchService();
+        MatchRepository memory = new InMemoryMatchRepository(matchService,
+                new StandingsEngine(matchService, new StandingsAggregator()));
+        long start = System.nanoTime();
+        H2MatchRepository h2 = new H2MatchRepository(matchService, url);
+        System.out.printf("%d matches, H2 load %.1f ms%n", matchService.getMatches().size(), (System.nanoTime() - start) / 1e6);
+
+        for (MatchRepository repository : List.of(memory, h2)) {
+            run(repository, iterations);
+            long[] query = new long[iterations];
+            long[] standings = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                long begin = System.nanoTime();
+                for (MatchFilter filter : FILTERS) {
+                    MatchResults results = repository.query(filter);
+                    results.page(SORT, 0, 50);
+                }
+                query[i] = System.nanoTime() - begin;
+                begin = System.nanoTime();
+                repository.standings("EPL", 2020, null);
+                standings[i] = System.nanoTime() - begin;
+            }
+            System.out.printf("%-6s filter+page median %.3f ms (%d filters), standings median %.3f ms%n",
+                    repository.name(), median(query) / 1e6, FILTERS.size(), median(standings) / 1e6);
+        }
+        h2.close();
+    }
+
+    // Warm-up
+    private static void run(MatchRepository repository, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            for (MatchFilter filter : FILTERS) {
+                repository.query(filter).page(SORT, 0, 50);
+            }
+            repository.standings("EPL", 2020, null);
+        }
+    }
+
+    private static long median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.UIFootball.benchmark;
+
+import com.example.UIFootball.api.MatchExporter;
+import com.example.UIFootball.api.MatchImporter;
+import com.example.UIFootball.repository.CachingMatchRepository;
+import com.example.UIFootball.repository.InMemoryMatchRepository;
+import com.example.UIFootball.repository.MatchRepository;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.QueryExecutor;
+import com.example.UIFootball.service.QueryResultCache;
+import com.example.UIFootball.standings.SeasonSimulator;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasLabel;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.server.VaadinSession;
+import com.example.UIFootball.views.HomeView;
+import com.example.UIFootball.views.LeagueOverviewPage;
+import com.example.UIFootball.views.SeasonSummaryPage;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Headless session load test. Each simulated session is a Vaadin UI that is driven in-process
+// through SeasonSummaryPage, LeagueOverviewPage and HomeView the way the router would: the
+// previous view is dropped, the next one is constructed and attached, filters are set through
+// their components and the first grid page is fetched. The sessions then stay open on HomeView,
+// like idle users on the landing page, and the retained heap is divided by their number.
+// Run with: java -cp <test classpath> ...benchmark.SessionLoadBenchmark [sessions,...] [threads]
+public class SessionLoadBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final String LEAGUE = "EPL";
+    private static final String SEASON = "2020";
+    // Still has fixtures to play, so the summary also shows the simulated finish
+    private static final String CURRENT_SEASON = "2024";
+    private static final String[] STEPS = {"summary", "overview", "home", "home season", "home team"};
+
+    private final MatchService matchService = new MatchService();
+    private final StandingsEngine standingsEngine = new StandingsEngine(matchService, new StandingsAggregator());
+    private final MatchRepository matchRepository = new CachingMatchRepository(
+            new InMemoryMatchRepository(matchService, standingsEngine), matchService, new QueryResultCache(1000, 2_000_000));
+    private final QueryExecutor queryExecutor = new QueryExecutor();
+    private final SeasonSimulator seasonSimulator = new SeasonSimulator(matchService, new StandingsAggregator(), queryExecutor);
+    private final MatchExporter exporter = new MatchExporter(new ObjectMapper());
+    private final MatchImporter importer = new MatchImporter(matchService, new ObjectMapper());
+
+    public static void main(String[] args) throws Exception {
+        int[] sessionCounts = args.length > 0
+                ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray()
+                : new int[] {100, 500, 1000, 2000};
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 4;
+
+        SessionLoadBenchmark benchmark = new SessionLoadBenchmark();
+        // Warm up class loading, the JIT and the shared result cache
+        benchmark.run(200, threads);
+
+        System.out.printf("%8s %12s %9s %9s %9s %11s", "sessions", "KB/session", "p50 ms", "p99 ms", "max ms", "requests/s");
+        for (String step : STEPS) {
+            System.out.printf(" %16s", step + " p95");
+        }
+        System.out.println();
+        for (int sessions : sessionCounts) {
+            Result result = benchmark.run(sessions, threads);
+            long[] all = Arrays.stream(result.latencies()).flatMapToLong(Arrays::stream).sorted().toArray();
+            System.out.printf("%8d %12.1f %9.2f %9.2f %9.2f %11.0f", sessions, result.retainedBytes() / 1024.0 / sessions,
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1e6,
+                    all.length / (result.elapsedNanos() / 1e9));
+            for (int step = 0; step < STEPS.length; step++) {
+                int column = step;
+                long[] latencies = Arrays.stream(result.latencies()).mapToLong(requests -> requests[column]).sorted().toArray();
+                System.out.printf(" %16.2f", percentile(latencies, 0.95));
+            }
+            System.out.println();
+        }
+    }
+
+    private record Result(long retainedBytes, long[][] latencies, long elapsedNanos) {
+    }
+
+    private Result run(int sessions, int threads) throws Exception {
+        long baseline = usedHeap();
+        List<UI> open = new ArrayList<>(sessions);
+        List<Future<long[]>> flows = new ArrayList<>(sessions);
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int i = 0; i < sessions; i++) {
+                UI ui = new UI();
+                ui.getInternals().setSession(new HeadlessSession());
+                open.add(ui);
+                int session = i;
+                flows.add(executor.submit(() -> drive(ui, session)));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long[][] latencies = new long[sessions][];
+        for (int i = 0; i < sessions; i++) {
+            latencies[i] = flows.get(i).get();
+        }
+        long retained = usedHeap() - baseline;
+        if (open.stream().anyMatch(ui -> ui.getChildren().findAny().isEmpty())) {
+            throw new IllegalStateException("a session lost its view");
+        }
+        return new Result(retained, latencies, elapsed);
+    }
+
+    // One user, one request per entry of STEPS, each timed until the first grid page is fetched
+    private long[] drive(UI ui, int session) {
+        long[] latencies = new long[STEPS.length];
+        int request = 0;
+
+        latencies[request++] = time(ui, () -> {
+            SeasonSummaryPage summary = navigate(ui, () -> new SeasonSummaryPage(matchRepository, seasonSimulator, queryExecutor));
+            combo(summary, "Select League").setValue(LEAGUE);
+            combo(summary, "Select Season").setValue(CURRENT_SEASON);
+        });
+
+        latencies[request++] = time(ui, () -> {
+            LeagueOverviewPage overview = navigate(ui, () -> new LeagueOverviewPage(matchRepository, exporter));
+            combo(overview, "Select League").setValue(LEAGUE);
+            firstPage(overview);
+        });
+
+        latencies[request++] = time(ui, () -> firstPage(navigate(ui, () -> new HomeView(matchService, matchRepository, queryExecutor, exporter, importer))));
+        HomeView home = (HomeView) ui.getChildren().findFirst().orElseThrow();
+        latencies[request++] = time(ui, () -> {
+            combo(home, "Season").setValue(SEASON);
+            firstPage(home);
+        });
+        latencies[request++] = time(ui, () -> {
+            descendants(home).filter(TextField.class::isInstance).map(TextField.class::cast)
+                    .filter(field -> "Team".equals(field.getLabel())).findFirst().orElseThrow()
+                    .setValue(session % 2 == 0 ? "united" : "city");
+            firstPage(home);
+        });
+        return latencies;
+    }
+
+    // Just enough of a VaadinSession for the UI state tree: a lock, no servlet or service behind it
+    private static final class HeadlessSession extends VaadinSession {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        HeadlessSession() {
+            super(null);
+        }
+
+        @Override
+        public Lock getLockInstance() { return lock; }
+
+        @Override
+        public boolean hasLock() { return lock.isHeldByCurrentThread(); }
+    }
+
+    private static <T extends Component> T navigate(UI ui, Supplier<T> view) {
+        ui.removeAll();
+        T next = view.get();
+        ui.add(next);
+        return next;
+    }
+
+    // What writing a response does to the UI state: pending callbacks run, and the collected
+    // changes and JavaScript calls are dropped instead of being sent, so they do not pile up
+    private static void respond(UI ui) {
+        ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
+        ui.getInternals().getStateTree().collectChanges(change -> { });
+        ui.getInternals().dumpPendingJavaScriptInvocations();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void firstPage(Component view) {
+        Grid<Object> grid = descendants(view).filter(Grid.class::isInstance).map(component -> (Grid<Object>) component)
+                .findFirst().orElseThrow();
+        grid.getDataCommunicator().getDataProvider().fetch(new Query<>(0, PAGE_SIZE, List.of(), null, null)).count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ComboBox<String> combo(Component view, String label) {
+        return descendants(view).filter(ComboBox.class::isInstance).map(component -> (ComboBox<String>) component)
+                .filter(combo -> label.equals(((HasLabel) combo).getLabel())).findFirst().orElseThrow();
+    }
+
+    private static Stream<Component> descendants(Component component) {
+        return Stream.concat(Stream.of(component), component.getChildren().flatMap(SessionLoadBenchmark::descendants));
+    }
+
+    private static long time(UI ui, Runnable request) {
+        Lock lock = ui.getSession().getLockInstance();
+        long start = System.nanoTime();
+        lock.lock();
+        // Request handling binds the UI to the thread; views read it for pushes and resources
+        UI.setCurrent(ui);
+        try {
+            request.run();
+            respond(ui);
+        } finally {
+            UI.setCurrent(null);
+            lock.unlock();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1e6;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
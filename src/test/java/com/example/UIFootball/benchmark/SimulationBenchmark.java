@@ -0,0 +1,36 @@
+package com.example.UIFootball.benchmark;
+
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.QueryExecutor;
+import com.example.UIFootball.standings.SeasonProjection;
+import com.example.UIFootball.standings.SeasonSimulator;
+import com.example.UIFootball.standings.StandingsAggregator;
+
+import java.util.concurrent.ForkJoinPool;
+
+// Simulations per second for the remaining fixtures of one league season.
+// Run with: java -cp <test classpath> ...benchmark.SimulationBenchmark [league] [season] [runs] [iterations]
+public class SimulationBenchmark {
+
+    public static void main(String[] args) {
+        String league = args.length > 0 ? args[0] : "La_Liga";
+        int season = args.length > 1 ? Integer.parseInt(args[1]) : 2024;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        MatchService matchService = new MatchService();
+        SeasonSimulator simulator = new SeasonSimulator(matchService, new StandingsAggregator(), new QueryExecutor());
+        System.out.printf("%s %d, %d threads%n", league, season, ForkJoinPool.commonPool().getParallelism());
+
+        double best = 0;
+        for (int i = 0; i < iterations; i++) {
+            SeasonProjection projection = simulator.simulate(league, season, runs, i);
+            best = Math.max(best, projection.simulationsPerSecond());
+            if (i == 0) {
+                System.out.printf("%d fixtures, %d teams%n", projection.fixtures(), projection.teams().size());
+            }
+        }
+        System.out.printf("best %,.0f simulations/s (%,.0f fixture draws/s)%n", best,
+                best * simulator.remainingFixtures(league, season).size());
+    }
+}
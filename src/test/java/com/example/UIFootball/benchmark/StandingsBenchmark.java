@@ -0,0 +1,55 @@
+package com.example.UIFootball.benchmark;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.standings.StandingsAggregator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// Sequential versus fork-join standings over all matches, replicated into extra seasons so the
+// partition count grows with the scale factor.
+// Run with: java -cp <test classpath> ...benchmark.StandingsBenchmark [scale] [iterations]
+public class StandingsBenchmark {
+
+    public static void main(String[] args) {
+        int scale = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        List<Match> base = new MatchService().getMatches();
+        List<Match> matches = new ArrayList<>(base.size() * scale);
+        for (int copy = 0; copy < scale; copy++) {
+            for (Match match : base) {
+                matches.add(new Match(match.id() + copy * 1_000_000, match.result(), match.home(), match.away(),
+                        match.goals(), match.xG(), match.datetime(), match.forecast(), match.league(),
+                        match.season() + copy * 10));
+            }
+        }
+        StandingsAggregator aggregator = new StandingsAggregator();
+        System.out.printf("%d matches, %d threads%n", matches.size(), ForkJoinPool.commonPool().getParallelism());
+
+        long[] sequential = new long[iterations];
+        long[] parallel = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            aggregator.aggregateSequential(matches, match -> true);
+            sequential[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            aggregator.aggregate(matches, match -> true);
+            parallel[i] = System.nanoTime() - start;
+        }
+        double sequentialMedian = median(sequential) / 1e6;
+        double parallelMedian = median(parallel) / 1e6;
+        System.out.printf("sequential median %.2f ms, fork-join median %.2f ms, speedup %.2fx%n",
+                sequentialMedian, parallelMedian, sequentialMedian / parallelMedian);
+    }
+
+    private static long median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
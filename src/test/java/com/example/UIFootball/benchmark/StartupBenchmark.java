@@ -0,0 +1,64 @@
+package com.example.UIFootball.benchmark;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MappedMatchColumns;
+import com.example.UIFootball.service.MatchJsonLoader;
+import com.example.UIFootball.service.MatchSnapshotFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+// Compares the two ways MatchService can come up: parsing all_matches.json versus opening the
+// memory-mapped binary snapshot. Run with: java -cp <test classpath> ...benchmark.StartupBenchmark [iterations]
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        byte[] json;
+        try (InputStream inputStream = StartupBenchmark.class.getClassLoader().getResourceAsStream("all_matches.json")) {
+            json = inputStream.readAllBytes();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        Path file = Files.createTempFile("all_matches", ".bin");
+        file.toFile().deleteOnExit();
+
+        List<Match> matches = new MatchJsonLoader().load(new ByteArrayInputStream(json)).matches();
+        MatchSnapshotFile.write(file, matches, crc.getValue(), json.length);
+        System.out.printf("JSON %d KB, binary snapshot %d KB, %d matches%n",
+                json.length / 1024, Files.size(file) / 1024, matches.size());
+
+        long[] jsonLoad = new long[iterations];
+        long[] mapOpen = new long[iterations];
+        long[] mapMaterialize = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            new MatchJsonLoader().load(new ByteArrayInputStream(json));
+            jsonLoad[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            MappedMatchColumns columns = MatchSnapshotFile.open(file, crc.getValue(), json.length);
+            mapOpen[i] = System.nanoTime() - start;
+            columns.toMatches();
+            mapMaterialize[i] = System.nanoTime() - start;
+        }
+
+        report("JSON load", jsonLoad);
+        report("mmap open", mapOpen);
+        report("mmap open + records", mapMaterialize);
+    }
+
+    private static void report(String name, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-22s first %8.2f ms   median %8.2f ms   min %8.2f ms%n", name,
+                nanos[0] / 1e6, sorted[sorted.length / 2] / 1e6, sorted[0] / 1e6);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Runs every JMH benchmark (this package and service.NestedFieldParseBenchmark) with the GC
+// profiler, so each result comes with its allocation rate, and writes the results as JSON.
+// Run with: java -cp <test classpath> ...benchmark.jmh.BenchmarkSuite [include regex] [scales]
+// e.g. BenchmarkSuite Filter 1,10 ; results go to target/jmh-result.json. Forks of the scaled
+// benchmarks run with -Xmx4g, as the 100x dataset is about 900,000 matches.
+public class BenchmarkSuite {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.example\\.UIFootball\\..*Benchmark";
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json");
+        if (args.length > 1) {
+            options.param("scale", args[1].split(","));
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// The HomeView filter path for typical filter combinations: the bitmap index rows, the first
+// grid page in kick-off order, and the plain predicate scan the index replaced, for reference.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FilterBenchmark {
+
+    @Param({"1", "10", "100"})
+    int scale;
+
+    @Param({"league", "league+season", "team", "season+team", "matchId"})
+    String filter;
+
+    private MatchService matchService;
+    private MatchFilter matchFilter;
+
+    @Setup
+    public void setUp() {
+        matchService = ScaledDataset.service(scale);
+        matchFilter = switch (filter) {
+            case "league" -> MatchFilter.ofLeague("EPL");
+            case "league+season" -> new MatchFilter("2020", "EPL", null, null);
+            case "team" -> new MatchFilter(null, null, "united", null);
+            case "season+team" -> new MatchFilter("2021", null, "ars", null);
+            case "matchId" -> new MatchFilter(null, null, null, "140");
+            default -> throw new IllegalArgumentException(filter);
+        };
+        matchService.getSnapshot().filterIndex();
+    }
+
+    @Benchmark
+    public BitSet indexRows() {
+        return matchService.getSnapshot().filterIndex().rows(matchFilter);
+    }
+
+    @Benchmark
+    public List<Match> firstPage() {
+        return matchService.query(matchFilter).page(MatchSort.by("datetime", false), 0, 50);
+    }
+
+    @Benchmark
+    public long predicateScan() {
+        String league = matchFilter.league() == null ? null : matchFilter.league().toLowerCase(Locale.ROOT);
+        String team = matchFilter.team() == null ? null : matchFilter.team().toLowerCase(Locale.ROOT);
+        return matchService.getMatches().stream()
+                .filter(match -> matchFilter.season() == null || String.valueOf(match.season()).equals(matchFilter.season()))
+                .filter(match -> league == null || (match.league() != null && match.league().toLowerCase(Locale.ROOT).equals(league)))
+                .filter(match -> team == null || match.homeTitle().toLowerCase(Locale.ROOT).contains(team)
+                        || match.awayTitle().toLowerCase(Locale.ROOT).contains(team))
+                .filter(match -> matchFilter.matchId() == null || String.valueOf(match.id()).contains(matchFilter.matchId()))
+                .count();
+    }
+}
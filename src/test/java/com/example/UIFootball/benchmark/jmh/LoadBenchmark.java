@@ -0,0 +1,53 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import com.example.UIFootball.service.MatchJsonLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Parsing all_matches.json and its scaled copies. Cold runs are the first call in a fresh JVM
+// (single shot, no warmup, several forks); warm runs are steady state after JIT warmup.
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoadBenchmark {
+
+    @Param({"1", "10", "100"})
+    int scale;
+
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        json = ScaledDataset.json(scale);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(value = 5, jvmArgsAppend = "-Xmx4g")
+    public MatchJsonLoader.Result loadCold() throws IOException {
+        return new MatchJsonLoader().load(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public MatchJsonLoader.Result loadWarm() throws IOException {
+        return new MatchJsonLoader().load(new ByteArrayInputStream(json));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchChange;
+import com.example.UIFootball.service.MatchService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// all_matches.json replicated scale times. Copy n shifts ids by n * 1,000,000 and seasons by
+// n * 10, so copies never collide and each adds its own league seasons, as a larger archive would.
+final class ScaledDataset {
+
+    private ScaledDataset() {
+    }
+
+    static byte[] originalJson() {
+        try (InputStream inputStream = ScaledDataset.class.getClassLoader().getResourceAsStream("all_matches.json")) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // The JSON file as MatchJsonLoader reads it, with nested fields left as Python dict text.
+    // Entries are streamed out copy by copy; only the output bytes are held.
+    static byte[] json(int scale) {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            ArrayNode original = (ArrayNode) mapper.readTree(originalJson());
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(originalJson().length * scale);
+            try (JsonGenerator json = mapper.getFactory().createGenerator(bytes)) {
+                json.writeStartArray();
+                for (int copy = 0; copy < scale; copy++) {
+                    for (JsonNode node : original) {
+                        ObjectNode entry = ((ObjectNode) node).deepCopy();
+                        entry.put("id", node.get("id").asInt() + copy * 1_000_000);
+                        entry.put("season", node.get("season").asInt() + copy * 10);
+                        mapper.writeTree(json, entry);
+                    }
+                }
+                json.writeEndArray();
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A MatchService holding the scaled dataset; the copies are added as one batch
+    static MatchService service(int scale) {
+        MatchService matchService = new MatchService();
+        List<MatchChange> copies = new ArrayList<>();
+        for (int copy = 1; copy < scale; copy++) {
+            for (Match match : matchService.getMatches()) {
+                copies.add(new MatchChange(null, new Match(match.id() + copy * 1_000_000, match.result(), match.home(),
+                        match.away(), match.goals(), match.xG(), match.datetime(), match.forecast(), match.league(),
+                        match.season() + copy * 10)));
+            }
+        }
+        matchService.applyChanges(copies);
+        return matchService;
+    }
+}
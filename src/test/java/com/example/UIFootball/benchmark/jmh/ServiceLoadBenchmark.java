@@ -0,0 +1,36 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import com.example.UIFootball.service.MatchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// The whole MatchService startup from the bundled all_matches.json (no binary snapshot, no
+// journal), cold in a fresh JVM and warm after JIT warmup. Scaled loads are in LoadBenchmark.
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceLoadBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public MatchService cold() {
+        return new MatchService();
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public MatchService warm() {
+        return new MatchService();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.UIFootball.benchmark.jmh;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.example.UIFootball.standings.TeamStanding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The SeasonSummaryPage paths: a maintained league-season table, a team's combined all-time row,
+// the full standings recompute they replace, and the filter choices (unique seasons and leagues)
+// next to the distinct scan that used to compute them on every call.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SummaryBenchmark {
+
+    @Param({"1", "10", "100"})
+    int scale;
+
+    private MatchService matchService;
+    private StandingsEngine standingsEngine;
+    private StandingsAggregator aggregator;
+
+    @Setup
+    public void setUp() {
+        matchService = ScaledDataset.service(scale);
+        aggregator = new StandingsAggregator();
+        standingsEngine = new StandingsEngine(matchService, aggregator);
+    }
+
+    @Benchmark
+    public List<TeamStanding> leagueSeasonTable() {
+        return standingsEngine.table("EPL", 2020);
+    }
+
+    @Benchmark
+    public List<TeamStanding> combinedTeamRow() {
+        return standingsEngine.combined(null, null, "Arsenal");
+    }
+
+    @Benchmark
+    public List<TeamStanding> fullRecompute() {
+        return aggregator.aggregate(matchService.getMatches(), match -> match.goals() != null);
+    }
+
+    @Benchmark
+    public List<String> uniqueSeasons() {
+        return matchService.getUniqueSeasons();
+    }
+
+    @Benchmark
+    public List<String> uniqueLeagues() {
+        return matchService.getUniqueLeagues();
+    }
+
+    @Benchmark
+    public List<String> uniqueSeasonsScan() {
+        return matchService.getMatches().stream()
+                .map(Match::season)
+                .distinct()
+                .sorted()
+                .map(String::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.UIFootball.metrics;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.service.MatchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchMetricsTests {
+
+	@Test
+	void mutationsAreCountedByOperationAndTheDatasetGaugesFollow() {
+		MatchService matchService = new MatchService();
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new MatchMetrics(matchService, registry);
+		int loaded = matchService.getMatches().size();
+		long version = matchService.getSnapshot().version();
+
+		Match first = matchService.getMatches().get(0);
+		matchService.updateMatch(first);
+		matchService.deleteMatch(first.id());
+
+		assertThat(registry.get("match.mutations").tag("operation", "update").counter().count()).isEqualTo(1);
+		assertThat(registry.get("match.mutations").tag("operation", "delete").counter().count()).isEqualTo(1);
+		assertThat(registry.get("match.mutations").tag("operation", "add").counter().count()).isZero();
+		assertThat(registry.get("match.dataset.size").gauge().value()).isEqualTo(loaded - 1);
+		assertThat(registry.get("match.dataset.version").gauge().value()).isEqualTo(version + 2);
+		assertThat(registry.get("match.load.matches").gauge().value()).isEqualTo(loaded);
+		assertThat(registry.get("match.load.duration").timeGauge().value()).isPositive();
+	}
+}
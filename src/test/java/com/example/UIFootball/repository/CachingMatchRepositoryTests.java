@@ -0,0 +1,76 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.CacheStats;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.service.QueryResultCache;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.example.UIFootball.standings.TeamStanding;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingMatchRepositoryTests {
+
+	private final MatchService matchService = new MatchService();
+	private final InMemoryMatchRepository backend =
+			new InMemoryMatchRepository(matchService, new StandingsEngine(matchService, new StandingsAggregator()));
+
+	@Test
+	void equivalentFiltersShareOneEntryUntilTheDataChanges() {
+		CachingMatchRepository repository = new CachingMatchRepository(backend, matchService, new QueryResultCache(100, 1_000_000));
+
+		MatchResults first = repository.query(new MatchFilter("2020", "EPL", "", null));
+		MatchResults second = repository.query(new MatchFilter("2020", "epl", null, ""));
+		List<TeamStanding> table = repository.standings("EPL", 2020, null);
+		assertThat(second).isSameAs(first);
+		assertThat(repository.standings("EPL", 2020, null)).isSameAs(table);
+		assertThat(repository.stats()).extracting(CacheStats::hits, CacheStats::misses, CacheStats::entries)
+				.containsExactly(2L, 2L, 2);
+
+		matchService.deleteMatch(first.page(MatchSort.NATURAL, 0, 1).get(0).id());
+		MatchResults afterDelete = repository.query(new MatchFilter("2020", "EPL", null, null));
+		assertThat(afterDelete).isNotSameAs(first);
+		assertThat(afterDelete.size()).isEqualTo(first.size() - 1);
+		assertThat(repository.standings("EPL", 2020, null)).isNotSameAs(table);
+		assertThat(repository.stats().invalidations()).isEqualTo(2);
+	}
+
+	@Test
+	void leastRecentlyUsedEntriesAreEvictedByCountAndWeight() {
+		int eplRows = backend.query(MatchFilter.ofLeague("EPL")).size();
+		CachingMatchRepository repository = new CachingMatchRepository(backend, matchService, new QueryResultCache(2, eplRows + 100));
+
+		MatchResults epl = repository.query(MatchFilter.ofLeague("EPL"));
+		repository.query(new MatchFilter("2020", null, null, null));
+		assertThat(repository.stats().evictions()).isEqualTo(1);
+
+		// Back within both bounds after evicting EPL, the least recently used entry
+		assertThat(repository.query(MatchFilter.ofLeague("EPL"))).isNotSameAs(epl);
+		assertThat(repository.query(MatchFilter.NONE).size()).isEqualTo(matchService.getMatches().size());
+		CacheStats stats = repository.stats();
+		assertThat(stats.weight()).isLessThanOrEqualTo(eplRows + 100);
+		assertThat(stats.entries()).isLessThanOrEqualTo(2);
+		assertThat(stats.hits()).isZero();
+	}
+
+	@Test
+	void resultsLoadedAcrossAnInvalidationAreNotCached() {
+		QueryResultCache cache = new QueryResultCache(100, 1_000_000);
+
+		String stale = cache.get(1, "key", () -> {
+			cache.invalidateAll();
+			return "before the change";
+		}, value -> 1);
+		assertThat(stale).isEqualTo("before the change");
+		assertThat(cache.stats().entries()).isZero();
+
+		assertThat(cache.get(1, "key", () -> "after the change", value -> 1)).isEqualTo("after the change");
+		assertThat(cache.get(1, "key", () -> "reloaded", value -> 1)).isEqualTo("after the change");
+	}
+}
@@ -0,0 +1,102 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.MatchSort;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class H2MatchRepositoryTests {
+
+	private final MatchService matchService = new MatchService();
+	private final InMemoryMatchRepository memory = new InMemoryMatchRepository(matchService,
+			new StandingsEngine(matchService, new StandingsAggregator()));
+	private final H2MatchRepository h2 = new H2MatchRepository(matchService, "jdbc:h2:mem:h2-repository-tests");
+
+	@AfterEach
+	void close() {
+		h2.close();
+	}
+
+	@Test
+	void pushedDownQueriesMatchTheInMemoryBackend() {
+		List<MatchFilter> filters = List.of(
+				MatchFilter.NONE,
+				new MatchFilter("2019", "epl", null, null),
+				new MatchFilter(null, null, "man", null),
+				new MatchFilter(null, "La_liga", "ma", "14"),
+				new MatchFilter("20x9", null, null, null));
+		List<MatchSort> sorts = List.of(MatchSort.NATURAL, MatchSort.by("datetime", true), MatchSort.by("home", false));
+		for (MatchFilter filter : filters) {
+			MatchResults expected = memory.query(filter);
+			MatchResults actual = h2.query(filter);
+			assertThat(actual.size()).isEqualTo(expected.size());
+			for (MatchSort sort : sorts) {
+				assertThat(actual.page(sort, 5, 50)).isEqualTo(expected.page(sort, 5, 50));
+			}
+		}
+		assertThat(h2.seasons()).isEqualTo(memory.seasons());
+		assertThat(h2.leagues()).isEqualTo(memory.leagues());
+		assertThat(h2.teams()).isEqualTo(memory.teams());
+		assertThat(h2.standings("EPL", 2020, null)).isEqualTo(memory.standings("EPL", 2020, null));
+		assertThat(h2.standings(null, null, "Arsenal")).isEqualTo(memory.standings(null, null, "Arsenal"));
+		assertThat(h2.combinedStandings(null, null, null)).isEqualTo(memory.combinedStandings(null, null, null));
+	}
+
+	@Test
+	void followsEditsMadeThroughTheService() {
+		Match first = matchService.getMatches().get(0);
+		matchService.updateMatch(first.withTeamsAndScore(first.home(), first.away(), new Score(9, 9)));
+		matchService.deleteMatch(matchService.getMatches().get(1).id());
+		Match added = matchService.addMatch(first);
+
+		MatchFilter filter = new MatchFilter(String.valueOf(first.season()), first.league(), null, null);
+		assertThat(h2.query(filter).page(MatchSort.NATURAL, 0, 10_000))
+				.isEqualTo(memory.query(filter).page(MatchSort.NATURAL, 0, 10_000))
+				.contains(added);
+		assertThat(h2.query(MatchFilter.NONE).version()).isEqualTo(matchService.getSnapshot().version());
+		assertThat(h2.standings(first.league(), first.season(), null))
+				.isEqualTo(memory.standings(first.league(), first.season(), null));
+	}
+
+	@Test
+	void forEachWalksTheWholeResultInOneQuery() {
+		MatchFilter filter = new MatchFilter(null, "EPL", null, null);
+		MatchSort sort = MatchSort.by("datetime", true);
+		List<Match> walked = new ArrayList<>();
+
+		h2.query(filter).forEach(sort, walked::add);
+
+		MatchResults expected = memory.query(filter);
+		assertThat(walked).isEqualTo(expected.page(sort, 0, expected.size()));
+	}
+
+	@Test
+	void tableThatDriftedFromTheSnapshotIsReloaded() throws SQLException {
+		Match first = matchService.getMatches().get(0);
+		try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:h2-repository-tests", "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.executeUpdate("DELETE FROM matches WHERE id = " + first.id());
+		}
+
+		matchService.updateMatch(first.withTeamsAndScore(first.home(), first.away(), new Score(9, 9)));
+
+		assertThat(h2.version()).isEqualTo(matchService.getSnapshot().version());
+		assertThat(h2.query(MatchFilter.NONE).page(MatchSort.NATURAL, 0, 10_000))
+				.isEqualTo(memory.query(MatchFilter.NONE).page(MatchSort.NATURAL, 0, 10_000));
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.UIFootball.repository;
+
+import com.example.UIFootball.service.MatchFilter;
+import com.example.UIFootball.service.MatchResults;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.QueryResultCache;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.example.UIFootball.standings.TeamStanding;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredMatchRepositoryTests {
+
+	private final MatchService matchService = new MatchService();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final MeteredMatchRepository repository = new MeteredMatchRepository(
+			new CachingMatchRepository(
+					new InMemoryMatchRepository(matchService, new StandingsEngine(matchService, new StandingsAggregator())),
+					matchService, new QueryResultCache(100, 1_000_000)),
+			registry);
+
+	@Test
+	void queriesAreTimedAndTheirRowsCounted() {
+		MatchResults results = repository.query(new MatchFilter("2020", "EPL", null, null));
+		repository.query(new MatchFilter("2020", "EPL", null, null));
+		List<TeamStanding> table = repository.standings("EPL", 2020, null);
+		repository.combinedStandings("EPL", null, null);
+
+		assertThat(registry.get("match.query.filter").timer().count()).isEqualTo(2);
+		assertThat(registry.get("match.query.standings").tag("kind", "tables").timer().count()).isEqualTo(1);
+		assertThat(registry.get("match.query.standings").tag("kind", "combined").timer().count()).isEqualTo(1);
+		assertThat(registry.get("match.query.rows").tag("kind", "matches").summary().totalAmount())
+				.isEqualTo(2.0 * results.size());
+		assertThat(registry.get("match.query.rows").tag("kind", "standings").summary().max())
+				.isGreaterThanOrEqualTo(table.size());
+		assertThat(registry.get("match.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+		assertThat(registry.get("match.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.standings.StandingsAggregator;
+import com.example.UIFootball.standings.StandingsEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchDataWatcherTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void appliesOnlyTheDiffOfAChangedFile() throws IOException {
+		MatchService matchService = new MatchService();
+		StandingsEngine engine = new StandingsEngine(matchService, new StandingsAggregator());
+		Path file = tempDir.resolve("all_matches.json");
+		MatchDataWatcher watcher = new MatchDataWatcher(matchService, file.toString(), Duration.ofMillis(100));
+
+		ObjectMapper mapper = new ObjectMapper();
+		ArrayNode matches;
+		try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(MatchService.DATA_RESOURCE)) {
+			matches = (ArrayNode) mapper.readTree(inputStream);
+		}
+		mapper.writeValue(file.toFile(), matches);
+		long version = matchService.getSnapshot().version();
+		assertThat(watcher.reload().isEmpty()).isTrue();
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version);
+
+		int removedId = matches.get(1).get("id").asInt();
+		((ObjectNode) matches.get(0)).put("goals", "{'h': '5', 'a': '0'}");
+		matches.remove(1);
+		ObjectNode added = matches.get(2).deepCopy();
+		added.put("id", 999_999);
+		matches.add(added);
+		mapper.writeValue(file.toFile(), matches);
+
+		MatchDiff diff = watcher.reload();
+		assertThat(diff.added()).isEqualTo(1);
+		assertThat(diff.changed()).isEqualTo(1);
+		assertThat(diff.removed()).isEqualTo(1);
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + 1);
+
+		Match first = matchService.getMatches().get(0);
+		assertThat(first.goals()).isEqualTo(new Score(5, 0));
+		assertThat(matchService.getMatches()).extracting(Match::id).doesNotContain(removedId).contains(999_999);
+		assertThat(engine.combined(null, null, null))
+				.isEqualTo(new StandingsAggregator().aggregateSequential(matchService.getMatches(), match -> match.league() != null));
+		assertThat(watcher.reload()).isNull();
+	}
+
+	@Test
+	void editsAndAdditionsMadeInTheAppSurviveAReload() throws IOException {
+		MatchService matchService = new MatchService();
+		Path file = tempDir.resolve("all_matches.json");
+		MatchDataWatcher watcher = new MatchDataWatcher(matchService, file.toString(), Duration.ofMillis(100));
+		ObjectMapper mapper = new ObjectMapper();
+		ArrayNode matches;
+		try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(MatchService.DATA_RESOURCE)) {
+			matches = (ArrayNode) mapper.readTree(inputStream);
+		}
+
+		Match edited = matchService.getMatches().get(0);
+		matchService.updateMatch(edited.withTeamsAndScore(edited.home(), edited.away(), new Score(9, 9)));
+		Match userAdded = matchService.addMatch(edited.withTeamsAndScore(edited.away(), edited.home(), null));
+		// The scraped file edits the same match and has a new match under the id the app just used
+		((ObjectNode) matches.get(0)).put("goals", "{'h': '5', 'a': '0'}");
+		ObjectNode scraped = matches.get(2).deepCopy();
+		scraped.put("id", userAdded.id());
+		matches.add(scraped);
+		mapper.writeValue(file.toFile(), matches);
+
+		MatchDiff diff = watcher.reload();
+
+		assertThat(diff.added()).isEqualTo(1);
+		assertThat(diff.changed()).isEqualTo(1);
+		assertThat(matchService.getMatches()).hasSize(8984);
+		assertThat(matchService.getMatches().get(0).goals()).isEqualTo(new Score(9, 9));
+		assertThat(matchService.getMatches()).contains(userAdded);
+		assertThat(matchService.getMatches().get(8983).id()).isEqualTo(userAdded.id() + 1);
+
+		// Removing the scraped match again removes it under the id it was given
+		matches.remove(matches.size() - 1);
+		Files.writeString(file, mapper.writeValueAsString(matches) + " ");
+		assertThat(watcher.reload().removed()).isEqualTo(1);
+		assertThat(matchService.getMatches()).hasSize(8983).contains(userAdded);
+	}
+
+	@Test
+	void restartsWithAJournalDoNotAddFileMatchesAgain() throws IOException {
+		Path journalDir = tempDir.resolve("journal");
+		Path file = tempDir.resolve("all_matches.json");
+		ObjectMapper mapper = new ObjectMapper();
+		ArrayNode matches;
+		try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(MatchService.DATA_RESOURCE)) {
+			matches = (ArrayNode) mapper.readTree(inputStream);
+		}
+
+		MatchService first = new MatchService(null, journalDir.toString());
+		Match userAdded = first.addMatch(first.getMatches().get(0));
+		ObjectNode scraped = matches.get(2).deepCopy();
+		scraped.put("id", userAdded.id());
+		matches.add(scraped);
+		ObjectNode extra = matches.get(3).deepCopy();
+		extra.put("id", 999_999);
+		matches.add(extra);
+		mapper.writeValue(file.toFile(), matches);
+		assertThat(new MatchDataWatcher(first, file.toString(), Duration.ofMillis(100)).reload().added()).isEqualTo(2);
+		assertThat(first.getMatches()).hasSize(8985);
+		first.close();
+
+		for (int restart = 0; restart < 3; restart++) {
+			MatchService restarted = new MatchService(null, journalDir.toString());
+			assertThat(new MatchDataWatcher(restarted, file.toString(), Duration.ofMillis(100)).reload().isEmpty()).isTrue();
+			assertThat(restarted.getMatches()).hasSize(8985).isEqualTo(first.getMatches());
+			restarted.close();
+		}
+
+		// The file match stored under another id is still removed under that id
+		MatchService last = new MatchService(null, journalDir.toString());
+		matches.remove(matches.size() - 2);
+		mapper.writeValue(file.toFile(), matches);
+		assertThat(new MatchDataWatcher(last, file.toString(), Duration.ofMillis(100)).reload().removed()).isEqualTo(1);
+		assertThat(last.getMatches()).hasSize(8984).contains(userAdded).extracting(Match::id).doesNotContain(userAdded.id() + 1);
+		last.close();
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchFilterIndexTests {
+
+	private final List<Match> matches = new MatchService().getMatches();
+	private final MatchFilterIndex index = new MatchFilterIndex(matches);
+
+	@Test
+	void agreesWithFullScan() {
+		List<MatchFilter> filters = List.of(
+				new MatchFilter("2021", null, null, null),
+				new MatchFilter(null, "epl", null, null),
+				new MatchFilter("2022", "La_Liga", "real", null),
+				new MatchFilter(null, null, "ar", null),
+				new MatchFilter(null, null, "Manchester", "14"),
+				new MatchFilter(null, null, "xyz", null),
+				new MatchFilter("1999", null, null, null),
+				new MatchFilter(null, null, null, "2689"));
+
+		for (MatchFilter filter : filters) {
+			assertThat(index.filter(filter)).as(filter.toString()).isEqualTo(scan(filter));
+		}
+	}
+
+	@Test
+	void pagesAreWindowsOfTheSortedScan() {
+		MatchFilter filter = new MatchFilter(null, "EPL", "united", null);
+		List<Match> sorted = scan(filter).stream()
+				.sorted(Comparator.comparing(Match::datetime).thenComparingInt(Match::id).reversed())
+				.collect(Collectors.toList());
+
+		assertThat(index.count(filter)).isEqualTo(sorted.size());
+		assertThat(index.page(filter, MatchSort.by("datetime", true), 10, 25))
+				.extracting(Match::datetime)
+				.isEqualTo(sorted.subList(10, 35).stream().map(Match::datetime).collect(Collectors.toList()));
+		assertThat(index.page(filter, MatchSort.NATURAL, 0, 50)).isEqualTo(scan(filter).subList(0, 50));
+		assertThat(index.page(filter, MatchSort.NATURAL, sorted.size(), 50)).isEmpty();
+	}
+
+	private List<Match> scan(MatchFilter filter) {
+		String team = filter.team() == null ? "" : filter.team().toLowerCase();
+		return matches.stream()
+				.filter(match -> filter.season() == null || String.valueOf(match.season()).equals(filter.season()))
+				.filter(match -> filter.league() == null || filter.league().equalsIgnoreCase(match.league()))
+				.filter(match -> team.isEmpty() || match.homeTitle().toLowerCase().contains(team)
+						|| match.awayTitle().toLowerCase().contains(team))
+				.filter(match -> filter.matchId() == null || String.valueOf(match.id()).contains(filter.matchId()))
+				.collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchJournalTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void replaysEditsAfterRestartAndCompaction() throws IOException {
+		MatchService first = new MatchService(null, tempDir.toString());
+		Match original = first.getMatches().get(0);
+		Match edited = original.withTeamsAndScore(original.home(), original.away(), new Score(7, 0));
+		assertThat(first.updateMatch(edited)).isTrue();
+		assertThat(first.deleteMatch(first.getMatches().get(1).id())).isTrue();
+		Match added = first.addMatch(original);
+		first.close();
+
+		MatchService second = new MatchService(null, tempDir.toString());
+		assertThat(second.getMatches()).isEqualTo(first.getMatches());
+		assertThat(second.getJournal().entryCount()).isEqualTo(3);
+
+		assertThat(second.compactJournal()).isTrue();
+		assertThat(second.getJournal().sizeInBytes()).isZero();
+		assertThat(second.compactJournal()).isFalse();
+		assertThat(second.deleteMatch(added.id())).isTrue();
+		second.close();
+
+		MatchService third = new MatchService(null, tempDir.toString());
+		assertThat(third.getLoadStats().source()).isEqualTo("baseline");
+		assertThat(third.getMatches()).isEqualTo(second.getMatches());
+		assertThat(third.getMatches().get(0).goals()).isEqualTo(new Score(7, 0));
+		third.close();
+	}
+
+	@Test
+	void concurrentEditsShareOneFsync() throws Exception {
+		MatchService matchService = new MatchService(null, tempDir.toString());
+		MatchJournal journal = matchService.getJournal();
+		List<Match> matches = matchService.getMatches().subList(0, 16);
+		long version = matchService.getSnapshot().version();
+		long syncs = journal.syncCount();
+
+		List<CompletableFuture<Boolean>> edits;
+		// Holding the journal's monitor stalls its writer thread before the first write
+		try (ExecutorService executor = Executors.newFixedThreadPool(matches.size())) {
+			synchronized (journal) {
+				edits = matches.stream()
+						.map(match -> CompletableFuture.supplyAsync(() -> matchService.updateMatch(
+								match.withTeamsAndScore(match.home(), match.away(), new Score(7, 7))), executor))
+						.toList();
+				while (journal.unwrittenCount() < matches.size()) {
+					Thread.onSpinWait();
+				}
+				assertThat(matchService.getSnapshot().version()).isEqualTo(version);
+			}
+		}
+
+		assertThat(edits).extracting(CompletableFuture::join).containsOnly(true);
+		assertThat(journal.syncCount() - syncs).isLessThan(matches.size()).isLessThanOrEqualTo(2);
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + matches.size());
+		assertThat(matchService.getMatches().subList(0, 16)).extracting(Match::goals).containsOnly(new Score(7, 7));
+		matchService.close();
+		Match first = matches.get(0);
+		assertThatThrownBy(() -> matchService.updateMatch(first)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> matchService.deleteMatch(first.id())).isInstanceOf(IllegalStateException.class);
+		assertThat(matchService.getSnapshot().version()).isEqualTo(version + matches.size());
+
+		MatchService restarted = new MatchService(null, tempDir.toString());
+		assertThat(restarted.getMatches()).isEqualTo(matchService.getMatches());
+		restarted.close();
+	}
+
+	@Test
+	void truncatesTornTail() throws IOException {
+		Match match = new MatchService().getMatches().get(0);
+		Path file = tempDir.resolve(MatchService.JOURNAL_FILE);
+		try (MatchJournal journal = new MatchJournal(file)) {
+			journal.append(new MatchChange(null, match)).join();
+			journal.append(new MatchChange(match, null)).join();
+		}
+		long intact;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			intact = channel.size();
+			channel.truncate(intact - 3);
+		}
+
+		try (MatchJournal journal = new MatchJournal(file)) {
+			assertThat(journal.recover()).containsExactly(new MatchJournal.Entry(MatchJournal.Operation.ADD, match.id(), match));
+			assertThat(journal.sizeInBytes()).isLessThan(intact - 3);
+		}
+	}
+
+	@Test
+	void appendsAfterCloseFailInsteadOfWaiting() throws IOException {
+		List<Match> matches = new MatchService().getMatches().subList(0, 3);
+		MatchJournal journal = new MatchJournal(tempDir.resolve(MatchService.JOURNAL_FILE));
+		CompletableFuture<Void> batch = journal.append(matches.stream().map(match -> new MatchChange(null, match)).toList());
+		journal.close();
+
+		assertThat(batch).isCompleted().isNotCompletedExceptionally();
+		assertThat(journal.entryCount()).isEqualTo(3);
+		assertThat(journal.append(new MatchChange(matches.get(0), null))).isCompletedExceptionally();
+		assertThat(journal.flush()).isCompletedExceptionally();
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchJsonLoaderTests {
+
+	private static final String JSON = """
+			[
+			  {"id": 1, "isResult": true,
+			   "h": "{'id': '228', 'title': 'Fulham', 'short_title': 'FLH'}",
+			   "a": "{'id': '99', 'title': \\"Nott'm Forest\\", 'short_title': 'NFO'}",
+			   "goals": "{'h': '0', 'a': '3'}", "xG": "{'h': '0.126327', 'a': '2.16287'}",
+			   "datetime": "2020-09-12 11:30:00", "forecast": "{'w': '0.0037', 'd': '0.0476', 'l': '0.9487'}",
+			   "league": "EPL", "season": 2020},
+			  {"id": 2, "isResult": false,
+			   "h": "{'id': '83', 'title': 'Arsenal', 'short_title': 'ARS'}",
+			   "a": "{'id': '228', 'title': 'Fulham', 'short_title': 'FLH'}",
+			   "goals": "{'h': None, 'a': None}", "xG": "{'h': None, 'a': None}",
+			   "datetime": "2025-04-01 19:45:00", "forecast": null, "league": "EPL", "season": 2024, "extra": [1, 2]},
+			  {"id": 3, "isResult": true, "h": "{'title': 'A'}", "a": "{'title': 'B'}", "goals": "{'h': '1', 'a': '1'}",
+			   "league": "EPL", "season": 2024}
+			]
+			""";
+
+	@Test
+	void decodesNestedBlobsAcrossChunks() throws IOException {
+		MatchJsonLoader.Result result = new MatchJsonLoader(2, 2)
+				.load(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(result.matches()).extracting(Match::id).containsExactly(1, 2, 3);
+		Match played = result.matches().get(0);
+		assertThat(played.away().title()).isEqualTo("Nott'm Forest");
+		assertThat(played.goals()).isEqualTo(new Score(0, 3));
+		assertThat(played.xG().away()).isEqualTo(2.16287);
+		assertThat(played.forecast().loss()).isEqualTo(0.9487);
+		assertThat(played.datetime()).isEqualTo(LocalDateTime.of(2020, 9, 12, 11, 30));
+
+		Match fixture = result.matches().get(1);
+		assertThat(fixture.result()).isFalse();
+		assertThat(fixture.goals()).isNull();
+		assertThat(fixture.forecast()).isNull();
+
+		assertThat(result.stats().matches()).isEqualTo(3);
+		assertThat(result.stats().chunks()).isEqualTo(2);
+	}
+
+}
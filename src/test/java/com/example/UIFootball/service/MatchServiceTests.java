@@ -0,0 +1,106 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.NameDictionary;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchServiceTests {
+
+	private final MatchService matchService = new MatchService();
+
+	@Test
+	void loadsTypedMatches() {
+		MatchSnapshot snapshot = matchService.getSnapshot();
+		assertThat(snapshot.matches()).hasSize(8982);
+		Match first = snapshot.matches().get(0);
+		assertThat(first.homeTitle()).isEqualTo("Fulham");
+		assertThat(first.goals()).isEqualTo(new Score(0, 3));
+		assertThat(snapshot.leagues()).contains("EPL", "La_Liga");
+	}
+
+	@Test
+	void mutationsPublishNewSnapshotsAndLeaveOldOnesIntact() {
+		MatchSnapshot before = matchService.getSnapshot();
+		Match added = matchService.addMatch(new Match(0, true, TeamRef.ofTitle("Home"), TeamRef.ofTitle("Away"),
+				new Score(2, 1), null, null, null, "EPL", 2024));
+
+		MatchSnapshot afterAdd = matchService.getSnapshot();
+		assertThat(added.id()).isEqualTo(before.maxId() + 1);
+		assertThat(afterAdd.version()).isEqualTo(before.version() + 1);
+		assertThat(afterAdd.matches()).hasSize(before.matches().size() + 1);
+		assertThat(before.matches()).doesNotContain(added);
+
+		assertThat(matchService.updateMatch(added.withTeamsAndScore(added.home(), added.away(), new Score(0, 0)))).isTrue();
+		assertThat(matchService.deleteMatch(added.id())).isTrue();
+		assertThat(matchService.deleteMatch(added.id())).isFalse();
+		assertThat(matchService.getSnapshot().version()).isEqualTo(before.version() + 3);
+	}
+
+	@Test
+	void addMatchesPublishesOneSnapshotAndOneBatchOfChanges() {
+		List<List<MatchChange>> batches = new ArrayList<>();
+		matchService.addChangeListener(new MatchChangeListener() {
+			@Override
+			public void onReset(MatchSnapshot snapshot) {
+			}
+
+			@Override
+			public void onChange(MatchSnapshot snapshot, MatchChange change) {
+				batches.add(List.of(change));
+			}
+
+			@Override
+			public void onChanges(MatchSnapshot snapshot, List<MatchChange> changes) {
+				batches.add(changes);
+			}
+		});
+		MatchSnapshot before = matchService.getSnapshot();
+		List<Match> added = matchService.addMatches(List.of(
+				new Match(0, true, TeamRef.ofTitle("Home"), TeamRef.ofTitle("Away"), new Score(2, 1), null, null, null, "EPL", 2030),
+				new Match(0, false, TeamRef.ofTitle("Away"), TeamRef.ofTitle("Home"), null, null, null, null, "EPL", 2030)));
+
+		assertThat(added).extracting(Match::id).containsExactly(before.maxId() + 1, before.maxId() + 2);
+		assertThat(matchService.getSnapshot().version()).isEqualTo(before.version() + 1);
+		assertThat(matchService.getMatches()).hasSize(before.matches().size() + 2).containsAll(added);
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).extracting(MatchChange::after).containsExactlyElementsOf(added);
+		assertThat(matchService.addMatches(List.of())).isEmpty();
+		assertThat(matchService.getSnapshot().version()).isEqualTo(before.version() + 1);
+	}
+
+	@Test
+	void teamsAndLeaguesAreSharedDictionaryEntries() {
+		Match first = matchService.getMatches().stream().filter(match -> match.involves("Arsenal")).findFirst().orElseThrow();
+		Match last = matchService.getMatches().stream().filter(match -> match.involves("Arsenal")).reduce((a, b) -> b).orElseThrow();
+		TeamRef arsenal = first.homeTitle().equals("Arsenal") ? first.home() : first.away();
+		assertThat(last.homeTitle().equals("Arsenal") ? last.home() : last.away()).isSameAs(arsenal);
+		assertThat(last.league()).isSameAs(first.league());
+
+		int code = NameDictionary.TEAMS.find("Arsenal");
+		assertThat(NameDictionary.TEAMS.name(code)).isSameAs(arsenal.title());
+		assertThat(NameDictionary.TEAMS.code("Arsenal")).isEqualTo(code);
+		assertThat(NameDictionary.TEAMS.find("No Such Team")).isEqualTo(NameDictionary.NONE);
+	}
+
+	@Test
+	void onlyPublishedNamesAreAddedToTheDictionaries() {
+		Match draft = new Match(0, false, TeamRef.ofTitle("Unpublished Rovers"), TeamRef.ofTitle("Arsenal"), null, null,
+				null, null, "Unpublished League", 2031);
+		assertThat(NameDictionary.TEAMS.find("Unpublished Rovers")).isEqualTo(NameDictionary.NONE);
+		assertThat(NameDictionary.LEAGUES.find("Unpublished League")).isEqualTo(NameDictionary.NONE);
+
+		Match added = matchService.addMatch(draft);
+		int code = NameDictionary.TEAMS.find("Unpublished Rovers");
+		assertThat(code).isNotEqualTo(NameDictionary.NONE);
+		assertThat(added.homeTitle()).isSameAs(NameDictionary.TEAMS.name(code));
+		assertThat(added.league()).isSameAs(NameDictionary.LEAGUES.name(NameDictionary.LEAGUES.find("Unpublished League")));
+	}
+
+}
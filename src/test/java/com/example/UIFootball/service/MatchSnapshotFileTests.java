@@ -0,0 +1,61 @@
+package com.example.UIFootball.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchSnapshotFileTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void roundTripsMatchesAndRejectsStaleSource() throws IOException {
+		MatchService matchService = new MatchService();
+		Path file = tempDir.resolve("all_matches.bin");
+		MatchSnapshotFile.write(file, matchService.getMatches(), 42L, 1000L);
+
+		MappedMatchColumns columns = MatchSnapshotFile.open(file, 42L, 1000L);
+		assertThat(columns).isNotNull();
+		assertThat(columns.toMatches()).isEqualTo(matchService.getMatches());
+
+		assertThat(MatchSnapshotFile.open(file, 43L, 1000L)).isNull();
+		assertThat(MatchSnapshotFile.open(tempDir.resolve("missing.bin"), 42L, 1000L)).isNull();
+	}
+
+	@Test
+	void damagedFileIsReportedInsteadOfMapped() throws IOException {
+		MatchService matchService = new MatchService();
+		Path file = tempDir.resolve("all_matches.bin");
+		MatchSnapshotFile.write(file, matchService.getMatches(), 42L, 1000L);
+		byte[] bytes = Files.readAllBytes(file);
+		bytes[bytes.length / 2] ^= 1;
+		Files.write(file, bytes);
+
+		assertThatThrownBy(() -> MatchSnapshotFile.open(file, 42L, 1000L)).isInstanceOf(IOException.class);
+
+		Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+		assertThatThrownBy(() -> MatchSnapshotFile.open(file, 42L, 1000L)).isInstanceOf(IOException.class);
+		assertThat(tempDir).isDirectoryNotContaining("glob:**.tmp");
+	}
+
+	@Test
+	void serviceRebuildsSnapshotAndReopensIt() {
+		Path file = tempDir.resolve("cache/all_matches.bin");
+		MatchService fromJson = new MatchService(file.toString());
+		assertThat(fromJson.getLoadStats().source()).isEqualTo("json");
+		assertThat(file).exists();
+
+		MatchService fromSnapshot = new MatchService(file.toString());
+		assertThat(fromSnapshot.getLoadStats().source()).isEqualTo("snapshot");
+		assertThat(fromSnapshot.getMatches()).isEqualTo(fromJson.getMatches());
+	}
+
+}
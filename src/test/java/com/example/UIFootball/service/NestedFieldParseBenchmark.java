@@ -0,0 +1,62 @@
+package com.example.UIFootball.service;
+
+import com.example.UIFootball.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Decoding the nested Python dict fields of one entry, per call: a team, a score, a forecast,
+// and a whole entry through MatchParser. Lives next to the package-private parser classes;
+// run it through benchmark.jmh.BenchmarkSuite.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedFieldParseBenchmark {
+
+    private static final String TEAM = "{'id': '228', 'title': 'Fulham', 'short_title': 'FLH'}";
+    private static final String GOALS = "{'h': '0', 'a': '3'}";
+    private static final String FORECAST = "{'w': '0.0037', 'd': '0.0476', 'l': '0.9487'}";
+    private static final MatchParser.RawMatch RAW = new MatchParser.RawMatch(14086, true, TEAM,
+            "{'id': '83', 'title': 'Arsenal', 'short_title': 'ARS'}", GOALS, "{'h': '0.126327', 'a': '2.16287'}",
+            "2020-09-12 11:30:00", FORECAST, "EPL", 2020);
+
+    private final PythonDictReader reader = new PythonDictReader();
+    private final MatchParser parser = new MatchParser();
+
+    @Benchmark
+    public void team(Blackhole blackhole) {
+        reader.read(TEAM);
+        blackhole.consume(reader.get("title"));
+        blackhole.consume(reader.get("short_title"));
+    }
+
+    @Benchmark
+    public Integer goals() {
+        reader.read(GOALS);
+        return MatchParser.toInt(reader.get("h")) + MatchParser.toInt(reader.get("a"));
+    }
+
+    @Benchmark
+    public Double forecast() {
+        reader.read(FORECAST);
+        return MatchParser.toDouble(reader.get("w")) + MatchParser.toDouble(reader.get("d"))
+                + MatchParser.toDouble(reader.get("l"));
+    }
+
+    @Benchmark
+    public Match entry() {
+        return parser.parse(RAW);
+    }
+}
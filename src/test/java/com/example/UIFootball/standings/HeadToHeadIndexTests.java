@@ -0,0 +1,45 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HeadToHeadIndexTests {
+
+	private final MatchService matchService = new MatchService();
+	private final HeadToHeadIndex index = new HeadToHeadIndex(matchService);
+
+	@Test
+	void agreesWithFullScanFromBothSides() {
+		List<Match> scanned = matchService.getMatches().stream()
+				.filter(match -> match.involves("Arsenal") && match.involves("Chelsea"))
+				.sorted(Match.KICK_OFF)
+				.toList();
+		HeadToHead arsenal = index.headToHead("Arsenal", "Chelsea");
+		HeadToHead chelsea = index.headToHead("Chelsea", "Arsenal");
+
+		assertThat(arsenal.matches()).isNotEmpty().isEqualTo(scanned).isEqualTo(chelsea.matches());
+		assertThat(arsenal.record().wins()).isEqualTo(chelsea.record().losses());
+		assertThat(arsenal.record().draws()).isEqualTo(chelsea.record().draws());
+		assertThat(arsenal.record().goalsFor()).isEqualTo(chelsea.record().goalsAgainst());
+		assertThat(arsenal.xgFor()).isEqualTo(chelsea.xgAgainst());
+		assertThat(index.matches("Arsenal", "No Such Team")).isEmpty();
+	}
+
+	@Test
+	void followsEdits() {
+		HeadToHead before = index.headToHead("Arsenal", "Chelsea");
+		Match meeting = before.matches().get(0);
+		Match added = matchService.addMatch(meeting.withTeamsAndScore(meeting.home(), meeting.away(), new Score(4, 4)));
+		assertThat(index.headToHead("Arsenal", "Chelsea").record().draws()).isEqualTo(before.record().draws() + 1);
+
+		matchService.deleteMatch(added.id());
+		matchService.deleteMatch(meeting.id());
+		assertThat(index.matches("Arsenal", "Chelsea")).hasSize(before.matches().size() - 1).doesNotContain(meeting);
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.service.MatchService;
+import com.example.UIFootball.service.QueryExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+class SeasonSimulatorTests {
+
+	private final MatchService matchService = new MatchService();
+	private final StandingsEngine engine = new StandingsEngine(matchService, new StandingsAggregator());
+	private final SeasonSimulator simulator = new SeasonSimulator(matchService, new StandingsAggregator(), new QueryExecutor());
+
+	@Test
+	void sameSeedGivesSameProjection() {
+		SeasonProjection first = simulator.simulate("EPL", 2024, 20_000, 7);
+		SeasonProjection second = simulator.simulate("EPL", 2024, 20_000, 7);
+
+		assertThat(first.fixtures()).isEqualTo(simulator.remainingFixtures("EPL", 2024).size()).isPositive();
+		assertThat(second.teams()).isEqualTo(first.teams());
+		assertThat(simulator.simulate("EPL", 2024, 20_000, 8).teams()).isNotEqualTo(first.teams());
+	}
+
+	@Test
+	void probabilitiesAddUpOverTheTable() {
+		SeasonProjection projection = simulator.simulate("La_Liga", 2024, 10_000, 1);
+		List<TeamProjection> teams = projection.teams();
+
+		assertThat(teams).extracting(TeamProjection::team, TeamProjection::points)
+				.containsExactlyElementsOf(engine.table("La_Liga", 2024).stream()
+						.map(row -> tuple(row.team(), row.points())).toList());
+		assertThat(teams.stream().mapToDouble(TeamProjection::title).sum()).isCloseTo(1, within(1e-9));
+		assertThat(teams.stream().mapToDouble(TeamProjection::topFour).sum()).isCloseTo(SeasonSimulator.TOP_PLACES, within(1e-9));
+		assertThat(teams.stream().mapToDouble(TeamProjection::relegation).sum())
+				.isCloseTo(SeasonSimulator.RELEGATION_PLACES, within(1e-9));
+		// Every remaining fixture hands out two or three points
+		double pointsAdded = teams.stream().mapToDouble(team -> team.expectedPoints() - team.points()).sum();
+		assertThat(pointsAdded).isBetween(2.0 * projection.fixtures(), 3.0 * projection.fixtures());
+		assertThat(projection.simulationsPerSecond()).isPositive();
+	}
+
+	@Test
+	void defaultProjectionIsSharedUntilTheDataChanges() {
+		CompletableFuture<SeasonProjection> first = simulator.simulate("Serie_A", 2024);
+
+		assertThat(simulator.simulate("Serie_A", 2024)).isSameAs(first);
+		Match fixture = simulator.remainingFixtures("Serie_A", 2024).get(0);
+		matchService.updateMatch(fixture.withTeamsAndScore(fixture.home(), fixture.away(), new Score(1, 0)));
+		CompletableFuture<SeasonProjection> next = simulator.simulate("Serie_A", 2024);
+		assertThat(next).isNotSameAs(first);
+		assertThat(next.join().fixtures()).isEqualTo(first.join().fixtures() - 1);
+	}
+
+	@Test
+	void finishedSeasonIsDecidedByTheTable() {
+		SeasonProjection projection = simulator.simulate("EPL", 2020, 1_000, 1);
+		List<TeamStanding> table = engine.table("EPL", 2020);
+
+		assertThat(projection.fixtures()).isZero();
+		assertThat(projection.teams().get(0).team()).isEqualTo(table.get(0).team());
+		assertThat(projection.teams().get(0).title()).isEqualTo(1.0);
+		assertThat(projection.teams().get(table.size() - 1).relegation()).isEqualTo(1.0);
+		assertThat(projection.teams().get(4).topFour()).isZero();
+	}
+}
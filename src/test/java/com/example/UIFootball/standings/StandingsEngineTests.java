@@ -0,0 +1,59 @@
+package com.example.UIFootball.standings;
+
+import com.example.UIFootball.model.Match;
+import com.example.UIFootball.model.Score;
+import com.example.UIFootball.model.TeamRef;
+import com.example.UIFootball.service.MatchService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StandingsEngineTests {
+
+	private final MatchService matchService = new MatchService();
+	private final StandingsEngine engine = new StandingsEngine(matchService, new StandingsAggregator());
+
+	@Test
+	void buildsFullSeasonTables() {
+		List<TeamStanding> table = engine.table("EPL", 2020);
+		assertThat(table).hasSize(20);
+		assertThat(table).allSatisfy(row -> assertThat(row.played()).isEqualTo(38));
+		assertThat(table.get(0).team()).isEqualTo("Manchester City");
+		assertThat(table.stream().mapToInt(TeamStanding::goalDifference).sum()).isZero();
+	}
+
+	@Test
+	void combinedTablesAgreeWithForkJoinAggregation() {
+		List<TeamStanding> allTime = engine.combined("EPL", null, null);
+		List<TeamStanding> aggregated = new StandingsAggregator()
+				.aggregate(matchService.getMatches(), match -> "EPL".equals(match.league()));
+		assertThat(allTime).isEqualTo(aggregated);
+		assertThat(allTime).filteredOn(row -> row.team().equals("Arsenal")).singleElement()
+				.satisfies(row -> {
+					assertThat(row.season()).isNull();
+					assertThat(row.league()).isEqualTo("EPL");
+				});
+		assertThat(new StandingsAggregator().aggregateSequential(matchService.getMatches(), match -> true))
+				.isEqualTo(engine.combined(null, null, null));
+	}
+
+	@Test
+	void incrementalUpdatesMatchAFullRebuild() {
+		Match first = matchService.getMatches().get(0);
+		matchService.updateMatch(first.withTeamsAndScore(first.home(), first.away(), new Score(5, 0)));
+		matchService.deleteMatch(matchService.getMatches().get(1).id());
+		Match added = matchService.addMatch(new Match(0, true, TeamRef.ofTitle("Arsenal"), TeamRef.ofTitle("New Team"),
+				new Score(1, 1), null, null, null, "EPL", 2020));
+
+		StandingsEngine rebuilt = new StandingsEngine(matchService, new StandingsAggregator());
+		assertThat(engine.standings(null, null, null)).isEqualTo(rebuilt.standings(null, null, null));
+		assertThat(engine.standings("EPL", 2020, "New Team")).singleElement()
+				.satisfies(row -> assertThat(row.away().draws()).isEqualTo(1));
+
+		matchService.deleteMatch(added.id());
+		assertThat(engine.standings("EPL", 2020, "New Team")).isEmpty();
+	}
+
+}
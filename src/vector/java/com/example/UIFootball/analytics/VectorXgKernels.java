@@ -0,0 +1,70 @@
+package com.example.UIFootball.analytics;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API kernels: one vector accumulator per column over the widest lanes the CPU offers,
+// reduced once at the end, with a scalar tail. Kept out of src/main so the main sources compile
+// without the incubator module: this source root is compiled on its own, against the main
+// classes with --add-modules jdk.incubator.vector, and its class put on the classpath next to
+// them. XgKernels.best() only loads it when both the class and the module are present.
+final class VectorXgKernels implements XgKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() { return "vector-" + SPECIES.length(); }
+
+    @Override
+    public void sums(double[] a, double[] b, double[] c, double[] d, int from, int to, double[] out) {
+        DoubleVector va = DoubleVector.zero(SPECIES);
+        DoubleVector vb = DoubleVector.zero(SPECIES);
+        DoubleVector vc = DoubleVector.zero(SPECIES);
+        DoubleVector vd = DoubleVector.zero(SPECIES);
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            va = va.add(DoubleVector.fromArray(SPECIES, a, i));
+            vb = vb.add(DoubleVector.fromArray(SPECIES, b, i));
+            vc = vc.add(DoubleVector.fromArray(SPECIES, c, i));
+            vd = vd.add(DoubleVector.fromArray(SPECIES, d, i));
+        }
+        double sa = va.reduceLanes(VectorOperators.ADD);
+        double sb = vb.reduceLanes(VectorOperators.ADD);
+        double sc = vc.reduceLanes(VectorOperators.ADD);
+        double sd = vd.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sa += a[i];
+            sb += b[i];
+            sc += c[i];
+            sd += d[i];
+        }
+        out[0] = sa;
+        out[1] = sb;
+        out[2] = sc;
+        out[3] = sd;
+    }
+
+    // The prefix sum is inherently sequential; the window differences over it are vectorized
+    @Override
+    public void rollingMean(double[] values, int from, int to, int window, double[] prefix, double[] out) {
+        int length = to - from;
+        prefix[0] = 0;
+        for (int i = 0; i < length; i++) {
+            prefix[i + 1] = prefix[i] + values[from + i];
+        }
+        int count = length - window + 1;
+        double scale = 1.0 / window;
+        int i = 0;
+        int upper = count > 0 ? SPECIES.loopBound(count) : 0;
+        for (; i < upper; i += SPECIES.length()) {
+            DoubleVector high = DoubleVector.fromArray(SPECIES, prefix, i + window);
+            DoubleVector low = DoubleVector.fromArray(SPECIES, prefix, i);
+            high.sub(low).mul(scale).intoArray(out, i);
+        }
+        for (; i < count; i++) {
+            out[i] = (prefix[i + window] - prefix[i]) * scale;
+        }
+    }
+}